@@ -1,14 +1,20 @@
 
 package concurrent;
 
+import functions.DoubleBiConsumer;
+import functions.EvaluationMetrics;
+import functions.FrozenTabulatedFunction;
 import functions.TabulatedFunction;
 import functions.Point;
 import operations.TabulatedFunctionOperationService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.stream.DoubleStream;
 
 public class SynchronizedTabulatedFunction implements TabulatedFunction {
     private static final Logger logger = LoggerFactory.getLogger(SynchronizedTabulatedFunction.class);
@@ -25,74 +31,102 @@ public class SynchronizedTabulatedFunction implements TabulatedFunction {
 
     @Override
     public synchronized int getCount() {
-        logger.trace("getCount() called by thread: {}", Thread.currentThread().getName());
-        int count = function.getCount();
-        logger.trace("getCount() returned: {}", count);
-        return count;
+        EvaluationMetrics.count(EvaluationMetrics.Event.SYNCHRONIZED_CALL);
+        return function.getCount();
     }
 
     @Override
     public synchronized double getX(int index) {
-        logger.trace("getX({}) called by thread: {}", index, Thread.currentThread().getName());
-        double x = function.getX(index);
-        logger.trace("getX({}) returned: {}", index, x);
-        return x;
+        EvaluationMetrics.count(EvaluationMetrics.Event.SYNCHRONIZED_CALL);
+        return function.getX(index);
     }
 
     @Override
     public synchronized double getY(int index) {
-        logger.trace("getY({}) called by thread: {}", index, Thread.currentThread().getName());
-        double y = function.getY(index);
-        logger.trace("getY({}) returned: {}", index, y);
-        return y;
+        EvaluationMetrics.count(EvaluationMetrics.Event.SYNCHRONIZED_CALL);
+        return function.getY(index);
     }
 
     @Override
     public synchronized void setY(int index, double value) {
-        logger.debug("setY({}, {}) called by thread: {}", index, value, Thread.currentThread().getName());
-        double oldValue = function.getY(index);
+        EvaluationMetrics.count(EvaluationMetrics.Event.SYNCHRONIZED_CALL);
         function.setY(index, value);
-        logger.debug("setY({}): changed Y from {} to {}", index, oldValue, value);
     }
 
     @Override
     public synchronized int indexOfX(double x) {
-        logger.trace("indexOfX({}) called by thread: {}", x, Thread.currentThread().getName());
-        int index = function.indexOfX(x);
-        logger.trace("indexOfX({}) returned: {}", x, index);
-        return index;
+        EvaluationMetrics.count(EvaluationMetrics.Event.SYNCHRONIZED_CALL);
+        return function.indexOfX(x);
     }
 
     @Override
     public synchronized int indexOfY(double y) {
-        logger.trace("indexOfY({}) called by thread: {}", y, Thread.currentThread().getName());
-        int index = function.indexOfY(y);
-        logger.trace("indexOfY({}) returned: {}", y, index);
-        return index;
+        EvaluationMetrics.count(EvaluationMetrics.Event.SYNCHRONIZED_CALL);
+        return function.indexOfY(y);
     }
 
     @Override
     public synchronized double leftBound() {
-        logger.trace("leftBound() called by thread: {}", Thread.currentThread().getName());
-        double left = function.leftBound();
-        logger.trace("leftBound() returned: {}", left);
-        return left;
+        EvaluationMetrics.count(EvaluationMetrics.Event.SYNCHRONIZED_CALL);
+        return function.leftBound();
     }
 
     @Override
     public synchronized double rightBound() {
-        logger.trace("rightBound() called by thread: {}", Thread.currentThread().getName());
-        double right = function.rightBound();
-        logger.trace("rightBound() returned: {}", right);
-        return right;
+        EvaluationMetrics.count(EvaluationMetrics.Event.SYNCHRONIZED_CALL);
+        return function.rightBound();
     }
 
     @Override
-    public synchronized Iterator<Point> iterator() {
-        logger.debug("iterator() called by thread: {}", Thread.currentThread().getName());
+    public synchronized void forEachPoint(DoubleBiConsumer action) {
+        function.forEachPoint(action);
+    }
+
+    @Override
+    public synchronized void copyX(double[] dst) {
+        function.copyX(dst);
+    }
+
+    @Override
+    public synchronized void copyY(double[] dst) {
+        function.copyY(dst);
+    }
+
+    @Override
+    public synchronized void setYs(double[] src) {
+        EvaluationMetrics.count(EvaluationMetrics.Event.SYNCHRONIZED_CALL);
+        function.setYs(src);
+    }
+
+    @Override
+    public synchronized FrozenTabulatedFunction freeze() {
+        EvaluationMetrics.count(EvaluationMetrics.Event.SYNCHRONIZED_CALL);
+        return function.freeze();
+    }
 
+    // Обход снимка, снятого под блокировкой
+    @Override
+    public Spliterator<Point> spliterator() {
+        return freeze().spliterator();
+    }
+
+    @Override
+    public synchronized DoubleStream xs() {
+        double[] xValues = new double[function.getCount()];
+        function.copyX(xValues);
+        return Arrays.stream(xValues);
+    }
+
+    @Override
+    public synchronized DoubleStream ys() {
+        double[] yValues = new double[function.getCount()];
+        function.copyY(yValues);
+        return Arrays.stream(yValues);
+    }
+
+    @Override
+    public synchronized Iterator<Point> iterator() {
         Point[] pointsCopy = TabulatedFunctionOperationService.asPoints(function);
-        logger.trace("Created iterator with {} points", pointsCopy.length);
 
         return new Iterator<Point>() {
             private int currentIndex = 0;
@@ -100,9 +134,7 @@ public class SynchronizedTabulatedFunction implements TabulatedFunction {
 
             @Override
             public boolean hasNext() {
-                boolean hasNext = currentIndex < points.length;
-                logger.trace("Iterator.hasNext() returned: {} (currentIndex: {})", hasNext, currentIndex);
-                return hasNext;
+                return currentIndex < points.length;
             }
 
             @Override
@@ -111,10 +143,7 @@ public class SynchronizedTabulatedFunction implements TabulatedFunction {
                     logger.warn("Iterator.next() called but no more elements available");
                     throw new NoSuchElementException("No more elements in iterator");
                 }
-                Point point = points[currentIndex++];
-                logger.trace("Iterator.next() returned: Point(x={}, y={}) at index {}",
-                        point.x, point.y, currentIndex - 1);
-                return point;
+                return points[currentIndex++];
             }
 
             @Override
@@ -127,10 +156,14 @@ public class SynchronizedTabulatedFunction implements TabulatedFunction {
 
     @Override
     public synchronized double apply(double x) {
-        logger.debug("apply({}) called by thread: {}", x, Thread.currentThread().getName());
-        double result = function.apply(x);
-        logger.debug("apply({}) returned: {}", x, result);
-        return result;
+        EvaluationMetrics.count(EvaluationMetrics.Event.SYNCHRONIZED_CALL);
+        return function.apply(x);
+    }
+
+    @Override
+    public synchronized void apply(double[] xs, double[] out, int from, int to) {
+        EvaluationMetrics.count(EvaluationMetrics.Event.SYNCHRONIZED_CALL);
+        function.apply(xs, out, from, to);
     }
 
     public interface Operation<T> {
@@ -138,25 +171,18 @@ public class SynchronizedTabulatedFunction implements TabulatedFunction {
     }
 
     public <T> T doSynchronously(Operation<? extends T> operation) {
-        logger.debug("doSynchronously() called by thread: {}", Thread.currentThread().getName());
+        EvaluationMetrics.count(EvaluationMetrics.Event.SYNCHRONIZED_CALL);
         synchronized (lock) {
-            logger.trace("Acquired lock in doSynchronously() by thread: {}", Thread.currentThread().getName());
             try {
-                T result = operation.apply(this);
-                logger.debug("doSynchronously() completed successfully, result: {}", result);
-                return result;
+                return operation.apply(this);
             } catch (Exception e) {
                 logger.error("Error in doSynchronously() operation", e);
                 throw e;
-            } finally {
-                logger.trace("Releasing lock in doSynchronously() by thread: {}", Thread.currentThread().getName());
             }
         }
     }
 
     public synchronized String toString() {
-        String description = function.toString();
-        logger.trace("toString() called, returning: {}", description);
-        return description;
+        return function.toString();
     }
 }
\ No newline at end of file
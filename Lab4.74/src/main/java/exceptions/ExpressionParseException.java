@@ -0,0 +1,8 @@
+package exceptions;
+
+public class ExpressionParseException extends RuntimeException {
+    public ExpressionParseException() { super(); }
+    public ExpressionParseException(String message) {
+        super(message);
+    }
+}
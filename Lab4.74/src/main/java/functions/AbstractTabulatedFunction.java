@@ -44,22 +44,13 @@ public abstract class AbstractTabulatedFunction implements TabulatedFunction {
     protected abstract double interpolate(double x, int floorIndex);
 
     protected double interpolate(double x, double leftX, double rightX, double leftY, double rightY) {
-        logger.trace("Performing linear interpolation: x={}, interval=[{}, {}], values=[{}, {}]",
-                x, leftX, rightX, leftY, rightY);
-
         if (Math.abs(rightX - leftX) < 1e-10) {
-            logger.debug("Zero interval detected in interpolation, returning leftY: {}", leftY);
             return leftY;
         }
-
-        double result = leftY + (rightY - leftY) * (x - leftX) / (rightX - leftX);
-        logger.trace("Interpolation result: {}", result);
-        return result;
+        return leftY + (rightY - leftY) * (x - leftX) / (rightX - leftX);
     }
 
     protected double applyInterpolated(double x, int floorIndex) {
-        logger.debug("Applying interpolation for x={} at floorIndex={}", x, floorIndex);
-
         if (x < getX(floorIndex) || (floorIndex < getCount() - 1 && x > getX(floorIndex + 1))) {
             logger.error("x={} is outside interpolation range at floorIndex={}. Range: [{}, {}]",
                     x, floorIndex, getX(floorIndex),
@@ -67,63 +58,103 @@ public abstract class AbstractTabulatedFunction implements TabulatedFunction {
             throw new InterpolationException("x вышел за предел interpolation");
         }
 
-        double result;
         if (floorIndex == 0) {
-            logger.debug("Using left extrapolation for x={}", x);
-            result = extrapolateLeft(x);
+            EvaluationMetrics.count(EvaluationMetrics.Event.EXTRAPOLATE);
+            return extrapolateLeft(x);
         } else if (floorIndex == getCount() - 1) {
-            logger.debug("Using right extrapolation for x={}", x);
-            result = extrapolateRight(x);
+            EvaluationMetrics.count(EvaluationMetrics.Event.EXTRAPOLATE);
+            return extrapolateRight(x);
         } else if (getX(floorIndex + 1) != getX(floorIndex)) {
-            logger.debug("Using interpolation for x={} at floorIndex={}", x, floorIndex);
-            result = interpolate(x, floorIndex);
+            EvaluationMetrics.count(EvaluationMetrics.Event.INTERPOLATE);
+            return interpolate(x, floorIndex);
         } else {
-            logger.debug("Zero interval, returning y at floorIndex {}: {}", floorIndex, getY(floorIndex));
-            result = getY(floorIndex);
+            return getY(floorIndex);
         }
-
-        logger.debug("Interpolated result for x={}: {}", x, result);
-        return result;
     }
 
     @Override
     public int getCount() {
-        logger.trace("Getting count: {}", count);
         return count;
     }
 
     @Override
     public double apply(double x) {
-        logger.debug("Applying function for x={}", x);
+        long start = EvaluationMetrics.start(EvaluationMetrics.Event.APPLY);
+        double result = evaluate(x);
+        EvaluationMetrics.stop(EvaluationMetrics.Event.APPLY, start);
+        return result;
+    }
 
+    private double evaluate(double x) {
         if (x < leftBound()) {
-            logger.debug("x={} is less than left bound {}, using left extrapolation", x, leftBound());
-            double result = extrapolateLeft(x);
-            logger.debug("Left extrapolation result for x={}: {}", x, result);
-            return result;
+            EvaluationMetrics.count(EvaluationMetrics.Event.EXTRAPOLATE);
+            return extrapolateLeft(x);
         }
-
         if (x > rightBound()) {
-            logger.debug("x={} is greater than right bound {}, using right extrapolation", x, rightBound());
-            double result = extrapolateRight(x);
-            logger.debug("Right extrapolation result for x={}: {}", x, result);
-            return result;
+            EvaluationMetrics.count(EvaluationMetrics.Event.EXTRAPOLATE);
+            return extrapolateRight(x);
         }
 
         int index = indexOfX(x);
         if (index != -1) {
-            double result = getY(index);
-            logger.debug("Exact match found at index {} for x={}, returning y={}", index, x, result);
-            return result;
+            return getY(index);
         }
+        return applyInterpolated(x, floorIndexOfX(x));
+    }
 
-        logger.debug("No exact match for x={}, finding floor index", x);
-        int floorIndex = floorIndexOfX(x);
-        logger.debug("Found floor index {} for x={}", floorIndex, x);
+    @Override
+    public void apply(double[] xs, double[] out, int from, int to) {
+        MathFunction.checkRange(xs, out, from, to);
+        long start = EvaluationMetrics.start(EvaluationMetrics.Event.BULK_APPLY);
+        if (getCount() < 2 || !isSorted(xs, from, to)) {
+            for (int i = from; i < to; i++) {
+                out[i] = apply(xs[i]);
+            }
+            EvaluationMetrics.stop(EvaluationMetrics.Event.BULK_APPLY, start);
+            return;
+        }
 
-        double result = applyInterpolated(x, floorIndex);
-        logger.debug("Final result for x={}: {}", x, result);
-        return result;
+        double left = leftBound();
+        double right = rightBound();
+        int lastIndex = getCount() - 1;
+        int floorIndex = 0;
+        double nextX = getX(1);
+        for (int i = from; i < to; i++) {
+            double x = xs[i];
+            if (x < left) {
+                out[i] = extrapolateLeft(x);
+            } else if (x > right) {
+                out[i] = extrapolateRight(x);
+            } else {
+                while (floorIndex < lastIndex && nextX <= x) {
+                    floorIndex++;
+                    nextX = floorIndex < lastIndex ? getX(floorIndex + 1) : Double.POSITIVE_INFINITY;
+                }
+                int exactIndex = exactIndexNear(x, floorIndex);
+                out[i] = exactIndex != -1 ? getY(exactIndex) : applyInterpolated(x, floorIndex);
+            }
+        }
+        EvaluationMetrics.stop(EvaluationMetrics.Event.BULK_APPLY, start);
+    }
+
+    // Совпадение по x для узлов floorIndex и floorIndex + 1 с той же точностью, что и indexOfX
+    private int exactIndexNear(double x, int floorIndex) {
+        if (Math.abs(getX(floorIndex) - x) < 1e-10) {
+            return floorIndex;
+        }
+        if (floorIndex + 1 < getCount() && Math.abs(getX(floorIndex + 1) - x) < 1e-10) {
+            return floorIndex + 1;
+        }
+        return -1;
+    }
+
+    protected static boolean isSorted(double[] xs, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            if (!(xs[i] >= xs[i - 1])) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
@@ -142,19 +173,14 @@ public abstract class AbstractTabulatedFunction implements TabulatedFunction {
 
         logger.debug("Building string for {} with {} points", className, currentCount);
 
-        int pointCount = 0;
-        for (Point point : this) {
-            sb.append("[")
-                    .append(point.x)
-                    .append("; ")
-                    .append(point.y)
-                    .append("]\n");
-            pointCount++;
-            logger.trace("Added point {} to string: [{}, {}]", pointCount, point.x, point.y);
-        }
+        forEachPoint((x, y) -> sb.append("[")
+                .append(x)
+                .append("; ")
+                .append(y)
+                .append("]\n"));
 
         String result = sb.toString();
-        logger.trace("String representation generated with {} points", pointCount);
+        logger.trace("String representation generated with {} points", currentCount);
         return result;
     }
 }
\ No newline at end of file
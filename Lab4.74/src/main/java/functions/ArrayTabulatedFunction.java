@@ -9,6 +9,8 @@ import java.io.Serializable;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.stream.DoubleStream;
 
 public class ArrayTabulatedFunction extends AbstractTabulatedFunction implements Insertable, Removable, Serializable {
 
@@ -23,6 +25,11 @@ public class ArrayTabulatedFunction extends AbstractTabulatedFunction implements
     private static final int INITIAL_CAPACITY = 10;
     private int capacity;
 
+    // Кэш наклонов отрезков: slopes[i] = (y[i+1] - y[i]) / (x[i+1] - x[i]). Массив не сериализуется
+    // и строится заново при первом apply, поддерживается при setY, insert и remove
+    private boolean slopeCacheEnabled;
+    private transient double[] slopes;
+
     public ArrayTabulatedFunction(double[] xValues, double[] yValues) {
         logger.debug("Creating ArrayTabulatedFunction from arrays: xValues.length={}, yValues.length={}",
                 xValues.length, yValues.length);
@@ -81,7 +88,6 @@ public class ArrayTabulatedFunction extends AbstractTabulatedFunction implements
             for (int i = 0; i < count; i++) {
                 xValues[i] = xFrom + i * step;
                 yValues[i] = source.apply(xValues[i]);
-                logger.trace("Point {}: x={}, y={}", i, xValues[i], yValues[i]);
             }
         }
 
@@ -97,6 +103,7 @@ public class ArrayTabulatedFunction extends AbstractTabulatedFunction implements
             logger.debug("Point with x={} already exists at index {}. Updating y from {} to {}",
                     x, existingIndex, yValues[existingIndex], y);
             yValues[existingIndex] = y;
+            updateSlopesAround(existingIndex);
             return;
         }
 
@@ -112,25 +119,71 @@ public class ArrayTabulatedFunction extends AbstractTabulatedFunction implements
             logger.trace("Shifting array elements from index {}", insertIndex);
             System.arraycopy(xValues, insertIndex, xValues, insertIndex + 1, count - insertIndex);
             System.arraycopy(yValues, insertIndex, yValues, insertIndex + 1, count - insertIndex);
+            if (slopes != null) {
+                System.arraycopy(slopes, insertIndex, slopes, insertIndex + 1, count - insertIndex - 1);
+            }
         }
 
         xValues[insertIndex] = x;
         yValues[insertIndex] = y;
         count++;
+        updateSlopesAround(insertIndex);
 
         logger.info("Point inserted at index {}. New count: {}", insertIndex, count);
     }
 
-    private int findInsertIndex(double x) {
-        logger.trace("Finding insert index for x={}", x);
-        for (int i = 0; i < count; i++) {
-            if (x < xValues[i]) {
-                logger.trace("Insert index found: {}", i);
-                return i;
+    // Слияние отсортированного набора с узлами за O(n + m) и не более одного выделения массивов
+    @Override
+    public void insertAll(double[] xs, double[] ys) {
+        PointBatch batch = new PointBatch(xs, ys);
+        logger.debug("Inserting batch of {} points ({} unique) into {} points", xs.length, batch.size, count);
+        if (batch.size == 0) {
+            return;
+        }
+
+        int maxCount = count + batch.size;
+        int newCapacity = maxCount <= capacity ? capacity : Math.max(capacity * 2, maxCount);
+        double[] newXValues = new double[newCapacity];
+        double[] newYValues = new double[newCapacity];
+
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < count || j < batch.size) {
+            if (j >= batch.size || (i < count && xValues[i] < batch.xValues[j]
+                    && Math.abs(xValues[i] - batch.xValues[j]) >= 1e-10)) {
+                newXValues[k] = xValues[i];
+                newYValues[k] = yValues[i];
+                i++;
+            } else if (i < count && Math.abs(xValues[i] - batch.xValues[j]) < 1e-10) {
+                newXValues[k] = xValues[i];
+                newYValues[k] = batch.yValues[j];
+                i++;
+                j++;
+            } else {
+                newXValues[k] = batch.xValues[j];
+                newYValues[k] = batch.yValues[j];
+                j++;
             }
+            k++;
         }
-        logger.trace("Insert index found: {} (end of array)", count);
-        return count;
+
+        xValues = newXValues;
+        yValues = newYValues;
+        capacity = newCapacity;
+        count = k;
+        if (slopes != null) {
+            rebuildSlopes();
+        }
+
+        logger.info("Batch inserted. New count: {}, Capacity: {}", count, capacity);
+    }
+
+    private int findInsertIndex(double x) {
+        logger.trace("Finding insert index for x={}", x);
+        int index = SortedArraySearch.upperBound(xValues, count, x);
+        logger.trace("Insert index found: {}", index);
+        return index;
     }
 
     private void increaseCapacity() {
@@ -144,129 +197,94 @@ public class ArrayTabulatedFunction extends AbstractTabulatedFunction implements
 
         xValues = newXValues;
         yValues = newYValues;
+        if (slopes != null) {
+            slopes = Arrays.copyOf(slopes, capacity);
+        }
 
         logger.debug("Capacity increased from {} to {}", oldCapacity, capacity);
     }
 
     @Override
     public int getCount() {
-        logger.trace("Getting count: {}", count);
         return count;
     }
 
     @Override
     public double getX(int index) {
-        logger.trace("Getting x at index: {}", index);
+        EvaluationMetrics.count(EvaluationMetrics.Event.POINT_ACCESS);
         if (index < 0 || index >= count) {
             logger.error("Invalid index for getX: {} (count: {})", index, count);
             throw new IllegalArgumentException("Индекс за пределами допустимого");
         }
-        double result = xValues[index];
-        logger.trace("x[{}] = {}", index, result);
-        return result;
+        return xValues[index];
     }
 
     @Override
     public double getY(int index) {
-        logger.trace("Getting y at index: {}", index);
+        EvaluationMetrics.count(EvaluationMetrics.Event.POINT_ACCESS);
         if (index < 0 || index >= count) {
             logger.error("Invalid index for getY: {} (count: {})", index, count);
             throw new IllegalArgumentException("Индекс за пределами допустимого");
         }
-        double result = yValues[index];
-        logger.trace("y[{}] = {}", index, result);
-        return result;
+        return yValues[index];
     }
 
     @Override
     public void setY(int index, double value) {
-        logger.debug("Setting y at index {} to {}", index, value);
         if (index < 0 || index >= count) {
             logger.error("Invalid index for setY: {} (count: {})", index, count);
             throw new IllegalArgumentException("Индекс за пределами допустимого");
         }
-        double oldValue = yValues[index];
         yValues[index] = value;
-        logger.debug("y[{}] changed from {} to {}", index, oldValue, value);
+        updateSlopesAround(index);
     }
 
     @Override
     public double leftBound() {
-        double bound = xValues[0];
-        logger.trace("Left bound: {}", bound);
-        return bound;
+        return xValues[0];
     }
 
     @Override
     public double rightBound() {
-        double bound = xValues[count - 1];
-        logger.trace("Right bound: {}", bound);
-        return bound;
+        return xValues[count - 1];
     }
 
     @Override
     public int indexOfX(double x) {
-        logger.trace("Searching for x={}", x);
-        for (int i = 0; i < count; i++) {
-            if (Math.abs(xValues[i] - x) < 1e-10) {
-                logger.trace("x={} found at index {}", x, i);
-                return i;
-            }
-        }
-        logger.trace("x={} not found", x);
-        return -1;
+        return SortedArraySearch.indexOf(xValues, count, x);
     }
 
     @Override
     public int indexOfY(double y) {
-        logger.trace("Searching for y={}", y);
         for (int i = 0; i < count; i++) {
             if (Math.abs(yValues[i] - y) < 1e-10) {
-                logger.trace("y={} found at index {}", y, i);
                 return i;
             }
         }
-        logger.trace("y={} not found", y);
         return -1;
     }
 
     @Override
     protected int floorIndexOfX(double x) {
-        logger.trace("Finding floor index for x={}", x);
         if (x < xValues[0]) {
             logger.error("x={} is less than left bound {}", x, xValues[0]);
             throw new IllegalArgumentException("x меньше левой границы: " + x);
         }
-        for (int i = 1; i < count; i++) {
-            if (xValues[i] > x) {
-                logger.trace("Floor index found: {}", i - 1);
-                return i - 1;
-            }
-        }
-        logger.trace("Floor index found: {} (last element)", count - 1);
-        return count - 1;
+        return SortedArraySearch.floorIndex(xValues, count, x);
     }
 
     @Override
     protected double extrapolateLeft(double x) {
-        logger.debug("Left extrapolation for x={}", x);
-        double result = interpolate(x, xValues[0], xValues[1], yValues[0], yValues[1]);
-        logger.debug("Left extrapolation result: {}", result);
-        return result;
+        return interpolate(x, xValues[0], xValues[1], yValues[0], yValues[1]);
     }
 
     @Override
     protected double extrapolateRight(double x) {
-        logger.debug("Right extrapolation for x={}", x);
-        double result = interpolate(x, xValues[count - 2], xValues[count - 1],
-                yValues[count - 2], yValues[count - 1]);
-        logger.debug("Right extrapolation result: {}", result);
-        return result;
+        return interpolate(x, xValues[count - 2], xValues[count - 1], yValues[count - 2], yValues[count - 1]);
     }
 
     @Override
     protected double interpolate(double x, int floorIndex) {
-        logger.debug("Interpolating x={} at floorIndex={}", x, floorIndex);
         if (floorIndex < 0 || floorIndex >= count - 1) {
             logger.error("Invalid floorIndex: {} (count: {})", floorIndex, count);
             throw new IllegalArgumentException("Некорректный floorIndex: " + floorIndex);
@@ -276,24 +294,16 @@ public class ArrayTabulatedFunction extends AbstractTabulatedFunction implements
                     x, xValues[floorIndex], xValues[floorIndex + 1]);
             throw new InterpolationException("x вышел за пределы interpolation");
         }
-
-        double result = interpolate(x, xValues[floorIndex], xValues[floorIndex + 1],
+        return interpolate(x, xValues[floorIndex], xValues[floorIndex + 1],
                 yValues[floorIndex], yValues[floorIndex + 1]);
-        logger.debug("Interpolation result: {}", result);
-        return result;
     }
 
     @Override
     protected double interpolate(double x, double leftX, double rightX, double leftY, double rightY) {
-        logger.trace("Linear interpolation: x={}, interval=[{}, {}], values=[{}, {}]",
-                x, leftX, rightX, leftY, rightY);
         if (Math.abs(leftX - rightX) < 1e-10) {
-            logger.trace("Constant interpolation (zero interval)");
             return leftY;
         }
-        double result = leftY + (x - leftX) * (rightY - leftY) / (rightX - leftX);
-        logger.trace("Interpolation result: {}", result);
-        return result;
+        return leftY + (x - leftX) * (rightY - leftY) / (rightX - leftX);
     }
 
     @Override
@@ -311,6 +321,9 @@ public class ArrayTabulatedFunction extends AbstractTabulatedFunction implements
             logger.trace("Shifting array elements after removal");
             System.arraycopy(xValues, index + 1, xValues, index, count - index - 1);
             System.arraycopy(yValues, index + 1, yValues, index, count - index - 1);
+            if (slopes != null && index < count - 2) {
+                System.arraycopy(slopes, index + 1, slopes, index, count - index - 2);
+            }
         }
 
         if (count > 0) {
@@ -319,21 +332,237 @@ public class ArrayTabulatedFunction extends AbstractTabulatedFunction implements
         }
 
         count--;
+        if (index > 0) {
+            updateSlopesAround(index - 1);
+        }
         logger.info("Element removed at index {}: x={}, y={}. New count: {}",
                 index, removedX, removedY, count);
     }
 
+    // Включение кэша наклонов: apply сводится к поиску отрезка и одному Math.fma,
+    // ценой массива из capacity чисел и пересчёта двух наклонов при каждом изменении
+    public void setSlopeCacheEnabled(boolean enabled) {
+        logger.debug("Slope cache {}", enabled ? "enabled" : "disabled");
+        slopeCacheEnabled = enabled;
+        if (!enabled) {
+            slopes = null;
+        }
+    }
+
+    public boolean isSlopeCacheEnabled() {
+        return slopeCacheEnabled;
+    }
+
+    private void rebuildSlopes() {
+        slopes = new double[capacity];
+        for (int i = 0; i < count - 1; i++) {
+            slopes[i] = slope(i);
+        }
+    }
+
+    // Пересчёт наклонов двух отрезков, примыкающих к узлу index
+    private void updateSlopesAround(int index) {
+        if (slopes == null) {
+            return;
+        }
+        if (index > 0) {
+            slopes[index - 1] = slope(index - 1);
+        }
+        if (index < count - 1) {
+            slopes[index] = slope(index);
+        }
+    }
+
+    // Нулевой наклон для вырожденного отрезка, как в interpolate
+    private double slope(int i) {
+        double dx = xValues[i + 1] - xValues[i];
+        return Math.abs(dx) < 1e-10 ? 0 : (yValues[i + 1] - yValues[i]) / dx;
+    }
+
+    // Значение на продолжении отрезка segment; узлы возвращаются точно
+    private double applyCached(double x, int segment) {
+        if (x == xValues[segment + 1]) {
+            return yValues[segment + 1];
+        }
+        return Math.fma(slopes[segment], x - xValues[segment], yValues[segment]);
+    }
+
+    @Override
+    public double apply(double x) {
+        if (!slopeCacheEnabled || count < 2) {
+            return super.apply(x);
+        }
+        if (slopes == null) {
+            rebuildSlopes();
+        }
+        int segment = SortedArraySearch.floorIndex(xValues, count, x);
+        return applyCached(x, Math.max(0, Math.min(segment, count - 2)));
+    }
+
+    @Override
+    public void apply(double[] xs, double[] out, int from, int to) {
+        if (!slopeCacheEnabled || count < 2) {
+            super.apply(xs, out, from, to);
+            return;
+        }
+        MathFunction.checkRange(xs, out, from, to);
+        if (!isSorted(xs, from, to)) {
+            for (int i = from; i < to; i++) {
+                out[i] = apply(xs[i]);
+            }
+            return;
+        }
+        if (slopes == null) {
+            rebuildSlopes();
+        }
+        int lastSegment = count - 2;
+        int segment = 0;
+        for (int i = from; i < to; i++) {
+            double x = xs[i];
+            while (segment < lastSegment && xValues[segment + 1] <= x) {
+                segment++;
+            }
+            out[i] = applyCached(x, segment);
+        }
+    }
+
+    // Сдвиг хвоста один раз на всю длину диапазона
+    @Override
+    public void removeRange(int from, int to) {
+        logger.debug("Removing range [{}, {})", from, to);
+        if (from < 0 || to > count || from > to) {
+            logger.error("Invalid remove range: [{}, {}) (count: {})", from, to, count);
+            throw new IllegalArgumentException("Диапазон выходит за границы: [" + from + ", " + to + ")");
+        }
+
+        int removed = to - from;
+        if (removed == 0) {
+            return;
+        }
+        System.arraycopy(xValues, to, xValues, from, count - to);
+        System.arraycopy(yValues, to, yValues, from, count - to);
+        Arrays.fill(xValues, count - removed, count, 0);
+        Arrays.fill(yValues, count - removed, count, 0);
+        count -= removed;
+        if (slopes != null) {
+            rebuildSlopes();
+        }
+
+        logger.info("Range [{}, {}) removed. New count: {}", from, to, count);
+    }
+
+    // Уплотнение за один проход: сохраняемые точки переносятся на место удалённых
+    @Override
+    public int removeIf(DoubleBiPredicate filter) {
+        int kept = 0;
+        for (int i = 0; i < count; i++) {
+            if (!filter.test(xValues[i], yValues[i])) {
+                xValues[kept] = xValues[i];
+                yValues[kept] = yValues[i];
+                kept++;
+            }
+        }
+        int removed = count - kept;
+        Arrays.fill(xValues, kept, count, 0);
+        Arrays.fill(yValues, kept, count, 0);
+        count = kept;
+        if (removed > 0 && slopes != null) {
+            rebuildSlopes();
+        }
+
+        logger.info("Removed {} points by predicate. New count: {}", removed, count);
+        return removed;
+    }
+
+    // Освобождение запаса ёмкости, оставшегося после increaseCapacity и удалений
+    public void trimToSize() {
+        int newCapacity = Math.max(count, 1);
+        if (newCapacity == capacity) {
+            return;
+        }
+        xValues = Arrays.copyOf(xValues, newCapacity);
+        yValues = Arrays.copyOf(yValues, newCapacity);
+        if (slopes != null) {
+            slopes = Arrays.copyOf(slopes, newCapacity);
+        }
+        logger.debug("Capacity trimmed from {} to {}", capacity, newCapacity);
+        capacity = newCapacity;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public void forEachPoint(DoubleBiConsumer action) {
+        for (int i = 0; i < count; i++) {
+            action.accept(xValues[i], yValues[i]);
+        }
+    }
+
+    @Override
+    public void copyX(double[] dst) {
+        TabulatedFunction.checkDestination(dst, count);
+        System.arraycopy(xValues, 0, dst, 0, count);
+    }
+
+    @Override
+    public void copyY(double[] dst) {
+        TabulatedFunction.checkDestination(dst, count);
+        System.arraycopy(yValues, 0, dst, 0, count);
+    }
+
+    @Override
+    public void copyX(int from, int to, double[] dst, int offset) {
+        TabulatedFunction.checkCopyRange(from, to, count, dst, offset);
+        System.arraycopy(xValues, from, dst, offset, to - from);
+    }
+
+    @Override
+    public void copyY(int from, int to, double[] dst, int offset) {
+        TabulatedFunction.checkCopyRange(from, to, count, dst, offset);
+        System.arraycopy(yValues, from, dst, offset, to - from);
+    }
+
+    @Override
+    public boolean hasFastRangeCopy() {
+        return true;
+    }
+
+    @Override
+    public void setYs(double[] src) {
+        TabulatedFunction.checkSource(src, count);
+        System.arraycopy(src, 0, yValues, 0, count);
+        if (slopes != null) {
+            for (int i = 0; i < count - 1; i++) {
+                slopes[i] = slope(i);
+            }
+        }
+    }
+
+    @Override
+    public Spliterator<Point> spliterator() {
+        return new PointSpliterator(xValues, yValues, 0, count, 0);
+    }
+
+    @Override
+    public DoubleStream xs() {
+        return Arrays.stream(xValues, 0, count);
+    }
+
+    @Override
+    public DoubleStream ys() {
+        return Arrays.stream(yValues, 0, count);
+    }
+
     @Override
     public Iterator<Point> iterator() {
-        logger.trace("Creating iterator");
         return new Iterator<Point>() {
             private int i = 0;
 
             @Override
             public boolean hasNext() {
-                boolean hasNext = i < count;
-                logger.trace("Iterator hasNext: {} (i={}, count={})", hasNext, i, count);
-                return hasNext;
+                return i < count;
             }
 
             @Override
@@ -343,7 +572,6 @@ public class ArrayTabulatedFunction extends AbstractTabulatedFunction implements
                     throw new NoSuchElementException();
                 }
                 Point point = new Point(xValues[i], yValues[i]);
-                logger.trace("Iterator next: point[{}] = ({}, {})", i, point.x, point.y);
                 i++;
                 return point;
             }
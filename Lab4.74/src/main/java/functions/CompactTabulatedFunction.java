@@ -0,0 +1,306 @@
+package functions;
+
+import exceptions.InterpolationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+// Функция с пониженной точностью хранения: y хранится как float, x как xFrom + code * quantum,
+// где quantum = 2 * xPrecision. Коды хранятся блоками по BLOCK_SIZE точек: int-якорь на блок
+// и 16-битное смещение от якоря на точку (6 байт на точку против 16 у двух double[]).
+// Если смещения внутри блока не помещаются в 16 бит, коды хранятся в int[] (8 байт на точку).
+//
+// Границы погрешности:
+//   |getX(i) - x[i]| <= xPrecision, x[0] хранится точно;
+//   |getY(i) - y[i]| <= 2^-24 * |y[i]| (округление до float, для |y| >= Float.MIN_NORMAL);
+//   apply(x) в пределах [leftBound, rightBound] отличается от интерполяции по исходным узлам
+//   не более чем на 2^-24 * max|y| + |k| * xPrecision, где k - наклон соседнего отрезка.
+public class CompactTabulatedFunction extends AbstractTabulatedFunction implements Serializable {
+
+    private static final Logger logger = LoggerFactory.getLogger(CompactTabulatedFunction.class);
+
+    @Serial
+    private static final long serialVersionUID = 4471980925631208571L;
+
+    private static final int BLOCK_SHIFT = 6;
+    private static final int BLOCK_SIZE = 1 << BLOCK_SHIFT;
+    private static final int MAX_BLOCK_OFFSET = 0xFFFF;
+
+    private final double xFrom;
+    private final double quantum;
+    private final float[] yValues;
+    // Узкий режим: anchors[i >> BLOCK_SHIFT] + offsets[i]; широкий режим: codes[i]
+    private final int[] anchors;
+    private final char[] offsets;
+    private final int[] codes;
+
+    public CompactTabulatedFunction(double[] xValues, double[] yValues, double xPrecision) {
+        logger.debug("Creating CompactTabulatedFunction: count={}, xPrecision={}", xValues.length, xPrecision);
+
+        if (xValues.length < 2) {
+            logger.error("Attempt to create function with insufficient points: {}", xValues.length);
+            throw new IllegalArgumentException("Длина должна быть не менее 2");
+        }
+        if (!(xPrecision > 0) || Double.isInfinite(xPrecision)) {
+            logger.error("Invalid x precision: {}", xPrecision);
+            throw new IllegalArgumentException("Точность по x должна быть положительным числом: " + xPrecision);
+        }
+
+        checkLengthIsTheSame(xValues, yValues);
+        checkSorted(xValues);
+
+        this.count = xValues.length;
+        this.xFrom = xValues[0];
+        this.quantum = 2 * xPrecision;
+
+        int[] quantized = quantize(xValues, xFrom, quantum);
+        if (fitsNarrow(quantized)) {
+            this.anchors = new int[(count + BLOCK_SIZE - 1) >>> BLOCK_SHIFT];
+            this.offsets = new char[count];
+            for (int i = 0; i < count; i++) {
+                if ((i & (BLOCK_SIZE - 1)) == 0) {
+                    anchors[i >>> BLOCK_SHIFT] = quantized[i];
+                }
+                offsets[i] = (char) (quantized[i] - anchors[i >>> BLOCK_SHIFT]);
+            }
+            this.codes = null;
+        } else {
+            this.anchors = null;
+            this.offsets = null;
+            this.codes = quantized;
+        }
+
+        this.yValues = new float[count];
+        for (int i = 0; i < count; i++) {
+            this.yValues[i] = toFloat(yValues[i]);
+        }
+
+        logger.info("CompactTabulatedFunction created successfully. Count: {}, Mode: {}, Bytes: {}",
+                count, codes == null ? "narrow" : "wide", getStorageBytes());
+    }
+
+    // Квантование x относительно x[0]; после округления узлы должны остаться строго возрастающими
+    private static int[] quantize(double[] xValues, double xFrom, double quantum) {
+        int[] quantized = new int[xValues.length];
+        for (int i = 1; i < xValues.length; i++) {
+            double code = Math.rint((xValues[i] - xFrom) / quantum);
+            if (code > Integer.MAX_VALUE) {
+                logger.error("Range [{}, {}] is too wide for quantum {}", xFrom, xValues[i], quantum);
+                throw new IllegalArgumentException("Диапазон x слишком велик для заданной точности");
+            }
+            quantized[i] = (int) code;
+            if (quantized[i] <= quantized[i - 1]) {
+                logger.error("Points {} and {} collapse after quantization with quantum {}", i - 1, i, quantum);
+                throw new IllegalArgumentException("Заданная точность не различает соседние узлы x");
+            }
+        }
+        return quantized;
+    }
+
+    private static boolean fitsNarrow(int[] quantized) {
+        for (int start = 0; start < quantized.length; start += BLOCK_SIZE) {
+            int end = Math.min(quantized.length, start + BLOCK_SIZE) - 1;
+            if (quantized[end] - quantized[start] > MAX_BLOCK_OFFSET) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static float toFloat(double value) {
+        float result = (float) value;
+        if (Float.isInfinite(result) && !Double.isInfinite(value)) {
+            logger.error("Value {} does not fit into float", value);
+            throw new IllegalArgumentException("Значение y вне диапазона float: " + value);
+        }
+        return result;
+    }
+
+    public double getXPrecision() {
+        return quantum / 2;
+    }
+
+    // Объём хранимых массивов в байтах без заголовков объектов
+    public long getStorageBytes() {
+        long bytes = (long) Float.BYTES * yValues.length;
+        if (codes != null) {
+            return bytes + (long) Integer.BYTES * codes.length;
+        }
+        return bytes + (long) Character.BYTES * offsets.length + (long) Integer.BYTES * anchors.length;
+    }
+
+    private int code(int index) {
+        return codes != null ? codes[index] : anchors[index >>> BLOCK_SHIFT] + offsets[index];
+    }
+
+    private double x(int index) {
+        return xFrom + code(index) * quantum;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= count) {
+            logger.error("Invalid index: {} (count: {})", index, count);
+            throw new IllegalArgumentException("Индекс за пределами допустимого");
+        }
+    }
+
+    // Индекс первого узла с x > value, либо count
+    private int upperBound(double value) {
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (x(mid) > value) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    @Override
+    public double getX(int index) {
+        checkIndex(index);
+        return x(index);
+    }
+
+    @Override
+    public double getY(int index) {
+        checkIndex(index);
+        return yValues[index];
+    }
+
+    // Значение округляется до float
+    @Override
+    public void setY(int index, double value) {
+        logger.debug("Setting y at index {} to {}", index, value);
+        checkIndex(index);
+        yValues[index] = toFloat(value);
+    }
+
+    @Override
+    public double leftBound() {
+        return xFrom;
+    }
+
+    @Override
+    public double rightBound() {
+        return x(count - 1);
+    }
+
+    @Override
+    public int indexOfX(double x) {
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (x(mid) - x > -SortedArraySearch.EPSILON) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low < count && x(low) - x < SortedArraySearch.EPSILON ? low : -1;
+    }
+
+    @Override
+    public int indexOfY(double y) {
+        for (int i = 0; i < count; i++) {
+            if (Math.abs(yValues[i] - y) < SortedArraySearch.EPSILON) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    protected int floorIndexOfX(double x) {
+        if (x < xFrom) {
+            logger.error("x={} is less than left bound {}", x, xFrom);
+            throw new IllegalArgumentException("x меньше левой границы: " + x);
+        }
+        return upperBound(x) - 1;
+    }
+
+    @Override
+    protected double extrapolateLeft(double x) {
+        return interpolate(x, xFrom, x(1), yValues[0], yValues[1]);
+    }
+
+    @Override
+    protected double extrapolateRight(double x) {
+        return interpolate(x, x(count - 2), x(count - 1), yValues[count - 2], yValues[count - 1]);
+    }
+
+    @Override
+    protected double interpolate(double x, int floorIndex) {
+        if (floorIndex < 0 || floorIndex >= count - 1) {
+            logger.error("Invalid floorIndex: {} (count: {})", floorIndex, count);
+            throw new IllegalArgumentException("Некорректный floorIndex: " + floorIndex);
+        }
+        double leftX = x(floorIndex);
+        double rightX = x(floorIndex + 1);
+        if (x < leftX || x > rightX) {
+            logger.error("x={} out of interpolation range [{}, {}]", x, leftX, rightX);
+            throw new InterpolationException("x вышел за пределы interpolation");
+        }
+        return interpolate(x, leftX, rightX, yValues[floorIndex], yValues[floorIndex + 1]);
+    }
+
+    // Узлы после квантования строго возрастают, поэтому отрезок нулевой длины невозможен
+    @Override
+    protected double interpolate(double x, double leftX, double rightX, double leftY, double rightY) {
+        return leftY + (x - leftX) * (rightY - leftY) / (rightX - leftX);
+    }
+
+    @Override
+    public void forEachPoint(DoubleBiConsumer action) {
+        for (int i = 0; i < count; i++) {
+            action.accept(x(i), yValues[i]);
+        }
+    }
+
+    @Override
+    public void copyX(double[] dst) {
+        TabulatedFunction.checkDestination(dst, count);
+        for (int i = 0; i < count; i++) {
+            dst[i] = x(i);
+        }
+    }
+
+    @Override
+    public void copyY(double[] dst) {
+        TabulatedFunction.checkDestination(dst, count);
+        for (int i = 0; i < count; i++) {
+            dst[i] = yValues[i];
+        }
+    }
+
+    @Override
+    public Iterator<Point> iterator() {
+        return new Iterator<Point>() {
+            private int i = 0;
+
+            @Override
+            public boolean hasNext() {
+                return i < count;
+            }
+
+            @Override
+            public Point next() {
+                if (!hasNext()) {
+                    logger.error("Iterator next() called with no elements remaining");
+                    throw new NoSuchElementException();
+                }
+                Point point = new Point(x(i), yValues[i]);
+                i++;
+                return point;
+            }
+        };
+    }
+}
@@ -19,25 +19,30 @@ public class CompositeFunction implements MathFunction {
 
     @Override
     public double apply(double x) {
-        logger.debug("Applying composite function for x={}", x);
-
-        double firstResult = firstFunction.apply(x);
-        logger.trace("First function applied: f({}) = {}", x, firstResult);
+        long start = EvaluationMetrics.start(EvaluationMetrics.Event.COMPOSITE_APPLY);
+        double result = secondFunction.apply(firstFunction.apply(x));
+        EvaluationMetrics.stop(EvaluationMetrics.Event.COMPOSITE_APPLY, start);
+        return result;
+    }
 
-        double finalResult = secondFunction.apply(firstResult);
-        logger.debug("Composite function result: g(f({})) = {}", x, finalResult);
+    @Override
+    public void apply(double[] xs, double[] out, int from, int to) {
+        EvaluationMetrics.count(EvaluationMetrics.Event.BULK_APPLY);
+        firstFunction.apply(xs, out, from, to);
+        secondFunction.apply(out, out, from, to);
+    }
 
-        return finalResult;
+    // Развёртывание цепочки в единый вычислитель, см. FusedFunction
+    public MathFunction compile() {
+        return FusedFunction.compile(this);
     }
 
     // Геттеры для отладки (опционально)
     public MathFunction getFirstFunction() {
-        logger.trace("Accessing first function");
         return firstFunction;
     }
 
     public MathFunction getSecondFunction() {
-        logger.trace("Accessing second function");
         return secondFunction;
     }
 }
\ No newline at end of file
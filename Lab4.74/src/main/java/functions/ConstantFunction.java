@@ -1,5 +1,7 @@
 package functions;
 
+import java.util.Arrays;
+
 public class ConstantFunction implements MathFunction {
     private final double arg;
 
@@ -14,4 +16,10 @@ public class ConstantFunction implements MathFunction {
     public double apply(double x) {
         return arg;
     }
+
+    @Override
+    public void apply(double[] xs, double[] out, int from, int to) {
+        MathFunction.checkRange(xs, out, from, to);
+        Arrays.fill(out, from, to, arg);
+    }
 }
\ No newline at end of file
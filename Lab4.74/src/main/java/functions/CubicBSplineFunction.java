@@ -4,6 +4,18 @@ public class CubicBSplineFunction implements MathFunction {
 
     @Override
     public double apply(double x) {
+        return kernel(x);
+    }
+
+    @Override
+    public void apply(double[] xs, double[] out, int from, int to) {
+        MathFunction.checkRange(xs, out, from, to);
+        for (int i = from; i < to; i++) {
+            out[i] = kernel(xs[i]);
+        }
+    }
+
+    static double kernel(double x) {
         double t = Math.abs(x);
 
         if (t >= 2) {
@@ -18,4 +18,13 @@ public class DerivativeFunction implements MathFunction {
     public double apply(double x) {
         return (originalFunction.apply(x+deltaX)-originalFunction.apply(x))/deltaX;
     }
+
+    @Override
+    public void apply(double[] xs, double[] out, int from, int to) {
+        MathFunction.checkRange(xs, out, from, to);
+        for (int i = from; i < to; i++) {
+            double x = xs[i];
+            out[i] = (originalFunction.apply(x + deltaX) - originalFunction.apply(x)) / deltaX;
+        }
+    }
 }
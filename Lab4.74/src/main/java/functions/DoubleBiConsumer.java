@@ -0,0 +1,6 @@
+package functions;
+
+@FunctionalInterface
+public interface DoubleBiConsumer {
+    void accept(double x, double y);
+}
@@ -0,0 +1,6 @@
+package functions;
+
+@FunctionalInterface
+public interface DoubleBiPredicate {
+    boolean test(double x, double y);
+}
@@ -0,0 +1,30 @@
+package functions;
+
+import jdk.jfr.Category;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+// Событие JFR для выборочных замеров EvaluationMetrics; по умолчанию выключено в настройках записи
+@Name("functions.Evaluation")
+@Label("Function Evaluation Sample")
+@Category("Functions")
+@Enabled(false)
+final class EvaluationEvent extends jdk.jfr.Event {
+    @Label("Operation")
+    String operation;
+
+    @Label("Elapsed")
+    @Timespan(Timespan.NANOSECONDS)
+    long elapsed;
+
+    static void emit(EvaluationMetrics.Event event, long elapsedNanos) {
+        EvaluationEvent jfrEvent = new EvaluationEvent();
+        if (jfrEvent.isEnabled()) {
+            jfrEvent.operation = event.name();
+            jfrEvent.elapsed = elapsedNanos;
+            jfrEvent.commit();
+        }
+    }
+}
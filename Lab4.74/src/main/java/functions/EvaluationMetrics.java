@@ -0,0 +1,96 @@
+package functions;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+// Счётчики и выборочные замеры времени на горячих путях вычисления вместо логирования каждого
+// вызова. Включаются при запуске: -Dfunctions.metrics=true. В выключенном состоянии ENABLED -
+// константа static final, поэтому JIT выбрасывает проверки и вызовы целиком.
+// Замеры времени делаются для одного вызова из SAMPLE_RATE и дополнительно публикуются как
+// событие JFR functions.Evaluation, если оно включено в настройках записи
+public final class EvaluationMetrics {
+    public static final boolean ENABLED = Boolean.getBoolean("functions.metrics");
+    public static final int SAMPLE_RATE = 1024;
+
+    public enum Event {
+        APPLY,
+        BULK_APPLY,
+        INTERPOLATE,
+        EXTRAPOLATE,
+        POINT_ACCESS,
+        COMPOSITE_APPLY,
+        SYNCHRONIZED_CALL
+    }
+
+    private static final Event[] EVENTS = Event.values();
+    private static final LongAdder[] COUNTS = adders();
+    private static final LongAdder[] SAMPLES = adders();
+    private static final LongAdder[] SAMPLED_NANOS = adders();
+
+    private EvaluationMetrics() {
+        throw new UnsupportedOperationException("Невозможно создать экземпляр служебного класса");
+    }
+
+    private static LongAdder[] adders() {
+        LongAdder[] adders = new LongAdder[EVENTS.length];
+        for (int i = 0; i < adders.length; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+    public static void count(Event event) {
+        if (ENABLED) {
+            COUNTS[event.ordinal()].increment();
+        }
+    }
+
+    // Отметка начала вызова: считает вызов и возвращает время старта для выбранных вызовов, иначе 0
+    public static long start(Event event) {
+        if (!ENABLED) {
+            return 0;
+        }
+        COUNTS[event.ordinal()].increment();
+        if (ThreadLocalRandom.current().nextInt(SAMPLE_RATE) != 0) {
+            return 0;
+        }
+        return System.nanoTime();
+    }
+
+    public static void stop(Event event, long startNanos) {
+        if (ENABLED && startNanos != 0) {
+            long elapsed = System.nanoTime() - startNanos;
+            SAMPLES[event.ordinal()].increment();
+            SAMPLED_NANOS[event.ordinal()].add(elapsed);
+            EvaluationEvent.emit(event, elapsed);
+        }
+    }
+
+    public static long getCount(Event event) {
+        return COUNTS[event.ordinal()].sum();
+    }
+
+    // Среднее время по выборочным замерам, 0 если замеров не было
+    public static double getMeanNanos(Event event) {
+        long samples = SAMPLES[event.ordinal()].sum();
+        return samples == 0 ? 0 : (double) SAMPLED_NANOS[event.ordinal()].sum() / samples;
+    }
+
+    public static Map<Event, Long> snapshot() {
+        Map<Event, Long> counts = new EnumMap<>(Event.class);
+        for (Event event : EVENTS) {
+            counts.put(event, getCount(event));
+        }
+        return counts;
+    }
+
+    public static void reset() {
+        for (int i = 0; i < EVENTS.length; i++) {
+            COUNTS[i].reset();
+            SAMPLES[i].reset();
+            SAMPLED_NANOS[i].reset();
+        }
+    }
+}
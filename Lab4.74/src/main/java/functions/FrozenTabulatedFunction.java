@@ -0,0 +1,271 @@
+package functions;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.stream.DoubleStream;
+
+// Неизменяемый снимок табулированной функции. Все поля final, массивы точного размера
+// и никогда не меняются после конструктора, поэтому экземпляр можно читать из любых потоков
+// без синхронизации. Снимки, полученные через withY, разделяют один массив x.
+public final class FrozenTabulatedFunction implements TabulatedFunction, Serializable {
+
+    private static final Logger logger = LoggerFactory.getLogger(FrozenTabulatedFunction.class);
+
+    @Serial
+    private static final long serialVersionUID = -3270946512186749310L;
+
+    private final double[] xValues;
+    private final double[] yValues;
+
+    public FrozenTabulatedFunction(double[] xValues, double[] yValues) {
+        logger.debug("Creating FrozenTabulatedFunction from arrays: xValues.length={}, yValues.length={}",
+                xValues.length, yValues.length);
+
+        if (xValues.length < 2) {
+            logger.error("Attempt to create function with insufficient points: {}", xValues.length);
+            throw new IllegalArgumentException("Длина должна быть не менее 2");
+        }
+        AbstractTabulatedFunction.checkLengthIsTheSame(xValues, yValues);
+        AbstractTabulatedFunction.checkSorted(xValues);
+
+        this.xValues = xValues.clone();
+        this.yValues = yValues.clone();
+    }
+
+    // Копия узлов другой функции; количество точек проверяет вызывающий код
+    private FrozenTabulatedFunction(TabulatedFunction source) {
+        int count = source.getCount();
+        this.xValues = new double[count];
+        this.yValues = new double[count];
+        source.copyX(xValues);
+        source.copyY(yValues);
+    }
+
+    // Снимок с массивом x исходного снимка и готовым массивом y
+    private FrozenTabulatedFunction(FrozenTabulatedFunction source, double[] yValues) {
+        this.xValues = source.xValues;
+        this.yValues = yValues;
+    }
+
+    // Снимок текущего состояния функции: по одному копированию массива для x и y
+    public static FrozenTabulatedFunction of(TabulatedFunction function) {
+        if (function instanceof FrozenTabulatedFunction) {
+            return (FrozenTabulatedFunction) function;
+        }
+        int count = function.getCount();
+        logger.debug("Freezing {} with {} points", function.getClass().getSimpleName(), count);
+        if (count < 2) {
+            logger.error("Attempt to freeze function with insufficient points: {}", count);
+            throw new IllegalArgumentException("Длина должна быть не менее 2");
+        }
+        return new FrozenTabulatedFunction(function);
+    }
+
+    // Новый снимок с теми же x и копией переданных y
+    public FrozenTabulatedFunction withY(double[] yValues) {
+        checkYLength(yValues);
+        return new FrozenTabulatedFunction(this, yValues.clone());
+    }
+
+    // Как withY, но массив y передаётся снимку без копирования: вызывающий код создаёт его сам
+    // и больше не изменяет. Используется операциями, которые только что заполнили результат
+    public FrozenTabulatedFunction withOwnedY(double[] yValues) {
+        checkYLength(yValues);
+        return new FrozenTabulatedFunction(this, yValues);
+    }
+
+    private void checkYLength(double[] yValues) {
+        if (yValues.length != xValues.length) {
+            logger.error("Y array length {} does not match count {}", yValues.length, xValues.length);
+            throw new IllegalArgumentException("Длина массива y не совпадает с количеством точек");
+        }
+    }
+
+    // true, если снимки разделяют один и тот же массив x
+    public boolean hasSameX(FrozenTabulatedFunction other) {
+        return xValues == other.xValues;
+    }
+
+    @Override
+    public FrozenTabulatedFunction freeze() {
+        return this;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= xValues.length) {
+            logger.error("Invalid index: {} (count: {})", index, xValues.length);
+            throw new IllegalArgumentException("Индекс за пределами допустимого");
+        }
+    }
+
+    @Override
+    public int getCount() {
+        return xValues.length;
+    }
+
+    @Override
+    public double getX(int index) {
+        checkIndex(index);
+        return xValues[index];
+    }
+
+    @Override
+    public double getY(int index) {
+        checkIndex(index);
+        return yValues[index];
+    }
+
+    @Override
+    public void setY(int index, double value) {
+        logger.error("Attempt to modify frozen function");
+        throw new UnsupportedOperationException("Функция неизменяема");
+    }
+
+    @Override
+    public int indexOfX(double x) {
+        return SortedArraySearch.indexOf(xValues, xValues.length, x);
+    }
+
+    @Override
+    public int indexOfY(double y) {
+        for (int i = 0; i < yValues.length; i++) {
+            if (Math.abs(yValues[i] - y) < SortedArraySearch.EPSILON) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public double leftBound() {
+        return xValues[0];
+    }
+
+    @Override
+    public double rightBound() {
+        return xValues[xValues.length - 1];
+    }
+
+    @Override
+    public double apply(double x) {
+        int last = xValues.length - 1;
+        if (x < xValues[0]) {
+            return interpolate(x, 0);
+        }
+        if (x > xValues[last]) {
+            return interpolate(x, last - 1);
+        }
+        int index = SortedArraySearch.indexOf(xValues, xValues.length, x);
+        if (index != -1) {
+            return yValues[index];
+        }
+        // NaN не проходит ни одно сравнение, и floorIndex возвращает последний узел
+        return interpolate(x, Math.min(SortedArraySearch.floorIndex(xValues, xValues.length, x), last - 1));
+    }
+
+    private double interpolate(double x, int floorIndex) {
+        double leftX = xValues[floorIndex];
+        double rightX = xValues[floorIndex + 1];
+        double leftY = yValues[floorIndex];
+        if (Math.abs(leftX - rightX) < SortedArraySearch.EPSILON) {
+            return leftY;
+        }
+        return leftY + (x - leftX) * (yValues[floorIndex + 1] - leftY) / (rightX - leftX);
+    }
+
+    @Override
+    public void forEachPoint(DoubleBiConsumer action) {
+        for (int i = 0; i < xValues.length; i++) {
+            action.accept(xValues[i], yValues[i]);
+        }
+    }
+
+    @Override
+    public void copyX(double[] dst) {
+        TabulatedFunction.checkDestination(dst, xValues.length);
+        System.arraycopy(xValues, 0, dst, 0, xValues.length);
+    }
+
+    @Override
+    public void copyY(double[] dst) {
+        TabulatedFunction.checkDestination(dst, yValues.length);
+        System.arraycopy(yValues, 0, dst, 0, yValues.length);
+    }
+
+    @Override
+    public void copyX(int from, int to, double[] dst, int offset) {
+        TabulatedFunction.checkCopyRange(from, to, xValues.length, dst, offset);
+        System.arraycopy(xValues, from, dst, offset, to - from);
+    }
+
+    @Override
+    public void copyY(int from, int to, double[] dst, int offset) {
+        TabulatedFunction.checkCopyRange(from, to, yValues.length, dst, offset);
+        System.arraycopy(yValues, from, dst, offset, to - from);
+    }
+
+    @Override
+    public boolean hasFastRangeCopy() {
+        return true;
+    }
+
+    @Override
+    public Spliterator<Point> spliterator() {
+        return new PointSpliterator(xValues, yValues, 0, xValues.length, Spliterator.IMMUTABLE);
+    }
+
+    @Override
+    public DoubleStream xs() {
+        return Arrays.stream(xValues);
+    }
+
+    @Override
+    public DoubleStream ys() {
+        return Arrays.stream(yValues);
+    }
+
+    @Override
+    public Iterator<Point> iterator() {
+        return new Iterator<Point>() {
+            private int i = 0;
+
+            @Override
+            public boolean hasNext() {
+                return i < xValues.length;
+            }
+
+            @Override
+            public Point next() {
+                if (!hasNext()) {
+                    logger.error("Iterator next() called with no elements remaining");
+                    throw new NoSuchElementException();
+                }
+                Point point = new Point(xValues[i], yValues[i]);
+                i++;
+                return point;
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(getClass().getSimpleName())
+                .append(" size = ")
+                .append(xValues.length)
+                .append("\n");
+        forEachPoint((x, y) -> sb.append("[")
+                .append(x)
+                .append("; ")
+                .append(y)
+                .append("]\n"));
+        return sb.toString();
+    }
+}
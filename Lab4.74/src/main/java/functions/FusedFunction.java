@@ -0,0 +1,124 @@
+package functions;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandleProxies;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+// Дерево CompositeFunction, развёрнутое в линейную цепочку этапов. Скалярное apply собирается
+// из MethodHandle (filterReturnValue по всем этапам) и оборачивается в скрытый класс через
+// MethodHandleProxies, так что JIT видит цепочку как одну константу без промежуточных вызовов
+// CompositeFunction и их логирования. IdentityFunction выбрасывается, а ConstantFunction
+// (в том числе ZeroFunction и UnitFunction) отбрасывает все этапы перед собой.
+// Этапы должны быть чистыми функциями: выброшенные этапы не вызываются.
+// Цепочки длиннее MAX_HANDLE_STAGES вычисляются циклом по этапам: вложенность MethodHandle
+// такой глубины не инлайнится и расходует стек.
+public final class FusedFunction implements MathFunction {
+    private static final Logger logger = LoggerFactory.getLogger(FusedFunction.class);
+
+    private static final int MAX_HANDLE_STAGES = 64;
+    private static final MethodHandle APPLY;
+
+    static {
+        try {
+            APPLY = MethodHandles.publicLookup().findVirtual(MathFunction.class, "apply",
+                    MethodType.methodType(double.class, double.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final MathFunction[] stages;
+    private final MathFunction evaluator;
+
+    private FusedFunction(MathFunction[] stages) {
+        this.stages = stages;
+
+        if (stages.length > MAX_HANDLE_STAGES) {
+            this.evaluator = x -> {
+                for (MathFunction stage : stages) {
+                    x = stage.apply(x);
+                }
+                return x;
+            };
+            return;
+        }
+        MethodHandle handle = stageHandle(stages[0]);
+        for (int i = 1; i < stages.length; i++) {
+            handle = MethodHandles.filterReturnValue(handle, stageHandle(stages[i]));
+        }
+        this.evaluator = MethodHandleProxies.asInterfaceInstance(MathFunction.class, handle);
+    }
+
+    // Компиляция функции; для цепочек из одного этапа возвращается сам этап
+    public static MathFunction compile(MathFunction function) {
+        List<MathFunction> stages = flatten(function);
+        logger.debug("Compiling {} into {} stages", function.getClass().getSimpleName(), stages.size());
+
+        if (stages.isEmpty()) {
+            return new IdentityFunction();
+        }
+        if (stages.size() == 1) {
+            return stages.get(0);
+        }
+        return new FusedFunction(stages.toArray(new MathFunction[0]));
+    }
+
+    // Обход дерева без рекурсии: цепочки andThen растут влево и могут быть очень глубокими
+    private static List<MathFunction> flatten(MathFunction function) {
+        List<MathFunction> stages = new ArrayList<>();
+        Deque<MathFunction> pending = new ArrayDeque<>();
+        pending.push(function);
+        while (!pending.isEmpty()) {
+            MathFunction current = pending.pop();
+            if (current instanceof CompositeFunction) {
+                CompositeFunction composite = (CompositeFunction) current;
+                pending.push(composite.getSecondFunction());
+                pending.push(composite.getFirstFunction());
+            } else if (current instanceof FusedFunction) {
+                MathFunction[] nested = ((FusedFunction) current).stages;
+                for (int i = nested.length - 1; i >= 0; i--) {
+                    pending.push(nested[i]);
+                }
+            } else if (current instanceof ConstantFunction) {
+                stages.clear();
+                stages.add(current);
+            } else if (!(current instanceof IdentityFunction)) {
+                stages.add(current);
+            }
+        }
+        return stages;
+    }
+
+    private static MethodHandle stageHandle(MathFunction stage) {
+        if (stage instanceof ConstantFunction) {
+            double value = ((ConstantFunction) stage).getArg();
+            return MethodHandles.dropArguments(MethodHandles.constant(double.class, value), 0, double.class);
+        }
+        return APPLY.bindTo(stage);
+    }
+
+    public int getStageCount() {
+        return stages.length;
+    }
+
+    @Override
+    public double apply(double x) {
+        return evaluator.apply(x);
+    }
+
+    @Override
+    public void apply(double[] xs, double[] out, int from, int to) {
+        stages[0].apply(xs, out, from, to);
+        for (int i = 1; i < stages.length; i++) {
+            stages[i].apply(out, out, from, to);
+        }
+    }
+}
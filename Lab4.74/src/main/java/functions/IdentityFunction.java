@@ -5,4 +5,12 @@ public class IdentityFunction implements MathFunction {
     public double apply(double x) {
         return x;
     }
+
+    @Override
+    public void apply(double[] xs, double[] out, int from, int to) {
+        MathFunction.checkRange(xs, out, from, to);
+        if (xs != out) {
+            System.arraycopy(xs, from, out, from, to - from);
+        }
+    }
 }
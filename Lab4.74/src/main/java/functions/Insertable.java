@@ -4,4 +4,13 @@ public interface Insertable {
     void insert(double x, double y);
 
     void remove(int index);
+
+    // Вставка набора точек в произвольном порядке. Результат тот же, что у последовательных
+    // вызовов insert: для уже существующего x (и для повторов внутри набора) остаётся последний y
+    default void insertAll(double[] xs, double[] ys) {
+        AbstractTabulatedFunction.checkLengthIsTheSame(xs, ys);
+        for (int i = 0; i < xs.length; i++) {
+            insert(xs[i], ys[i]);
+        }
+    }
 }
@@ -9,7 +9,7 @@ import java.io.Serializable;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 
-public class LinkedListTabulatedFunction extends AbstractTabulatedFunction implements Insertable, Serializable {
+public class LinkedListTabulatedFunction extends AbstractTabulatedFunction implements Insertable, Removable, Serializable {
 
     private static final Logger logger = LoggerFactory.getLogger(LinkedListTabulatedFunction.class);
 
@@ -328,6 +328,38 @@ public class LinkedListTabulatedFunction extends AbstractTabulatedFunction imple
         return result;
     }
 
+    @Override
+    public void apply(double[] xs, double[] out, int from, int to) {
+        MathFunction.checkRange(xs, out, from, to);
+        if (count < 2 || !isSorted(xs, from, to)) {
+            super.apply(xs, out, from, to);
+            return;
+        }
+
+        logger.debug("Evaluating {} sorted values by walking the list once", to - from);
+        Node last = head.prev;
+        Node floor = head;
+        for (int i = from; i < to; i++) {
+            double x = xs[i];
+            if (x < head.x) {
+                out[i] = extrapolateLeft(x);
+            } else if (x > last.x) {
+                out[i] = extrapolateRight(x);
+            } else {
+                while (floor.next != head && floor.next.x <= x) {
+                    floor = floor.next;
+                }
+                if (Math.abs(floor.x - x) < 1e-10) {
+                    out[i] = floor.y;
+                } else if (floor.next != head && Math.abs(floor.next.x - x) < 1e-10) {
+                    out[i] = floor.next.y;
+                } else {
+                    out[i] = interpolate(x, floor.x, floor.next.x, floor.y, floor.next.y);
+                }
+            }
+        }
+    }
+
     @Override
     public void insert(double x, double y) {
         logger.debug("Inserting point: x={}, y={}", x, y);
@@ -376,6 +408,50 @@ public class LinkedListTabulatedFunction extends AbstractTabulatedFunction imple
         logger.info("Point inserted. New count: {}", count);
     }
 
+    // Один проход по списку навстречу отсортированному набору, O(n + m)
+    @Override
+    public void insertAll(double[] xs, double[] ys) {
+        PointBatch batch = new PointBatch(xs, ys);
+        logger.debug("Inserting batch of {} points ({} unique) into {} points", xs.length, batch.size, count);
+
+        int j = 0;
+        if (head == null) {
+            for (; j < batch.size; j++) {
+                addNode(batch.xValues[j], batch.yValues[j]);
+            }
+            return;
+        }
+
+        Node current = head;
+        // Узлы исходного списка, ещё не пройденные; при 0 вставка идёт в конец
+        int remaining = count;
+        for (; j < batch.size; j++) {
+            double x = batch.xValues[j];
+            double y = batch.yValues[j];
+            while (remaining > 0 && current.x < x && Math.abs(current.x - x) >= 1e-10) {
+                current = current.next;
+                remaining--;
+            }
+            if (remaining > 0 && Math.abs(current.x - x) < 1e-10) {
+                current.y = y;
+                continue;
+            }
+
+            Node newNode = new Node(x, y);
+            Node prevNode = current.prev;
+            newNode.next = current;
+            newNode.prev = prevNode;
+            prevNode.next = newNode;
+            current.prev = newNode;
+            if (remaining > 0 && current == head) {
+                head = newNode;
+            }
+            count++;
+        }
+
+        logger.info("Batch inserted. New count: {}", count);
+    }
+
     @Override
     public void remove(int index) {
         logger.debug("Removing node at index: {}", index);
@@ -417,6 +493,106 @@ public class LinkedListTabulatedFunction extends AbstractTabulatedFunction imple
                 index, removedX, removedY, count);
     }
 
+    // Участок списка вырезается целиком: один проход до from и до to
+    @Override
+    public void removeRange(int from, int to) {
+        logger.debug("Removing range [{}, {})", from, to);
+        if (from < 0 || to > count || from > to) {
+            logger.error("Invalid remove range: [{}, {}) (count: {})", from, to, count);
+            throw new IllegalArgumentException("Диапазон выходит за границы: [" + from + ", " + to + ")");
+        }
+
+        int removed = to - from;
+        if (removed == 0) {
+            return;
+        }
+        if (removed == count) {
+            head = null;
+            count = 0;
+        } else {
+            Node first = getNode(from);
+            Node last = first;
+            for (int i = 1; i < removed; i++) {
+                last = last.next;
+            }
+            first.prev.next = last.next;
+            last.next.prev = first.prev;
+            if (from == 0) {
+                head = last.next;
+            }
+            count -= removed;
+        }
+
+        logger.info("Range [{}, {}) removed. New count: {}", from, to, count);
+    }
+
+    // Узлы отцепляются во время одного обхода списка
+    @Override
+    public int removeIf(DoubleBiPredicate filter) {
+        int initialCount = count;
+        Node current = head;
+        for (int i = 0; i < initialCount; i++) {
+            Node next = current.next;
+            if (filter.test(current.x, current.y)) {
+                if (count == 1) {
+                    head = null;
+                } else {
+                    current.prev.next = next;
+                    next.prev = current.prev;
+                    if (current == head) {
+                        head = next;
+                    }
+                }
+                count--;
+            }
+            current = next;
+        }
+
+        int removed = initialCount - count;
+        logger.info("Removed {} points by predicate. New count: {}", removed, count);
+        return removed;
+    }
+
+    @Override
+    public void forEachPoint(DoubleBiConsumer action) {
+        Node current = head;
+        for (int i = 0; i < count; i++) {
+            action.accept(current.x, current.y);
+            current = current.next;
+        }
+    }
+
+    @Override
+    public void copyX(double[] dst) {
+        TabulatedFunction.checkDestination(dst, count);
+        Node current = head;
+        for (int i = 0; i < count; i++) {
+            dst[i] = current.x;
+            current = current.next;
+        }
+    }
+
+    @Override
+    public void copyY(double[] dst) {
+        TabulatedFunction.checkDestination(dst, count);
+        Node current = head;
+        for (int i = 0; i < count; i++) {
+            dst[i] = current.y;
+            current = current.next;
+        }
+    }
+
+    // Один проход по списку вместо поиска узла для каждого индекса
+    @Override
+    public void setYs(double[] src) {
+        TabulatedFunction.checkSource(src, count);
+        Node current = head;
+        for (int i = 0; i < count; i++) {
+            current.y = src[i];
+            current = current.next;
+        }
+    }
+
     @Override
     public Iterator<Point> iterator() {
         logger.trace("Creating iterator");
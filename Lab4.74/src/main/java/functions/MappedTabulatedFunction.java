@@ -0,0 +1,274 @@
+package functions;
+
+import exceptions.InterpolationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+// Функция только для чтения поверх файла в бинарном формате FunctionsIO:
+// int count, затем count пар (x, y) в порядке big-endian. Файл отображается в память целиком,
+// узлы не копируются в кучу. Упорядоченность x не проверяется, чтобы не читать весь файл при открытии.
+public class MappedTabulatedFunction extends AbstractTabulatedFunction implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(MappedTabulatedFunction.class);
+
+    private static final ValueLayout.OfInt COUNT = ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.BIG_ENDIAN);
+    private static final ValueLayout.OfDouble DOUBLE = ValueLayout.JAVA_DOUBLE_UNALIGNED.withOrder(ByteOrder.BIG_ENDIAN);
+    private static final long HEADER_BYTES = Integer.BYTES;
+    private static final long POINT_BYTES = 2L * Double.BYTES;
+
+    private final Path path;
+    private Arena arena;
+    private final MemorySegment segment;
+
+    public MappedTabulatedFunction(Path path) throws IOException {
+        logger.info("Mapping tabulated function file: {}", path);
+        this.path = path;
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES) {
+                logger.error("File {} is too short: {} bytes", path, size);
+                throw new IOException("Файл пуст");
+            }
+
+            Arena mappingArena = Arena.ofShared();
+            try {
+                MemorySegment mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size, mappingArena);
+                int pointCount = mapped.get(COUNT, 0);
+                if (pointCount < 2) {
+                    logger.error("Invalid point count in {}: {}", path, pointCount);
+                    throw new IOException("Некорректное количество точек: " + pointCount);
+                }
+                if (size < HEADER_BYTES + pointCount * POINT_BYTES) {
+                    logger.error("File {} is truncated: {} bytes for {} points", path, size, pointCount);
+                    throw new IOException("Неожиданный конец файла");
+                }
+                this.arena = mappingArena;
+                this.segment = mapped;
+                this.count = pointCount;
+            } catch (IOException | RuntimeException e) {
+                mappingArena.close();
+                throw e;
+            }
+        }
+
+        logger.info("Mapped {} points from {}", count, path);
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    @Override
+    public void close() {
+        if (arena != null) {
+            logger.info("Unmapping tabulated function file: {}", path);
+            arena.close();
+            arena = null;
+            count = 0;
+        }
+    }
+
+    public boolean isClosed() {
+        return arena == null;
+    }
+
+    private void checkOpen() {
+        if (arena == null) {
+            logger.error("Attempt to use closed MappedTabulatedFunction");
+            throw new IllegalStateException("Функция уже закрыта");
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= count) {
+            checkOpen();
+            logger.error("Invalid index: {} (count: {})", index, count);
+            throw new IllegalArgumentException("Индекс за пределами допустимого");
+        }
+    }
+
+    private double x(long index) {
+        return segment.get(DOUBLE, HEADER_BYTES + index * POINT_BYTES);
+    }
+
+    private double y(long index) {
+        return segment.get(DOUBLE, HEADER_BYTES + index * POINT_BYTES + Double.BYTES);
+    }
+
+    // Индекс первого узла с x > value, либо count
+    private int upperBound(double value) {
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (x(mid) > value) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    @Override
+    public double getX(int index) {
+        checkIndex(index);
+        return x(index);
+    }
+
+    @Override
+    public double getY(int index) {
+        checkIndex(index);
+        return y(index);
+    }
+
+    @Override
+    public void setY(int index, double value) {
+        logger.error("Attempt to modify read-only mapped function {}", path);
+        throw new UnsupportedOperationException("Функция доступна только для чтения");
+    }
+
+    @Override
+    public double leftBound() {
+        checkOpen();
+        return x(0);
+    }
+
+    @Override
+    public double rightBound() {
+        checkOpen();
+        return x(count - 1);
+    }
+
+    @Override
+    public int indexOfX(double x) {
+        checkOpen();
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (x(mid) - x > -SortedArraySearch.EPSILON) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low < count && x(low) - x < SortedArraySearch.EPSILON ? low : -1;
+    }
+
+    @Override
+    public int indexOfY(double y) {
+        checkOpen();
+        for (int i = 0; i < count; i++) {
+            if (Math.abs(y(i) - y) < SortedArraySearch.EPSILON) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    protected int floorIndexOfX(double x) {
+        checkOpen();
+        if (x < x(0)) {
+            logger.error("x={} is less than left bound {}", x, x(0));
+            throw new IllegalArgumentException("x меньше левой границы: " + x);
+        }
+        return upperBound(x) - 1;
+    }
+
+    @Override
+    protected double extrapolateLeft(double x) {
+        return interpolate(x, x(0), x(1), y(0), y(1));
+    }
+
+    @Override
+    protected double extrapolateRight(double x) {
+        return interpolate(x, x(count - 2), x(count - 1), y(count - 2), y(count - 1));
+    }
+
+    @Override
+    protected double interpolate(double x, int floorIndex) {
+        if (floorIndex < 0 || floorIndex >= count - 1) {
+            logger.error("Invalid floorIndex: {} (count: {})", floorIndex, count);
+            throw new IllegalArgumentException("Некорректный floorIndex: " + floorIndex);
+        }
+        double leftX = x(floorIndex);
+        double rightX = x(floorIndex + 1);
+        if (x < leftX || x > rightX) {
+            logger.error("x={} out of interpolation range [{}, {}]", x, leftX, rightX);
+            throw new InterpolationException("x вышел за пределы interpolation");
+        }
+        return interpolate(x, leftX, rightX, y(floorIndex), y(floorIndex + 1));
+    }
+
+    @Override
+    protected double interpolate(double x, double leftX, double rightX, double leftY, double rightY) {
+        if (Math.abs(leftX - rightX) < SortedArraySearch.EPSILON) {
+            return leftY;
+        }
+        return leftY + (x - leftX) * (rightY - leftY) / (rightX - leftX);
+    }
+
+    @Override
+    public void forEachPoint(DoubleBiConsumer action) {
+        checkOpen();
+        for (int i = 0; i < count; i++) {
+            action.accept(x(i), y(i));
+        }
+    }
+
+    @Override
+    public void copyX(double[] dst) {
+        checkOpen();
+        TabulatedFunction.checkDestination(dst, count);
+        for (int i = 0; i < count; i++) {
+            dst[i] = x(i);
+        }
+    }
+
+    @Override
+    public void copyY(double[] dst) {
+        checkOpen();
+        TabulatedFunction.checkDestination(dst, count);
+        for (int i = 0; i < count; i++) {
+            dst[i] = y(i);
+        }
+    }
+
+    @Override
+    public Iterator<Point> iterator() {
+        checkOpen();
+        return new Iterator<Point>() {
+            private int i = 0;
+
+            @Override
+            public boolean hasNext() {
+                return i < count;
+            }
+
+            @Override
+            public Point next() {
+                if (!hasNext()) {
+                    logger.error("Iterator next() called with no elements remaining");
+                    throw new NoSuchElementException();
+                }
+                Point point = new Point(x(i), y(i));
+                i++;
+                return point;
+            }
+        };
+    }
+}
@@ -2,7 +2,28 @@ package functions;
 
 public interface MathFunction {
     double apply(double x);
-    
+
+    // Вычисление значений для всех xs; out может совпадать с xs
+    default void apply(double[] xs, double[] out) {
+        apply(xs, out, 0, xs.length);
+    }
+
+    // Вычисление значений для xs[from..to) в out[from..to)
+    default void apply(double[] xs, double[] out, int from, int to) {
+        checkRange(xs, out, from, to);
+        for (int i = from; i < to; i++) {
+            out[i] = apply(xs[i]);
+        }
+    }
+
+    static void checkRange(double[] xs, double[] out, int from, int to) {
+        if (from < 0 || from > to || to > xs.length || to > out.length) {
+            throw new IndexOutOfBoundsException(
+                    "Некорректный диапазон [" + from + ", " + to + ") для массивов длины "
+                            + xs.length + " и " + out.length);
+        }
+    }
+
     default CompositeFunction andThen(MathFunction afterFunction) {
         return new CompositeFunction(this, afterFunction);
     }
@@ -0,0 +1,303 @@
+package functions;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+// Кэширующая обёртка над MathFunction с ограниченным размером. Ключи и значения хранятся
+// в примитивных массивах (без упаковки в Double), кэш разбит на сегменты с отдельными
+// мониторами. Вытеснение LRU или FIFO выполняется внутри сегмента, поэтому при нескольких
+// сегментах порядок вытеснения приближённый. Дополнительно можно задать время жизни записи.
+// Исходная функция вызывается вне блокировок; при гонке значение может быть вычислено дважды.
+public class MemoizedFunction implements MathFunction {
+    private static final Logger logger = LoggerFactory.getLogger(MemoizedFunction.class);
+
+    public enum EvictionPolicy {
+        // Вытесняется запись, к которой дольше всего не обращались
+        LRU,
+        // Вытесняется самая старая запись
+        FIFO
+    }
+
+    private static final int MAX_SEGMENTS = 16;
+    private static final int MIN_SEGMENT_SIZE = 64;
+
+    private final MathFunction source;
+    private final int maximumSize;
+    private final EvictionPolicy policy;
+    private final long timeToLiveNanos;
+    private final LongSupplier ticker;
+    private final Segment[] segments;
+    private final int segmentShift;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public MemoizedFunction(MathFunction source, int maximumSize) {
+        this(source, maximumSize, EvictionPolicy.LRU);
+    }
+
+    public MemoizedFunction(MathFunction source, int maximumSize, EvictionPolicy policy) {
+        this(source, maximumSize, policy, Duration.ZERO);
+    }
+
+    // timeToLive = Duration.ZERO отключает ограничение по времени
+    public MemoizedFunction(MathFunction source, int maximumSize, EvictionPolicy policy, Duration timeToLive) {
+        this(source, maximumSize, policy, timeToLive, System::nanoTime);
+    }
+
+    MemoizedFunction(MathFunction source, int maximumSize, EvictionPolicy policy, Duration timeToLive,
+                     LongSupplier ticker) {
+        if (maximumSize < 1) {
+            logger.error("Invalid cache size: {}", maximumSize);
+            throw new IllegalArgumentException("Размер кэша должен быть положительным: " + maximumSize);
+        }
+        if (timeToLive.isNegative()) {
+            logger.error("Invalid time to live: {}", timeToLive);
+            throw new IllegalArgumentException("Время жизни не может быть отрицательным: " + timeToLive);
+        }
+
+        this.source = source;
+        this.maximumSize = maximumSize;
+        this.policy = policy;
+        this.timeToLiveNanos = timeToLive.toNanos();
+        this.ticker = ticker;
+
+        int segmentCount = Integer.highestOneBit(Math.max(1, Math.min(MAX_SEGMENTS, maximumSize / MIN_SEGMENT_SIZE)));
+        this.segments = new Segment[segmentCount];
+        this.segmentShift = 32 - Integer.numberOfTrailingZeros(segmentCount);
+        int base = maximumSize / segmentCount;
+        int remainder = maximumSize % segmentCount;
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment(base + (i < remainder ? 1 : 0));
+        }
+
+        logger.debug("MemoizedFunction created: size={}, policy={}, ttl={}, segments={}",
+                maximumSize, policy, timeToLive, segmentCount);
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private Segment segmentFor(int hash) {
+        return segmentShift == 32 ? segments[0] : segments[hash >>> segmentShift];
+    }
+
+    @Override
+    public double apply(double x) {
+        // doubleToLongBits приводит все NaN к одному ключу, -0.0 и 0.0 остаются разными
+        long key = Double.doubleToLongBits(x);
+        int hash = hash(key);
+        Segment segment = segmentFor(hash);
+        long now = timeToLiveNanos > 0 ? ticker.getAsLong() : 0;
+
+        synchronized (segment) {
+            int slot = segment.find(key, hash, now);
+            if (slot >= 0) {
+                hits.increment();
+                return segment.values[slot];
+            }
+        }
+
+        misses.increment();
+        double value = source.apply(x);
+        synchronized (segment) {
+            if (segment.put(key, hash, value, now)) {
+                evictions.increment();
+            }
+        }
+        return value;
+    }
+
+    public MathFunction getSource() {
+        return source;
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    public EvictionPolicy getPolicy() {
+        return policy;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    // Записи, удалённые из-за переполнения или истечения времени жизни
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    public double getHitRate() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size;
+            }
+        }
+        return size;
+    }
+
+    public void clear() {
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    public void resetStatistics() {
+        hits.reset();
+        misses.reset();
+        evictions.reset();
+    }
+
+    // Хеш-таблица с цепочками на массивах; записи связаны двусвязным списком в порядке вытеснения
+    private final class Segment {
+        private final long[] keys;
+        private final double[] values;
+        private final long[] writeTimes;
+        private final int[] chain;
+        private final int[] prev;
+        private final int[] next;
+        private final int[] buckets;
+        private final int bucketMask;
+        private int head;
+        private int tail;
+        private int free;
+        private int size;
+
+        Segment(int capacity) {
+            this.keys = new long[capacity];
+            this.values = new double[capacity];
+            this.writeTimes = new long[capacity];
+            this.chain = new int[capacity];
+            this.prev = new int[capacity];
+            this.next = new int[capacity];
+            int bucketCount = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+            this.buckets = new int[bucketCount];
+            this.bucketMask = bucketCount - 1;
+            clear();
+        }
+
+        void clear() {
+            Arrays.fill(buckets, -1);
+            for (int i = 0; i < keys.length; i++) {
+                next[i] = i + 1 < keys.length ? i + 1 : -1;
+            }
+            free = 0;
+            head = -1;
+            tail = -1;
+            size = 0;
+        }
+
+        int find(long key, int hash, long now) {
+            int slot = buckets[hash & bucketMask];
+            while (slot >= 0 && keys[slot] != key) {
+                slot = chain[slot];
+            }
+            if (slot < 0) {
+                return -1;
+            }
+            if (timeToLiveNanos > 0 && now - writeTimes[slot] >= timeToLiveNanos) {
+                remove(slot, hash);
+                evictions.increment();
+                return -1;
+            }
+            if (policy == EvictionPolicy.LRU && slot != tail) {
+                unlink(slot);
+                append(slot);
+            }
+            return slot;
+        }
+
+        // Возвращает true, если ради новой записи пришлось вытеснить старую
+        boolean put(long key, int hash, double value, long now) {
+            int bucket = hash & bucketMask;
+            for (int slot = buckets[bucket]; slot >= 0; slot = chain[slot]) {
+                if (keys[slot] == key) {
+                    values[slot] = value;
+                    writeTimes[slot] = now;
+                    return false;
+                }
+            }
+
+            boolean evicted = false;
+            if (free < 0) {
+                remove(head, hash(keys[head]));
+                evicted = true;
+            }
+            int slot = free;
+            free = next[slot];
+
+            keys[slot] = key;
+            values[slot] = value;
+            writeTimes[slot] = now;
+            chain[slot] = buckets[bucket];
+            buckets[bucket] = slot;
+            append(slot);
+            size++;
+            return evicted;
+        }
+
+        private void remove(int slot, int hash) {
+            int bucket = hash & bucketMask;
+            if (buckets[bucket] == slot) {
+                buckets[bucket] = chain[slot];
+            } else {
+                int previous = buckets[bucket];
+                while (chain[previous] != slot) {
+                    previous = chain[previous];
+                }
+                chain[previous] = chain[slot];
+            }
+            unlink(slot);
+            next[slot] = free;
+            free = slot;
+            size--;
+        }
+
+        private void unlink(int slot) {
+            if (prev[slot] >= 0) {
+                next[prev[slot]] = next[slot];
+            } else {
+                head = next[slot];
+            }
+            if (next[slot] >= 0) {
+                prev[next[slot]] = prev[slot];
+            } else {
+                tail = prev[slot];
+            }
+        }
+
+        private void append(int slot) {
+            prev[slot] = tail;
+            next[slot] = -1;
+            if (tail >= 0) {
+                next[tail] = slot;
+            } else {
+                head = slot;
+            }
+            tail = slot;
+        }
+    }
+}
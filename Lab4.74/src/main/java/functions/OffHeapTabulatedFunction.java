@@ -0,0 +1,385 @@
+package functions;
+
+import exceptions.InterpolationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+// Узлы хранятся вне кучи; память освобождается методом close()
+public class OffHeapTabulatedFunction extends AbstractTabulatedFunction implements Insertable, Removable, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(OffHeapTabulatedFunction.class);
+
+    private static final ValueLayout.OfDouble DOUBLE = ValueLayout.JAVA_DOUBLE;
+    private static final int INITIAL_CAPACITY = 10;
+
+    private Arena arena;
+    private MemorySegment xSegment;
+    private MemorySegment ySegment;
+    private long capacity;
+
+    public OffHeapTabulatedFunction(double[] xValues, double[] yValues) {
+        logger.debug("Creating OffHeapTabulatedFunction from arrays: xValues.length={}, yValues.length={}",
+                xValues.length, yValues.length);
+
+        if (xValues.length < 2) {
+            logger.error("Attempt to create function with insufficient points: {}", xValues.length);
+            throw new IllegalArgumentException("Длина должна быть не менее 2");
+        }
+        checkLengthIsTheSame(xValues, yValues);
+        checkSorted(xValues);
+
+        allocate(Math.max(xValues.length, INITIAL_CAPACITY));
+        this.count = xValues.length;
+        MemorySegment.copy(MemorySegment.ofArray(xValues), 0, xSegment, 0, (long) count * Double.BYTES);
+        MemorySegment.copy(MemorySegment.ofArray(yValues), 0, ySegment, 0, (long) count * Double.BYTES);
+
+        logger.info("OffHeapTabulatedFunction created successfully. Count: {}, Off-heap bytes: {}",
+                count, 2 * capacity * Double.BYTES);
+    }
+
+    public OffHeapTabulatedFunction(MathFunction source, double xFrom, double xTo, int count) {
+        logger.debug("Creating OffHeapTabulatedFunction from source function: xFrom={}, xTo={}, count={}",
+                xFrom, xTo, count);
+
+        if (count < 2) {
+            logger.error("Invalid count provided: {}", count);
+            throw new IllegalArgumentException("Кол-во не менее 2");
+        }
+
+        if (xFrom > xTo) {
+            logger.debug("Swapping xFrom and xTo: {} -> {}", xFrom, xTo);
+            double temp = xTo;
+            xTo = xFrom;
+            xFrom = temp;
+        }
+
+        allocate(Math.max(count, INITIAL_CAPACITY));
+        this.count = count;
+        double step = (xTo - xFrom) / (count - 1);
+        for (int i = 0; i < count; i++) {
+            double x = xFrom + i * step;
+            xSegment.setAtIndex(DOUBLE, i, x);
+            ySegment.setAtIndex(DOUBLE, i, source.apply(x));
+        }
+
+        logger.info("OffHeapTabulatedFunction created from source. Count: {}, Off-heap bytes: {}",
+                count, 2 * capacity * Double.BYTES);
+    }
+
+    // Новая арена на каждое выделение, чтобы старые сегменты освобождались сразу
+    private void allocate(long newCapacity) {
+        Arena newArena = Arena.ofShared();
+        MemorySegment newX = newArena.allocate(newCapacity * Double.BYTES, DOUBLE.byteAlignment());
+        MemorySegment newY = newArena.allocate(newCapacity * Double.BYTES, DOUBLE.byteAlignment());
+        if (arena != null) {
+            MemorySegment.copy(xSegment, 0, newX, 0, (long) count * Double.BYTES);
+            MemorySegment.copy(ySegment, 0, newY, 0, (long) count * Double.BYTES);
+            arena.close();
+        }
+        arena = newArena;
+        xSegment = newX;
+        ySegment = newY;
+        capacity = newCapacity;
+    }
+
+    @Override
+    public void close() {
+        if (arena != null) {
+            logger.info("Releasing off-heap storage of {} points", count);
+            arena.close();
+            arena = null;
+            count = 0;
+        }
+    }
+
+    public boolean isClosed() {
+        return arena == null;
+    }
+
+    private void checkOpen() {
+        if (arena == null) {
+            logger.error("Attempt to use closed OffHeapTabulatedFunction");
+            throw new IllegalStateException("Функция уже закрыта");
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= count) {
+            checkOpen();
+            logger.error("Invalid index: {} (count: {})", index, count);
+            throw new IllegalArgumentException("Индекс за пределами допустимого");
+        }
+    }
+
+    private double x(long index) {
+        return xSegment.getAtIndex(DOUBLE, index);
+    }
+
+    private double y(long index) {
+        return ySegment.getAtIndex(DOUBLE, index);
+    }
+
+    // Индекс первого узла с x > value, либо count
+    private int upperBound(double value) {
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (x(mid) > value) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    @Override
+    public double getX(int index) {
+        checkIndex(index);
+        return x(index);
+    }
+
+    @Override
+    public double getY(int index) {
+        checkIndex(index);
+        return y(index);
+    }
+
+    @Override
+    public void setY(int index, double value) {
+        checkIndex(index);
+        ySegment.setAtIndex(DOUBLE, index, value);
+    }
+
+    @Override
+    public double leftBound() {
+        checkOpen();
+        return x(0);
+    }
+
+    @Override
+    public double rightBound() {
+        checkOpen();
+        return x(count - 1);
+    }
+
+    @Override
+    public int indexOfX(double x) {
+        checkOpen();
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (x(mid) - x > -SortedArraySearch.EPSILON) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low < count && x(low) - x < SortedArraySearch.EPSILON ? low : -1;
+    }
+
+    @Override
+    public int indexOfY(double y) {
+        checkOpen();
+        for (int i = 0; i < count; i++) {
+            if (Math.abs(y(i) - y) < SortedArraySearch.EPSILON) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    protected int floorIndexOfX(double x) {
+        checkOpen();
+        if (x < x(0)) {
+            logger.error("x={} is less than left bound {}", x, x(0));
+            throw new IllegalArgumentException("x меньше левой границы: " + x);
+        }
+        return upperBound(x) - 1;
+    }
+
+    @Override
+    protected double extrapolateLeft(double x) {
+        return interpolate(x, x(0), x(1), y(0), y(1));
+    }
+
+    @Override
+    protected double extrapolateRight(double x) {
+        return interpolate(x, x(count - 2), x(count - 1), y(count - 2), y(count - 1));
+    }
+
+    @Override
+    protected double interpolate(double x, int floorIndex) {
+        if (floorIndex < 0 || floorIndex >= count - 1) {
+            logger.error("Invalid floorIndex: {} (count: {})", floorIndex, count);
+            throw new IllegalArgumentException("Некорректный floorIndex: " + floorIndex);
+        }
+        double leftX = x(floorIndex);
+        double rightX = x(floorIndex + 1);
+        if (x < leftX || x > rightX) {
+            logger.error("x={} out of interpolation range [{}, {}]", x, leftX, rightX);
+            throw new InterpolationException("x вышел за пределы interpolation");
+        }
+        return interpolate(x, leftX, rightX, y(floorIndex), y(floorIndex + 1));
+    }
+
+    @Override
+    protected double interpolate(double x, double leftX, double rightX, double leftY, double rightY) {
+        if (Math.abs(leftX - rightX) < SortedArraySearch.EPSILON) {
+            return leftY;
+        }
+        return leftY + (x - leftX) * (rightY - leftY) / (rightX - leftX);
+    }
+
+    @Override
+    public void insert(double x, double y) {
+        logger.debug("Inserting point: x={}, y={}", x, y);
+        checkOpen();
+
+        int existingIndex = indexOfX(x);
+        if (existingIndex != -1) {
+            ySegment.setAtIndex(DOUBLE, existingIndex, y);
+            return;
+        }
+
+        int insertIndex = upperBound(x);
+        if (count == capacity) {
+            logger.debug("Capacity reached ({}). Increasing capacity to {}", capacity, capacity * 2);
+            allocate(capacity * 2);
+        }
+
+        long tail = (long) (count - insertIndex) * Double.BYTES;
+        long offset = (long) insertIndex * Double.BYTES;
+        MemorySegment.copy(xSegment, offset, xSegment, offset + Double.BYTES, tail);
+        MemorySegment.copy(ySegment, offset, ySegment, offset + Double.BYTES, tail);
+        xSegment.setAtIndex(DOUBLE, insertIndex, x);
+        ySegment.setAtIndex(DOUBLE, insertIndex, y);
+        count++;
+
+        logger.info("Point inserted at index {}. New count: {}", insertIndex, count);
+    }
+
+    @Override
+    public void remove(int index) {
+        logger.debug("Removing element at index: {}", index);
+        checkIndex(index);
+
+        long tail = (long) (count - index - 1) * Double.BYTES;
+        long offset = (long) index * Double.BYTES;
+        MemorySegment.copy(xSegment, offset + Double.BYTES, xSegment, offset, tail);
+        MemorySegment.copy(ySegment, offset + Double.BYTES, ySegment, offset, tail);
+        count--;
+
+        logger.info("Element removed at index {}. New count: {}", index, count);
+    }
+
+    @Override
+    public void removeRange(int from, int to) {
+        logger.debug("Removing range [{}, {})", from, to);
+        checkOpen();
+        if (from < 0 || to > count || from > to) {
+            logger.error("Invalid remove range: [{}, {}) (count: {})", from, to, count);
+            throw new IllegalArgumentException("Диапазон выходит за границы: [" + from + ", " + to + ")");
+        }
+
+        long tail = (long) (count - to) * Double.BYTES;
+        MemorySegment.copy(xSegment, (long) to * Double.BYTES, xSegment, (long) from * Double.BYTES, tail);
+        MemorySegment.copy(ySegment, (long) to * Double.BYTES, ySegment, (long) from * Double.BYTES, tail);
+        count -= to - from;
+
+        logger.info("Range [{}, {}) removed. New count: {}", from, to, count);
+    }
+
+    // Уплотнение за один проход: сохраняемые точки переносятся на место удалённых
+    @Override
+    public int removeIf(DoubleBiPredicate filter) {
+        checkOpen();
+        int kept = 0;
+        for (int i = 0; i < count; i++) {
+            double x = xSegment.getAtIndex(DOUBLE, i);
+            double y = ySegment.getAtIndex(DOUBLE, i);
+            if (!filter.test(x, y)) {
+                xSegment.setAtIndex(DOUBLE, kept, x);
+                ySegment.setAtIndex(DOUBLE, kept, y);
+                kept++;
+            }
+        }
+        int removed = count - kept;
+        count = kept;
+
+        logger.info("Removed {} points by predicate. New count: {}", removed, count);
+        return removed;
+    }
+
+    // Перенос узлов в сегменты размером count; старая арена освобождается
+    public void trimToSize() {
+        checkOpen();
+        long newCapacity = Math.max(count, 1);
+        if (newCapacity != capacity) {
+            allocate(newCapacity);
+            logger.debug("Off-heap capacity trimmed to {}", newCapacity);
+        }
+    }
+
+    @Override
+    public void forEachPoint(DoubleBiConsumer action) {
+        checkOpen();
+        for (int i = 0; i < count; i++) {
+            action.accept(x(i), y(i));
+        }
+    }
+
+    @Override
+    public void copyX(double[] dst) {
+        checkOpen();
+        TabulatedFunction.checkDestination(dst, count);
+        MemorySegment.copy(xSegment, DOUBLE, 0, dst, 0, count);
+    }
+
+    @Override
+    public void copyY(double[] dst) {
+        checkOpen();
+        TabulatedFunction.checkDestination(dst, count);
+        MemorySegment.copy(ySegment, DOUBLE, 0, dst, 0, count);
+    }
+
+    @Override
+    public void setYs(double[] src) {
+        checkOpen();
+        TabulatedFunction.checkSource(src, count);
+        MemorySegment.copy(src, 0, ySegment, DOUBLE, 0, count);
+    }
+
+    @Override
+    public Iterator<Point> iterator() {
+        checkOpen();
+        return new Iterator<Point>() {
+            private int i = 0;
+
+            @Override
+            public boolean hasNext() {
+                return i < count;
+            }
+
+            @Override
+            public Point next() {
+                if (!hasNext()) {
+                    logger.error("Iterator next() called with no elements remaining");
+                    throw new NoSuchElementException();
+                }
+                Point point = new Point(x(i), y(i));
+                i++;
+                return point;
+            }
+        };
+    }
+}
@@ -0,0 +1,60 @@
+package functions;
+
+// Набор точек для insertAll, упорядоченный по x устойчивой сортировкой; точки с совпадающим
+// (в пределах EPSILON) x схлопываются в одну с первым x и последним y, как при вставке по одной
+final class PointBatch {
+    final double[] xValues;
+    final double[] yValues;
+    final int size;
+
+    PointBatch(double[] xs, double[] ys) {
+        AbstractTabulatedFunction.checkLengthIsTheSame(xs, ys);
+        int n = xs.length;
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        if (!AbstractTabulatedFunction.isSorted(xs, 0, n)) {
+            sort(order, new int[n], xs, 0, n);
+        }
+
+        xValues = new double[n];
+        yValues = new double[n];
+        int unique = 0;
+        for (int i = 0; i < n; i++) {
+            double x = xs[order[i]];
+            double y = ys[order[i]];
+            if (unique > 0 && Math.abs(xValues[unique - 1] - x) < SortedArraySearch.EPSILON) {
+                yValues[unique - 1] = y;
+            } else {
+                xValues[unique] = x;
+                yValues[unique] = y;
+                unique++;
+            }
+        }
+        size = unique;
+    }
+
+    // Сортировка слиянием индексов по xs[index]; устойчивость сохраняет порядок повторов
+    private static void sort(int[] order, int[] buffer, double[] xs, int from, int to) {
+        if (to - from < 2) {
+            return;
+        }
+        int middle = (from + to) >>> 1;
+        sort(order, buffer, xs, from, middle);
+        sort(order, buffer, xs, middle, to);
+        if (xs[order[middle - 1]] <= xs[order[middle]]) {
+            return;
+        }
+        System.arraycopy(order, from, buffer, from, to - from);
+        int left = from;
+        int right = middle;
+        for (int i = from; i < to; i++) {
+            if (right >= to || (left < middle && xs[buffer[left]] <= xs[buffer[right]])) {
+                order[i] = buffer[left++];
+            } else {
+                order[i] = buffer[right++];
+            }
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package functions;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+// Spliterator по паре массивов x, y в диапазоне [from, to): размер известен точно, деление
+// пополам без копирования. Изменение массивов во время обхода не отслеживается
+public final class PointSpliterator implements Spliterator<Point> {
+    private final double[] xValues;
+    private final double[] yValues;
+    private int from;
+    private final int to;
+    private final int characteristics;
+
+    // additionalCharacteristics - например, Spliterator.IMMUTABLE для неизменяемых массивов
+    public PointSpliterator(double[] xValues, double[] yValues, int from, int to, int additionalCharacteristics) {
+        this.xValues = xValues;
+        this.yValues = yValues;
+        this.from = from;
+        this.to = to;
+        this.characteristics = ORDERED | SIZED | SUBSIZED | NONNULL | additionalCharacteristics;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super Point> action) {
+        if (from >= to) {
+            return false;
+        }
+        action.accept(new Point(xValues[from], yValues[from]));
+        from++;
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super Point> action) {
+        for (int i = from; i < to; i++) {
+            action.accept(new Point(xValues[i], yValues[i]));
+        }
+        from = to;
+    }
+
+    @Override
+    public Spliterator<Point> trySplit() {
+        int middle = (from + to) >>> 1;
+        if (middle <= from) {
+            return null;
+        }
+        Spliterator<Point> prefix = new PointSpliterator(xValues, yValues, from, middle, characteristics);
+        from = middle;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return to - from;
+    }
+
+    @Override
+    public int characteristics() {
+        return characteristics;
+    }
+}
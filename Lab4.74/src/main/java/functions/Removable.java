@@ -2,4 +2,10 @@ package functions;
 
 public interface Removable {
     void remove(int index);
+
+    // Удаление точек с индексами from (включительно) .. to (не включительно) за один проход
+    void removeRange(int from, int to);
+
+    // Удаление всех точек, удовлетворяющих условию, за один проход; возвращает число удалённых
+    int removeIf(DoubleBiPredicate filter);
 }
@@ -0,0 +1,47 @@
+package functions;
+
+public final class SortedArraySearch {
+    public static final double EPSILON = 1e-10;
+
+    private SortedArraySearch() {
+        throw new UnsupportedOperationException("Невозможно создать экземпляр служебного класса");
+    }
+
+    // Индекс первого элемента a[i] с |a[i] - x| < EPSILON, либо -1
+    public static int indexOf(double[] a, int count, double x) {
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (a[mid] - x > -EPSILON) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        if (low < count && a[low] - x < EPSILON) {
+            return low;
+        }
+        return -1;
+    }
+
+    // Индекс первого элемента a[i] > x, либо count, если такого нет
+    public static int upperBound(double[] a, int count, double x) {
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (a[mid] > x) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    // Индекс последнего элемента a[i] <= x, либо -1, если x меньше a[0]
+    public static int floorIndex(double[] a, int count, double x) {
+        return upperBound(a, count, x) - 1;
+    }
+}
@@ -0,0 +1,419 @@
+package functions;
+
+import exceptions.InterpolationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.stream.DoubleStream;
+
+// Табулированная функция со сплайновой интерполяцией между узлами.
+// NATURAL_CUBIC - естественный кубический сплайн на произвольной сетке: коэффициенты
+// полиномов отрезков хранятся в массивах b, c, d. B_SPLINE - интерполяционный кубический
+// B-сплайн на равномерной сетке: значение собирается из четырёх ядер CubicBSplineFunction.
+// Коэффициенты находятся один раз методом прогонки и пересчитываются при setY.
+// Поиск отрезка - бинарный поиск, на равномерной сетке O(1). За границами функция
+// продолжается линейно с наклоном сплайна на конце (вторая производная там равна нулю).
+public class SplineTabulatedFunction extends AbstractTabulatedFunction implements Serializable {
+
+    private static final Logger logger = LoggerFactory.getLogger(SplineTabulatedFunction.class);
+
+    @Serial
+    private static final long serialVersionUID = 7392015846620154310L;
+
+    public enum SplineType {
+        NATURAL_CUBIC,
+        B_SPLINE
+    }
+
+    private final SplineType type;
+    private final double[] xValues;
+    private final double[] yValues;
+    private final boolean uniform;
+    private final double step;
+
+    // NATURAL_CUBIC: y[i] + dx * (b[i] + dx * (c[i] + dx * d[i])) на отрезке i
+    private double[] b;
+    private double[] c;
+    private double[] d;
+    // B_SPLINE: коэффициенты при ядрах, coefficients[j + 1] относится к узлу j (j = -1..count)
+    private double[] coefficients;
+
+    private double leftSlope;
+    private double rightSlope;
+
+    public SplineTabulatedFunction(double[] xValues, double[] yValues, SplineType type) {
+        logger.debug("Creating SplineTabulatedFunction: count={}, type={}", xValues.length, type);
+
+        if (xValues.length < 2) {
+            logger.error("Attempt to create function with insufficient points: {}", xValues.length);
+            throw new IllegalArgumentException("Длина должна быть не менее 2");
+        }
+        checkLengthIsTheSame(xValues, yValues);
+        checkSorted(xValues);
+
+        this.uniform = UniformGridTabulatedFunction.isUniform(xValues);
+        if (type == SplineType.B_SPLINE && !uniform) {
+            logger.error("B-spline requires a uniform grid");
+            throw new IllegalArgumentException("B-сплайн требует равномерной сетки");
+        }
+
+        this.type = type;
+        this.count = xValues.length;
+        this.xValues = Arrays.copyOf(xValues, count);
+        this.yValues = Arrays.copyOf(yValues, count);
+        this.step = (xValues[count - 1] - xValues[0]) / (count - 1);
+        computeCoefficients();
+
+        logger.info("SplineTabulatedFunction created successfully. Count: {}, Type: {}, Uniform: {}",
+                count, type, uniform);
+    }
+
+    public SplineTabulatedFunction(MathFunction source, double xFrom, double xTo, int count, SplineType type) {
+        this(uniformGrid(xFrom, xTo, count), sample(source, uniformGrid(xFrom, xTo, count)), type);
+    }
+
+    private static double[] uniformGrid(double xFrom, double xTo, int count) {
+        if (count < 2) {
+            logger.error("Invalid count provided: {}", count);
+            throw new IllegalArgumentException("Кол-во не менее 2");
+        }
+        if (xFrom > xTo) {
+            double temp = xTo;
+            xTo = xFrom;
+            xFrom = temp;
+        }
+        double[] grid = new double[count];
+        double gridStep = (xTo - xFrom) / (count - 1);
+        for (int i = 0; i < count; i++) {
+            grid[i] = xFrom + i * gridStep;
+        }
+        grid[count - 1] = xTo;
+        return grid;
+    }
+
+    private static double[] sample(MathFunction source, double[] grid) {
+        double[] values = new double[grid.length];
+        source.apply(grid, values);
+        return values;
+    }
+
+    // Решение трёхдиагональной системы lower[i] * u[i-1] + diag[i] * u[i] + upper[i] * u[i+1] = rhs[i]
+    // методом прогонки; результат записывается в rhs, diag используется как рабочий массив
+    static void solveTridiagonal(double[] lower, double[] diag, double[] upper, double[] rhs) {
+        int n = rhs.length;
+        for (int i = 1; i < n; i++) {
+            double factor = lower[i] / diag[i - 1];
+            diag[i] -= factor * upper[i - 1];
+            rhs[i] -= factor * rhs[i - 1];
+        }
+        rhs[n - 1] /= diag[n - 1];
+        for (int i = n - 2; i >= 0; i--) {
+            rhs[i] = (rhs[i] - upper[i] * rhs[i + 1]) / diag[i];
+        }
+    }
+
+    private void computeCoefficients() {
+        if (type == SplineType.NATURAL_CUBIC) {
+            computeNaturalCubic();
+        } else {
+            computeBSpline();
+        }
+    }
+
+    private void computeNaturalCubic() {
+        int segments = count - 1;
+        double[] secondDerivatives = new double[count];
+        int interior = count - 2;
+        if (interior > 0) {
+            double[] lower = new double[interior];
+            double[] diag = new double[interior];
+            double[] upper = new double[interior];
+            double[] rhs = new double[interior];
+            for (int k = 0; k < interior; k++) {
+                int i = k + 1;
+                double hLeft = xValues[i] - xValues[i - 1];
+                double hRight = xValues[i + 1] - xValues[i];
+                lower[k] = hLeft;
+                diag[k] = 2 * (hLeft + hRight);
+                upper[k] = hRight;
+                rhs[k] = 6 * ((yValues[i + 1] - yValues[i]) / hRight - (yValues[i] - yValues[i - 1]) / hLeft);
+            }
+            solveTridiagonal(lower, diag, upper, rhs);
+            System.arraycopy(rhs, 0, secondDerivatives, 1, interior);
+        }
+
+        b = new double[segments];
+        c = new double[segments];
+        d = new double[segments];
+        for (int i = 0; i < segments; i++) {
+            double h = xValues[i + 1] - xValues[i];
+            b[i] = (yValues[i + 1] - yValues[i]) / h - h * (2 * secondDerivatives[i] + secondDerivatives[i + 1]) / 6;
+            c[i] = secondDerivatives[i] / 2;
+            d[i] = (secondDerivatives[i + 1] - secondDerivatives[i]) / (6 * h);
+        }
+
+        int last = segments - 1;
+        double h = xValues[count - 1] - xValues[count - 2];
+        leftSlope = b[0];
+        rightSlope = b[last] + h * (2 * c[last] + 3 * d[last] * h);
+    }
+
+    // Условия интерполяции (c[k-1] + 4c[k] + c[k+1]) / 6 = y[k] и нулевая вторая производная
+    // на концах (c[-1] = 2c[0] - c[1]) дают c[0] = y[0], c[n-1] = y[n-1]
+    private void computeBSpline() {
+        coefficients = new double[count + 2];
+        coefficients[1] = yValues[0];
+        coefficients[count] = yValues[count - 1];
+        int interior = count - 2;
+        if (interior > 0) {
+            double[] lower = new double[interior];
+            double[] diag = new double[interior];
+            double[] upper = new double[interior];
+            double[] rhs = new double[interior];
+            for (int k = 0; k < interior; k++) {
+                lower[k] = 1;
+                diag[k] = 4;
+                upper[k] = 1;
+                rhs[k] = 6 * yValues[k + 1];
+            }
+            rhs[0] -= yValues[0];
+            rhs[interior - 1] -= yValues[count - 1];
+            solveTridiagonal(lower, diag, upper, rhs);
+            System.arraycopy(rhs, 0, coefficients, 2, interior);
+        }
+        coefficients[0] = 2 * coefficients[1] - coefficients[2];
+        coefficients[count + 1] = 2 * coefficients[count] - coefficients[count - 1];
+
+        leftSlope = (coefficients[2] - coefficients[0]) / (2 * step);
+        rightSlope = (coefficients[count + 1] - coefficients[count - 1]) / (2 * step);
+    }
+
+    public SplineType getType() {
+        return type;
+    }
+
+    // Номер отрезка [x[i], x[i+1]], содержащего x из [leftBound, rightBound]
+    private int segmentOf(double x) {
+        int index;
+        if (uniform) {
+            index = Math.min((int) ((x - xValues[0]) / step), count - 2);
+            // поправка на погрешность округления при делении
+            if (index > 0 && xValues[index] > x) {
+                index--;
+            } else if (index < count - 2 && xValues[index + 1] <= x) {
+                index++;
+            }
+            return index;
+        }
+        index = SortedArraySearch.floorIndex(xValues, count, x);
+        return Math.min(index, count - 2);
+    }
+
+    private double evaluate(double x, int segment) {
+        if (x < xValues[0]) {
+            return yValues[0] + leftSlope * (x - xValues[0]);
+        }
+        if (x > xValues[count - 1]) {
+            return yValues[count - 1] + rightSlope * (x - xValues[count - 1]);
+        }
+        if (type == SplineType.NATURAL_CUBIC) {
+            double dx = x - xValues[segment];
+            return yValues[segment] + dx * (b[segment] + dx * (c[segment] + dx * d[segment]));
+        }
+        double t = (x - xValues[0]) / step;
+        double result = 0;
+        for (int j = segment - 1; j <= segment + 2; j++) {
+            result += coefficients[j + 1] * CubicBSplineFunction.kernel(t - j);
+        }
+        return result;
+    }
+
+    @Override
+    public double apply(double x) {
+        if (x < xValues[0] || x > xValues[count - 1]) {
+            return evaluate(x, 0);
+        }
+        return evaluate(x, segmentOf(x));
+    }
+
+    @Override
+    public void apply(double[] xs, double[] out, int from, int to) {
+        MathFunction.checkRange(xs, out, from, to);
+        for (int i = from; i < to; i++) {
+            out[i] = apply(xs[i]);
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= count) {
+            logger.error("Invalid index: {} (count: {})", index, count);
+            throw new IllegalArgumentException("Индекс за пределами допустимого");
+        }
+    }
+
+    @Override
+    public double getX(int index) {
+        checkIndex(index);
+        return xValues[index];
+    }
+
+    @Override
+    public double getY(int index) {
+        checkIndex(index);
+        return yValues[index];
+    }
+
+    // Коэффициенты сплайна пересчитываются целиком, O(count)
+    @Override
+    public void setY(int index, double value) {
+        logger.debug("Setting y at index {} to {}", index, value);
+        checkIndex(index);
+        yValues[index] = value;
+        computeCoefficients();
+    }
+
+    @Override
+    public double leftBound() {
+        return xValues[0];
+    }
+
+    @Override
+    public double rightBound() {
+        return xValues[count - 1];
+    }
+
+    @Override
+    public int indexOfX(double x) {
+        return SortedArraySearch.indexOf(xValues, count, x);
+    }
+
+    @Override
+    public int indexOfY(double y) {
+        for (int i = 0; i < count; i++) {
+            if (Math.abs(yValues[i] - y) < SortedArraySearch.EPSILON) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    protected int floorIndexOfX(double x) {
+        if (x < xValues[0]) {
+            logger.error("x={} is less than left bound {}", x, xValues[0]);
+            throw new IllegalArgumentException("x меньше левой границы: " + x);
+        }
+        return SortedArraySearch.floorIndex(xValues, count, x);
+    }
+
+    @Override
+    protected double extrapolateLeft(double x) {
+        return evaluate(x, 0);
+    }
+
+    @Override
+    protected double extrapolateRight(double x) {
+        return evaluate(x, count - 2);
+    }
+
+    @Override
+    protected double interpolate(double x, int floorIndex) {
+        if (floorIndex < 0 || floorIndex >= count - 1) {
+            logger.error("Invalid floorIndex: {} (count: {})", floorIndex, count);
+            throw new IllegalArgumentException("Некорректный floorIndex: " + floorIndex);
+        }
+        if (x < xValues[floorIndex] || x > xValues[floorIndex + 1]) {
+            logger.error("x={} out of interpolation range [{}, {}]", x, xValues[floorIndex], xValues[floorIndex + 1]);
+            throw new InterpolationException("x вышел за пределы interpolation");
+        }
+        return evaluate(x, floorIndex);
+    }
+
+    @Override
+    public void forEachPoint(DoubleBiConsumer action) {
+        for (int i = 0; i < count; i++) {
+            action.accept(xValues[i], yValues[i]);
+        }
+    }
+
+    @Override
+    public void copyX(double[] dst) {
+        TabulatedFunction.checkDestination(dst, count);
+        System.arraycopy(xValues, 0, dst, 0, count);
+    }
+
+    @Override
+    public void copyY(double[] dst) {
+        TabulatedFunction.checkDestination(dst, count);
+        System.arraycopy(yValues, 0, dst, 0, count);
+    }
+
+    @Override
+    public void copyX(int from, int to, double[] dst, int offset) {
+        TabulatedFunction.checkCopyRange(from, to, count, dst, offset);
+        System.arraycopy(xValues, from, dst, offset, to - from);
+    }
+
+    @Override
+    public void copyY(int from, int to, double[] dst, int offset) {
+        TabulatedFunction.checkCopyRange(from, to, count, dst, offset);
+        System.arraycopy(yValues, from, dst, offset, to - from);
+    }
+
+    @Override
+    public boolean hasFastRangeCopy() {
+        return true;
+    }
+
+    // Коэффициенты пересчитываются один раз, а не после каждой точки
+    @Override
+    public void setYs(double[] src) {
+        TabulatedFunction.checkSource(src, count);
+        System.arraycopy(src, 0, yValues, 0, count);
+        computeCoefficients();
+    }
+
+    @Override
+    public Spliterator<Point> spliterator() {
+        return new PointSpliterator(xValues, yValues, 0, count, 0);
+    }
+
+    @Override
+    public DoubleStream xs() {
+        return Arrays.stream(xValues, 0, count);
+    }
+
+    @Override
+    public DoubleStream ys() {
+        return Arrays.stream(yValues, 0, count);
+    }
+
+    @Override
+    public Iterator<Point> iterator() {
+        return new Iterator<Point>() {
+            private int i = 0;
+
+            @Override
+            public boolean hasNext() {
+                return i < count;
+            }
+
+            @Override
+            public Point next() {
+                if (!hasNext()) {
+                    logger.error("Iterator next() called with no elements remaining");
+                    throw new NoSuchElementException();
+                }
+                Point point = new Point(xValues[i], yValues[i]);
+                i++;
+                return point;
+            }
+        };
+    }
+}
@@ -5,4 +5,13 @@ public class SqrFunction implements MathFunction {
     public double apply(double x) {
         return Math.pow(x, 2);
     }
-}
\ No newline at end of file
+
+    @Override
+    public void apply(double[] xs, double[] out, int from, int to) {
+        MathFunction.checkRange(xs, out, from, to);
+        for (int i = from; i < to; i++) {
+            double x = xs[i];
+            out[i] = x * x;
+        }
+    }
+}
@@ -1,5 +1,12 @@
 package functions;
 
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.DoubleStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 public interface TabulatedFunction extends MathFunction, Iterable<Point>{
     int getCount();
     double getX(int index);
@@ -10,4 +17,117 @@ public interface TabulatedFunction extends MathFunction, Iterable<Point>{
     double leftBound();
     double rightBound();
 
+    // Обход точек без создания объектов Point
+    default void forEachPoint(DoubleBiConsumer action) {
+        int count = getCount();
+        for (int i = 0; i < count; i++) {
+            action.accept(getX(i), getY(i));
+        }
+    }
+
+    // Копирование x в dst[0..getCount())
+    default void copyX(double[] dst) {
+        int count = getCount();
+        checkDestination(dst, count);
+        for (int i = 0; i < count; i++) {
+            dst[i] = getX(i);
+        }
+    }
+
+    // Копирование y в dst[0..getCount())
+    default void copyY(double[] dst) {
+        int count = getCount();
+        checkDestination(dst, count);
+        for (int i = 0; i < count; i++) {
+            dst[i] = getY(i);
+        }
+    }
+
+    // Копирование x[from..to) и y[from..to) в dst начиная с offset. По умолчанию через getX/getY;
+    // реализации с hasFastRangeCopy() копируют за O(to - from), поэтому части можно читать
+    // параллельно или блоками прямо в буфер размером с блок
+    default void copyX(int from, int to, double[] dst, int offset) {
+        checkCopyRange(from, to, getCount(), dst, offset);
+        for (int i = from; i < to; i++) {
+            dst[offset + i - from] = getX(i);
+        }
+    }
+
+    default void copyY(int from, int to, double[] dst, int offset) {
+        checkCopyRange(from, to, getCount(), dst, offset);
+        for (int i = from; i < to; i++) {
+            dst[offset + i - from] = getY(i);
+        }
+    }
+
+    default boolean hasFastRangeCopy() {
+        return false;
+    }
+
+    // Запись y из src[0..getCount()) одним вызовом; реализации на массивах копируют блоком
+    // и пересчитывают производные данные один раз
+    default void setYs(double[] src) {
+        int count = getCount();
+        checkSource(src, count);
+        for (int i = 0; i < count; i++) {
+            setY(i, src[i]);
+        }
+    }
+
+    // Обход точек с известным размером; реализации на массивах делят его без копирования
+    @Override
+    default Spliterator<Point> spliterator() {
+        return Spliterators.spliterator(iterator(), getCount(), Spliterator.ORDERED | Spliterator.NONNULL);
+    }
+
+    default Stream<Point> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    default Stream<Point> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    // Поток значений x без создания объектов Point
+    default DoubleStream xs() {
+        double[] xValues = new double[getCount()];
+        copyX(xValues);
+        return Arrays.stream(xValues);
+    }
+
+    // Поток значений y без создания объектов Point
+    default DoubleStream ys() {
+        double[] yValues = new double[getCount()];
+        copyY(yValues);
+        return Arrays.stream(yValues);
+    }
+
+    // Неизменяемый снимок для чтения из нескольких потоков без синхронизации
+    default FrozenTabulatedFunction freeze() {
+        return FrozenTabulatedFunction.of(this);
+    }
+
+    static void checkDestination(double[] dst, int count) {
+        if (dst.length < count) {
+            throw new IndexOutOfBoundsException(
+                    "Массив назначения длины " + dst.length + " меньше количества точек " + count);
+        }
+    }
+
+    static void checkCopyRange(int from, int to, int count, double[] dst, int offset) {
+        if (from < 0 || from > to || to > count) {
+            throw new IndexOutOfBoundsException("Диапазон [" + from + ", " + to + ") вне [0, " + count + ")");
+        }
+        if (offset < 0 || offset > dst.length - (to - from)) {
+            throw new IndexOutOfBoundsException(
+                    "Массив назначения длины " + dst.length + " не вмещает " + (to - from) + " точек с позиции " + offset);
+        }
+    }
+
+    static void checkSource(double[] src, int count) {
+        if (src.length < count) {
+            throw new IndexOutOfBoundsException(
+                    "Исходный массив длины " + src.length + " меньше количества точек " + count);
+        }
+    }
 }
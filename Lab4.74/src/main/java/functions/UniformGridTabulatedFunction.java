@@ -0,0 +1,295 @@
+package functions;
+
+import exceptions.InterpolationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+
+public class UniformGridTabulatedFunction extends AbstractTabulatedFunction implements Serializable {
+
+    private static final Logger logger = LoggerFactory.getLogger(UniformGridTabulatedFunction.class);
+
+    @Serial
+    private static final long serialVersionUID = 2915374084125608412L;
+
+    private final double xFrom;
+    private final double step;
+    private final double[] yValues;
+
+    public UniformGridTabulatedFunction(double xFrom, double xTo, double[] yValues) {
+        logger.debug("Creating UniformGridTabulatedFunction: xFrom={}, xTo={}, count={}",
+                xFrom, xTo, yValues.length);
+
+        if (yValues.length < 2) {
+            logger.error("Attempt to create function with insufficient points: {}", yValues.length);
+            throw new IllegalArgumentException("Длина должна быть не менее 2");
+        }
+        if (!(xFrom < xTo)) {
+            logger.error("Invalid grid bounds: xFrom={}, xTo={}", xFrom, xTo);
+            throw new IllegalArgumentException("Левая граница должна быть меньше правой");
+        }
+
+        this.count = yValues.length;
+        this.xFrom = xFrom;
+        this.step = (xTo - xFrom) / (count - 1);
+        this.yValues = Arrays.copyOf(yValues, count);
+
+        logger.info("UniformGridTabulatedFunction created successfully. Count: {}, Step: {}", count, step);
+    }
+
+    public UniformGridTabulatedFunction(MathFunction source, double xFrom, double xTo, int count) {
+        logger.debug("Creating UniformGridTabulatedFunction from source function: xFrom={}, xTo={}, count={}",
+                xFrom, xTo, count);
+
+        if (count < 2) {
+            logger.error("Invalid count provided: {}", count);
+            throw new IllegalArgumentException("Кол-во не менее 2");
+        }
+
+        if (xFrom > xTo) {
+            logger.debug("Swapping xFrom and xTo: {} -> {}", xFrom, xTo);
+            double temp = xTo;
+            xTo = xFrom;
+            xFrom = temp;
+        }
+        if (xFrom == xTo) {
+            logger.error("Degenerate grid: xFrom == xTo == {}", xFrom);
+            throw new IllegalArgumentException("Левая граница должна быть меньше правой");
+        }
+
+        this.count = count;
+        this.xFrom = xFrom;
+        this.step = (xTo - xFrom) / (count - 1);
+        this.yValues = new double[count];
+        for (int i = 0; i < count; i++) {
+            yValues[i] = source.apply(xFrom + i * step);
+        }
+
+        logger.info("UniformGridTabulatedFunction created from source. Count: {}, Step: {}", count, step);
+    }
+
+    // Проверяет, что узлы xValues образуют равномерную сетку xValues[0] + i * step
+    public static boolean isUniform(double[] xValues) {
+        int count = xValues.length;
+        if (count < 2 || !(xValues[0] < xValues[count - 1])) {
+            return false;
+        }
+        double xFrom = xValues[0];
+        double step = (xValues[count - 1] - xFrom) / (count - 1);
+        for (int i = 1; i < count - 1; i++) {
+            double expected = xFrom + i * step;
+            if (Math.abs(xValues[i] - expected) > SortedArraySearch.EPSILON * Math.max(1.0, Math.abs(expected))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public double getStep() {
+        return step;
+    }
+
+    public boolean hasSameGrid(UniformGridTabulatedFunction other) {
+        return count == other.count && xFrom == other.xFrom && step == other.step;
+    }
+
+    @Override
+    public double getX(int index) {
+        if (index < 0 || index >= count) {
+            logger.error("Invalid index for getX: {} (count: {})", index, count);
+            throw new IllegalArgumentException("Индекс за пределами допустимого");
+        }
+        return xFrom + index * step;
+    }
+
+    @Override
+    public double getY(int index) {
+        if (index < 0 || index >= count) {
+            logger.error("Invalid index for getY: {} (count: {})", index, count);
+            throw new IllegalArgumentException("Индекс за пределами допустимого");
+        }
+        return yValues[index];
+    }
+
+    @Override
+    public void setY(int index, double value) {
+        logger.debug("Setting y at index {} to {}", index, value);
+        if (index < 0 || index >= count) {
+            logger.error("Invalid index for setY: {} (count: {})", index, count);
+            throw new IllegalArgumentException("Индекс за пределами допустимого");
+        }
+        yValues[index] = value;
+    }
+
+    @Override
+    public double leftBound() {
+        return xFrom;
+    }
+
+    @Override
+    public double rightBound() {
+        return xFrom + (count - 1) * step;
+    }
+
+    @Override
+    public int indexOfX(double x) {
+        double position = Math.rint((x - xFrom) / step);
+        if (!(position > -2 && position < count + 1)) {
+            return -1;
+        }
+        int nearest = (int) position;
+        for (int i = Math.max(0, nearest - 1); i <= Math.min(count - 1, nearest + 1); i++) {
+            if (Math.abs(xFrom + i * step - x) < SortedArraySearch.EPSILON) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int indexOfY(double y) {
+        for (int i = 0; i < count; i++) {
+            if (Math.abs(yValues[i] - y) < SortedArraySearch.EPSILON) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    protected int floorIndexOfX(double x) {
+        if (x < xFrom) {
+            logger.error("x={} is less than left bound {}", x, xFrom);
+            throw new IllegalArgumentException("x меньше левой границы: " + x);
+        }
+        double position = Math.floor((x - xFrom) / step);
+        if (!(position < count - 1)) {
+            return count - 1;
+        }
+        int index = (int) position;
+        // Поправка на ошибку округления при делении
+        if (index > 0 && xFrom + index * step > x) {
+            index--;
+        } else if (xFrom + (index + 1) * step <= x) {
+            index++;
+        }
+        return index;
+    }
+
+    @Override
+    protected double extrapolateLeft(double x) {
+        return interpolate(x, xFrom, xFrom + step, yValues[0], yValues[1]);
+    }
+
+    @Override
+    protected double extrapolateRight(double x) {
+        return interpolate(x, xFrom + (count - 2) * step, xFrom + (count - 1) * step,
+                yValues[count - 2], yValues[count - 1]);
+    }
+
+    @Override
+    protected double interpolate(double x, int floorIndex) {
+        if (floorIndex < 0 || floorIndex >= count - 1) {
+            logger.error("Invalid floorIndex: {} (count: {})", floorIndex, count);
+            throw new IllegalArgumentException("Некорректный floorIndex: " + floorIndex);
+        }
+        double leftX = xFrom + floorIndex * step;
+        double rightX = xFrom + (floorIndex + 1) * step;
+        if (x < leftX || x > rightX) {
+            logger.error("x={} out of interpolation range [{}, {}]", x, leftX, rightX);
+            throw new InterpolationException("x вышел за пределы interpolation");
+        }
+        return interpolate(x, leftX, rightX, yValues[floorIndex], yValues[floorIndex + 1]);
+    }
+
+    @Override
+    protected double interpolate(double x, double leftX, double rightX, double leftY, double rightY) {
+        return leftY + (x - leftX) * (rightY - leftY) / (rightX - leftX);
+    }
+
+    @Override
+    public void forEachPoint(DoubleBiConsumer action) {
+        for (int i = 0; i < count; i++) {
+            action.accept(xFrom + i * step, yValues[i]);
+        }
+    }
+
+    @Override
+    public void copyX(double[] dst) {
+        TabulatedFunction.checkDestination(dst, count);
+        for (int i = 0; i < count; i++) {
+            dst[i] = xFrom + i * step;
+        }
+    }
+
+    @Override
+    public void copyY(double[] dst) {
+        TabulatedFunction.checkDestination(dst, count);
+        System.arraycopy(yValues, 0, dst, 0, count);
+    }
+
+    @Override
+    public void copyX(int from, int to, double[] dst, int offset) {
+        TabulatedFunction.checkCopyRange(from, to, count, dst, offset);
+        for (int i = from; i < to; i++) {
+            dst[offset + i - from] = xFrom + i * step;
+        }
+    }
+
+    @Override
+    public void copyY(int from, int to, double[] dst, int offset) {
+        TabulatedFunction.checkCopyRange(from, to, count, dst, offset);
+        System.arraycopy(yValues, from, dst, offset, to - from);
+    }
+
+    @Override
+    public boolean hasFastRangeCopy() {
+        return true;
+    }
+
+    @Override
+    public void setYs(double[] src) {
+        TabulatedFunction.checkSource(src, count);
+        System.arraycopy(src, 0, yValues, 0, count);
+    }
+
+    @Override
+    public DoubleStream xs() {
+        return IntStream.range(0, count).mapToDouble(i -> xFrom + i * step);
+    }
+
+    @Override
+    public DoubleStream ys() {
+        return Arrays.stream(yValues, 0, count);
+    }
+
+    @Override
+    public Iterator<Point> iterator() {
+        return new Iterator<Point>() {
+            private int i = 0;
+
+            @Override
+            public boolean hasNext() {
+                return i < count;
+            }
+
+            @Override
+            public Point next() {
+                if (!hasNext()) {
+                    logger.error("Iterator next() called with no elements remaining");
+                    throw new NoSuchElementException();
+                }
+                Point point = new Point(xFrom + i * step, yValues[i]);
+                i++;
+                return point;
+            }
+        };
+    }
+}
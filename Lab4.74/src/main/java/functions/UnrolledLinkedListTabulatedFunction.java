@@ -0,0 +1,488 @@
+package functions;
+
+import exceptions.InterpolationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+public class UnrolledLinkedListTabulatedFunction extends AbstractTabulatedFunction implements Insertable, Removable, Serializable {
+
+    private static final Logger logger = LoggerFactory.getLogger(UnrolledLinkedListTabulatedFunction.class);
+
+    @Serial
+    private static final long serialVersionUID = 4417016582359403775L;
+
+    static final int CHUNK_CAPACITY = 64;
+
+    private static final class Chunk implements Serializable {
+        @Serial
+        private static final long serialVersionUID = -3050926218373271870L;
+
+        final double[] x = new double[CHUNK_CAPACITY];
+        final double[] y = new double[CHUNK_CAPACITY];
+        int size;
+        int start;
+
+        double lastX() {
+            return x[size - 1];
+        }
+    }
+
+    private final ArrayList<Chunk> chunks = new ArrayList<>();
+    private transient int lastChunk;
+
+    public UnrolledLinkedListTabulatedFunction(double[] xValues, double[] yValues) {
+        logger.debug("Creating UnrolledLinkedListTabulatedFunction from arrays: xValues.length={}, yValues.length={}",
+                xValues.length, yValues.length);
+
+        if (xValues.length < 2) {
+            logger.error("Attempt to create function with insufficient points: {}", xValues.length);
+            throw new IllegalArgumentException("Длина должна быть не менее 2");
+        }
+        checkLengthIsTheSame(xValues, yValues);
+        checkSorted(xValues);
+
+        for (int i = 0; i < xValues.length; i++) {
+            append(xValues[i], yValues[i]);
+        }
+
+        logger.info("UnrolledLinkedListTabulatedFunction created successfully. Count: {}, Chunks: {}",
+                count, chunks.size());
+    }
+
+    public UnrolledLinkedListTabulatedFunction(MathFunction source, double xFrom, double xTo, int count) {
+        logger.debug("Creating UnrolledLinkedListTabulatedFunction from source function: xFrom={}, xTo={}, count={}",
+                xFrom, xTo, count);
+
+        if (count < 2) {
+            logger.error("Invalid count provided: {}", count);
+            throw new IllegalArgumentException("Длина меньше минимальной 2 точки");
+        }
+
+        if (xFrom > xTo) {
+            logger.debug("Swapping xFrom and xTo: {} -> {}", xFrom, xTo);
+            double temp = xFrom;
+            xFrom = xTo;
+            xTo = temp;
+        }
+
+        double step = (xTo - xFrom) / (count - 1);
+        for (int i = 0; i < count; i++) {
+            double x = xFrom + i * step;
+            append(x, source.apply(x));
+        }
+
+        logger.info("UnrolledLinkedListTabulatedFunction created from source. Count: {}, Chunks: {}",
+                this.count, chunks.size());
+    }
+
+    private void append(double x, double y) {
+        Chunk last = chunks.isEmpty() ? null : chunks.get(chunks.size() - 1);
+        if (last == null || last.size == CHUNK_CAPACITY) {
+            last = new Chunk();
+            last.start = count;
+            chunks.add(last);
+        }
+        last.x[last.size] = x;
+        last.y[last.size] = y;
+        last.size++;
+        count++;
+    }
+
+    // Номер блока, содержащего элемент с индексом index; последний найденный блок кешируется
+    private int chunkOfIndex(int index) {
+        if (index < 0 || index >= count) {
+            logger.error("Invalid index: {} (count: {})", index, count);
+            throw new IllegalArgumentException("Индекс выходит за границы: " + index);
+        }
+
+        if (lastChunk < chunks.size()) {
+            Chunk cached = chunks.get(lastChunk);
+            if (index >= cached.start && index < cached.start + cached.size) {
+                return lastChunk;
+            }
+        }
+
+        int low = 0;
+        int high = chunks.size() - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (chunks.get(mid).start <= index) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        lastChunk = low;
+        return low;
+    }
+
+    // Номер последнего блока, первый x которого не больше x, либо 0
+    private int chunkOfX(double x) {
+        int low = 0;
+        int high = chunks.size() - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (chunks.get(mid).x[0] <= x) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    // Пересчет начальных индексов блоков, начиная с блока fromChunk
+    private void renumberFrom(int fromChunk) {
+        int start = 0;
+        if (fromChunk > 0) {
+            Chunk previous = chunks.get(fromChunk - 1);
+            start = previous.start + previous.size;
+        }
+        for (int i = fromChunk; i < chunks.size(); i++) {
+            Chunk chunk = chunks.get(i);
+            chunk.start = start;
+            start += chunk.size;
+        }
+    }
+
+    @Override
+    public double getX(int index) {
+        Chunk chunk = chunks.get(chunkOfIndex(index));
+        return chunk.x[index - chunk.start];
+    }
+
+    @Override
+    public double getY(int index) {
+        Chunk chunk = chunks.get(chunkOfIndex(index));
+        return chunk.y[index - chunk.start];
+    }
+
+    @Override
+    public void setY(int index, double value) {
+        logger.debug("Setting y at index {} to {}", index, value);
+        Chunk chunk = chunks.get(chunkOfIndex(index));
+        chunk.y[index - chunk.start] = value;
+    }
+
+    @Override
+    public int indexOfX(double x) {
+        if (count == 0) {
+            return -1;
+        }
+
+        int low = 0;
+        int high = chunks.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (chunks.get(mid).lastX() - x > -SortedArraySearch.EPSILON) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        if (low == chunks.size()) {
+            return -1;
+        }
+
+        Chunk chunk = chunks.get(low);
+        int local = SortedArraySearch.indexOf(chunk.x, chunk.size, x);
+        return local == -1 ? -1 : chunk.start + local;
+    }
+
+    @Override
+    public int indexOfY(double y) {
+        for (Chunk chunk : chunks) {
+            for (int i = 0; i < chunk.size; i++) {
+                if (Math.abs(chunk.y[i] - y) < SortedArraySearch.EPSILON) {
+                    return chunk.start + i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public double leftBound() {
+        if (count == 0) {
+            logger.error("Attempt to get left bound of empty function");
+            throw new IllegalStateException("Функция пустая");
+        }
+        return chunks.get(0).x[0];
+    }
+
+    @Override
+    public double rightBound() {
+        if (count == 0) {
+            logger.error("Attempt to get right bound of empty function");
+            throw new IllegalStateException("Функция пустая");
+        }
+        return chunks.get(chunks.size() - 1).lastX();
+    }
+
+    @Override
+    protected int floorIndexOfX(double x) {
+        if (x < leftBound()) {
+            logger.error("x={} is less than left bound {}", x, leftBound());
+            throw new IllegalArgumentException("x меньше левой границы: " + x);
+        }
+        Chunk chunk = chunks.get(chunkOfX(x));
+        return chunk.start + SortedArraySearch.floorIndex(chunk.x, chunk.size, x);
+    }
+
+    @Override
+    protected double extrapolateLeft(double x) {
+        return interpolate(x, getX(0), getX(1), getY(0), getY(1));
+    }
+
+    @Override
+    protected double extrapolateRight(double x) {
+        return interpolate(x, getX(count - 2), getX(count - 1), getY(count - 2), getY(count - 1));
+    }
+
+    @Override
+    protected double interpolate(double x, int floorIndex) {
+        if (floorIndex < 0 || floorIndex >= count - 1) {
+            logger.error("Invalid floorIndex: {} (count: {})", floorIndex, count);
+            throw new IllegalArgumentException("Некорректный floorIndex: " + floorIndex);
+        }
+        double leftX = getX(floorIndex);
+        double rightX = getX(floorIndex + 1);
+        if (x < leftX || x > rightX) {
+            logger.error("x={} out of interpolation range [{}, {}]", x, leftX, rightX);
+            throw new InterpolationException("x вышел за пределы interpolation");
+        }
+        return interpolate(x, leftX, rightX, getY(floorIndex), getY(floorIndex + 1));
+    }
+
+    @Override
+    protected double interpolate(double x, double leftX, double rightX, double leftY, double rightY) {
+        if (Math.abs(leftX - rightX) < SortedArraySearch.EPSILON) {
+            return leftY;
+        }
+        return leftY + (x - leftX) * (rightY - leftY) / (rightX - leftX);
+    }
+
+    @Override
+    public void insert(double x, double y) {
+        logger.debug("Inserting point: x={}, y={}", x, y);
+
+        if (count == 0) {
+            append(x, y);
+            return;
+        }
+
+        int existingIndex = indexOfX(x);
+        if (existingIndex != -1) {
+            logger.debug("Point with x={} already exists at index {}. Updating y to {}", x, existingIndex, y);
+            setY(existingIndex, y);
+            return;
+        }
+
+        int chunkIndex = chunkOfX(x);
+        Chunk chunk = chunks.get(chunkIndex);
+        int local = SortedArraySearch.upperBound(chunk.x, chunk.size, x);
+
+        if (chunk.size == CHUNK_CAPACITY) {
+            logger.debug("Chunk {} is full, splitting", chunkIndex);
+            int half = CHUNK_CAPACITY / 2;
+            Chunk upper = new Chunk();
+            upper.size = chunk.size - half;
+            System.arraycopy(chunk.x, half, upper.x, 0, upper.size);
+            System.arraycopy(chunk.y, half, upper.y, 0, upper.size);
+            chunk.size = half;
+            chunks.add(chunkIndex + 1, upper);
+            if (local > half) {
+                chunkIndex++;
+                chunk = upper;
+                local -= half;
+            }
+        }
+
+        System.arraycopy(chunk.x, local, chunk.x, local + 1, chunk.size - local);
+        System.arraycopy(chunk.y, local, chunk.y, local + 1, chunk.size - local);
+        chunk.x[local] = x;
+        chunk.y[local] = y;
+        chunk.size++;
+        count++;
+        renumberFrom(Math.max(0, chunkIndex - 1));
+
+        logger.info("Point inserted. New count: {}", count);
+    }
+
+    @Override
+    public void remove(int index) {
+        logger.debug("Removing element at index: {}", index);
+        if (index < 0 || index >= count) {
+            logger.error("Invalid remove index: {} (count: {})", index, count);
+            throw new IllegalArgumentException("Индекс выходит за границы: " + index);
+        }
+
+        int chunkIndex = chunkOfIndex(index);
+        Chunk chunk = chunks.get(chunkIndex);
+        int local = index - chunk.start;
+        System.arraycopy(chunk.x, local + 1, chunk.x, local, chunk.size - local - 1);
+        System.arraycopy(chunk.y, local + 1, chunk.y, local, chunk.size - local - 1);
+        chunk.size--;
+        count--;
+
+        if (chunk.size == 0) {
+            chunks.remove(chunkIndex);
+        } else if (chunkIndex + 1 < chunks.size()
+                && chunk.size + chunks.get(chunkIndex + 1).size <= CHUNK_CAPACITY / 2) {
+            Chunk next = chunks.remove(chunkIndex + 1);
+            System.arraycopy(next.x, 0, chunk.x, chunk.size, next.size);
+            System.arraycopy(next.y, 0, chunk.y, chunk.size, next.size);
+            chunk.size += next.size;
+        }
+        renumberFrom(Math.min(chunkIndex, chunks.size()));
+
+        logger.info("Element removed at index {}. New count: {}", index, count);
+    }
+
+    // Сдвиг внутри затронутых блоков, затем одно уплотнение и один пересчёт индексов
+    @Override
+    public void removeRange(int from, int to) {
+        logger.debug("Removing range [{}, {})", from, to);
+        if (from < 0 || to > count || from > to) {
+            logger.error("Invalid remove range: [{}, {}) (count: {})", from, to, count);
+            throw new IllegalArgumentException("Диапазон выходит за границы: [" + from + ", " + to + ")");
+        }
+        if (from == to) {
+            return;
+        }
+
+        int firstChunk = chunkOfIndex(from);
+        int chunkIndex = firstChunk;
+        while (chunkIndex < chunks.size() && chunks.get(chunkIndex).start < to) {
+            Chunk chunk = chunks.get(chunkIndex);
+            int low = Math.max(from, chunk.start) - chunk.start;
+            int high = Math.min(to, chunk.start + chunk.size) - chunk.start;
+            System.arraycopy(chunk.x, high, chunk.x, low, chunk.size - high);
+            System.arraycopy(chunk.y, high, chunk.y, low, chunk.size - high);
+            chunk.size -= high - low;
+            chunkIndex++;
+        }
+        count -= to - from;
+        packChunks(firstChunk, chunkIndex);
+
+        logger.info("Range [{}, {}) removed. New count: {}", from, to, count);
+    }
+
+    // Уплотнение каждого блока за один проход, затем слияние опустевших блоков
+    @Override
+    public int removeIf(DoubleBiPredicate filter) {
+        int removed = 0;
+        for (Chunk chunk : chunks) {
+            int kept = 0;
+            for (int i = 0; i < chunk.size; i++) {
+                if (!filter.test(chunk.x[i], chunk.y[i])) {
+                    chunk.x[kept] = chunk.x[i];
+                    chunk.y[kept] = chunk.y[i];
+                    kept++;
+                }
+            }
+            removed += chunk.size - kept;
+            chunk.size = kept;
+        }
+        if (removed > 0) {
+            count -= removed;
+            packChunks(0, chunks.size());
+        }
+
+        logger.info("Removed {} points by predicate. New count: {}", removed, count);
+        return removed;
+    }
+
+    // Удаление пустых блоков среди [fromChunk, toChunk] и слияние соседей, вместе занимающих
+    // не больше половины блока (как в remove); затем пересчёт начальных индексов
+    private void packChunks(int fromChunk, int toChunk) {
+        int end = Math.min(toChunk + 1, chunks.size());
+        int write = fromChunk;
+        Chunk previous = fromChunk > 0 ? chunks.get(fromChunk - 1) : null;
+        for (int i = fromChunk; i < end; i++) {
+            Chunk chunk = chunks.get(i);
+            if (chunk.size == 0) {
+                continue;
+            }
+            if (previous != null && previous.size + chunk.size <= CHUNK_CAPACITY / 2) {
+                System.arraycopy(chunk.x, 0, previous.x, previous.size, chunk.size);
+                System.arraycopy(chunk.y, 0, previous.y, previous.size, chunk.size);
+                previous.size += chunk.size;
+                continue;
+            }
+            chunks.set(write++, chunk);
+            previous = chunk;
+        }
+        chunks.subList(write, end).clear();
+        lastChunk = 0;
+        renumberFrom(fromChunk);
+    }
+
+    @Override
+    public void forEachPoint(DoubleBiConsumer action) {
+        for (Chunk chunk : chunks) {
+            for (int i = 0; i < chunk.size; i++) {
+                action.accept(chunk.x[i], chunk.y[i]);
+            }
+        }
+    }
+
+    @Override
+    public void copyX(double[] dst) {
+        TabulatedFunction.checkDestination(dst, count);
+        for (Chunk chunk : chunks) {
+            System.arraycopy(chunk.x, 0, dst, chunk.start, chunk.size);
+        }
+    }
+
+    @Override
+    public void copyY(double[] dst) {
+        TabulatedFunction.checkDestination(dst, count);
+        for (Chunk chunk : chunks) {
+            System.arraycopy(chunk.y, 0, dst, chunk.start, chunk.size);
+        }
+    }
+
+    @Override
+    public void setYs(double[] src) {
+        TabulatedFunction.checkSource(src, count);
+        for (Chunk chunk : chunks) {
+            System.arraycopy(src, chunk.start, chunk.y, 0, chunk.size);
+        }
+    }
+
+    @Override
+    public Iterator<Point> iterator() {
+        return new Iterator<Point>() {
+            private int chunkIndex = 0;
+            private int position = 0;
+
+            @Override
+            public boolean hasNext() {
+                return chunkIndex < chunks.size() && position < chunks.get(chunkIndex).size;
+            }
+
+            @Override
+            public Point next() {
+                if (!hasNext()) {
+                    logger.error("Iterator next() called with no elements remaining");
+                    throw new NoSuchElementException("Нет элементов");
+                }
+                Chunk chunk = chunks.get(chunkIndex);
+                Point point = new Point(chunk.x[position], chunk.y[position]);
+                position++;
+                if (position == chunk.size) {
+                    chunkIndex++;
+                    position = 0;
+                }
+                return point;
+            }
+        };
+    }
+}
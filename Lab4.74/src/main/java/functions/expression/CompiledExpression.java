@@ -0,0 +1,126 @@
+package functions.expression;
+
+import functions.MathFunction;
+
+import java.util.Arrays;
+import java.util.List;
+
+// Выражение, скомпилированное в линейную программу: одна инструкция на уникальный узел,
+// результат инструкции i хранится в регистре i. Общие подвыражения вычисляются один раз.
+// Пакетный apply выполняет каждую инструкцию сразу для блока из BLOCK_SIZE точек.
+public final class CompiledExpression implements MathFunction {
+    private static final int BLOCK_SIZE = 256;
+
+    private final String signature;
+    private final int[] ops;
+    private final int[] left;
+    private final int[] right;
+    private final double[] values;
+    // Регистры скалярного apply; выражение может вызываться из нескольких потоков
+    private final ThreadLocal<double[]> scalarRegisters;
+
+    CompiledExpression(String signature, List<Node> program) {
+        this.signature = signature;
+        int size = program.size();
+        this.ops = new int[size];
+        this.left = new int[size];
+        this.right = new int[size];
+        this.values = new double[size];
+        int[] registers = new int[program.get(size - 1).id + 1];
+        for (int i = 0; i < size; i++) {
+            Node node = program.get(i);
+            registers[node.id] = i;
+            ops[i] = node.op;
+            left[i] = node.left != null ? registers[node.left.id] : -1;
+            right[i] = node.right != null ? registers[node.right.id] : -1;
+            values[i] = node.value;
+        }
+        this.scalarRegisters = ThreadLocal.withInitial(() -> new double[size]);
+    }
+
+    public String getSignature() {
+        return signature;
+    }
+
+    // Количество инструкций после свёртки констант и устранения общих подвыражений
+    public int getInstructionCount() {
+        return ops.length;
+    }
+
+    @Override
+    public double apply(double x) {
+        double[] registers = scalarRegisters.get();
+        for (int i = 0; i < ops.length; i++) {
+            switch (ops[i]) {
+                case Node.CONST:
+                    registers[i] = values[i];
+                    break;
+                case Node.VAR:
+                    registers[i] = x;
+                    break;
+                default:
+                    registers[i] = Node.evaluate(ops[i], registers[left[i]], right[i] >= 0 ? registers[right[i]] : 0);
+                    break;
+            }
+        }
+        return registers[ops.length - 1];
+    }
+
+    @Override
+    public void apply(double[] xs, double[] out, int from, int to) {
+        MathFunction.checkRange(xs, out, from, to);
+        double[][] registers = new double[ops.length][Math.min(BLOCK_SIZE, to - from)];
+        for (int start = from; start < to; start += BLOCK_SIZE) {
+            int length = Math.min(BLOCK_SIZE, to - start);
+            for (int i = 0; i < ops.length; i++) {
+                execute(i, registers, xs, start, length);
+            }
+            System.arraycopy(registers[ops.length - 1], 0, out, start, length);
+        }
+    }
+
+    private void execute(int i, double[][] registers, double[] xs, int start, int length) {
+        double[] r = registers[i];
+        double[] a = left[i] >= 0 ? registers[left[i]] : null;
+        double[] b = right[i] >= 0 ? registers[right[i]] : null;
+        switch (ops[i]) {
+            case Node.CONST:
+                Arrays.fill(r, 0, length, values[i]);
+                break;
+            case Node.VAR:
+                System.arraycopy(xs, start, r, 0, length);
+                break;
+            case Node.ADD:
+                for (int k = 0; k < length; k++) {
+                    r[k] = a[k] + b[k];
+                }
+                break;
+            case Node.SUB:
+                for (int k = 0; k < length; k++) {
+                    r[k] = a[k] - b[k];
+                }
+                break;
+            case Node.MUL:
+                for (int k = 0; k < length; k++) {
+                    r[k] = a[k] * b[k];
+                }
+                break;
+            case Node.DIV:
+                for (int k = 0; k < length; k++) {
+                    r[k] = a[k] / b[k];
+                }
+                break;
+            default:
+                int op = ops[i];
+                for (int k = 0; k < length; k++) {
+                    r[k] = Node.evaluate(op, a[k], b != null ? b[k] : 0);
+                }
+                break;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "CompiledExpression[" + signature + "]";
+    }
+}
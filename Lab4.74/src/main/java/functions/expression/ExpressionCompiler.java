@@ -0,0 +1,70 @@
+package functions.expression;
+
+import functions.MathFunction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Компиляция сигнатур вида "f(x) = x^2 + sin(x)" в MathFunction.
+// Поддерживаются + - * / ^, ², ³, неявное умножение ("2x"), константы e и pi,
+// функции sin, cos, tan, exp, ln (log), sqrt, abs. Результаты кэшируются по тексту сигнатуры.
+public final class ExpressionCompiler {
+    private static final Logger logger = LoggerFactory.getLogger(ExpressionCompiler.class);
+
+    private static final int MAX_CACHE_SIZE = 1024;
+    private static final Map<String, CompiledExpression> cache = new ConcurrentHashMap<>();
+
+    private ExpressionCompiler() {
+        throw new UnsupportedOperationException("Невозможно создать экземпляр служебного класса");
+    }
+
+    public static CompiledExpression compile(String signature) {
+        CompiledExpression cached = cache.get(signature);
+        if (cached != null) {
+            return cached;
+        }
+        CompiledExpression compiled = compileUncached(signature);
+        if (cache.size() >= MAX_CACHE_SIZE) {
+            logger.debug("Expression cache is full, clearing {} entries", cache.size());
+            cache.clear();
+        }
+        cache.putIfAbsent(signature, compiled);
+        return compiled;
+    }
+
+    static CompiledExpression compileUncached(String signature) {
+        logger.debug("Compiling expression: {}", signature);
+        NodeTable table = new NodeTable();
+        Node root = new ExpressionParser(signature, table).parse();
+
+        // Только узлы, достижимые из корня: промежуточные результаты свёртки в программу не попадают
+        List<Node> all = table.nodes();
+        boolean[] reachable = new boolean[all.size()];
+        reachable[root.id] = true;
+        for (int i = root.id; i >= 0; i--) {
+            Node node = all.get(i);
+            if (reachable[i]) {
+                if (node.left != null) {
+                    reachable[node.left.id] = true;
+                }
+                if (node.right != null) {
+                    reachable[node.right.id] = true;
+                }
+            }
+        }
+        List<Node> program = new ArrayList<>();
+        for (int i = 0; i <= root.id; i++) {
+            if (reachable[i]) {
+                program.add(all.get(i));
+            }
+        }
+
+        CompiledExpression compiled = new CompiledExpression(signature, program);
+        logger.debug("Expression {} compiled into {} instructions", signature, compiled.getInstructionCount());
+        return compiled;
+    }
+}
@@ -0,0 +1,207 @@
+package functions.expression;
+
+import exceptions.ExpressionParseException;
+
+// Рекурсивный спуск по грамматике:
+//   expression = term (('+' | '-') term)*
+//   term       = unary (('*' | '/') unary | unary)*     -- второй вариант: неявное умножение, "2x"
+//   unary      = ('-' | '+') unary | power
+//   power      = primary ('^' unary | '²' | '³')*       -- '^' правоассоциативна
+//   primary    = number | 'x' | 'e' | 'pi' | name '(' expression ')' | '(' expression ')'
+// Префикс вида "f(x) =" отбрасывается.
+final class ExpressionParser {
+    private final String text;
+    private final NodeTable table;
+    private int position;
+
+    ExpressionParser(String signature, NodeTable table) {
+        int equals = signature.lastIndexOf('=');
+        this.text = equals >= 0 ? signature.substring(equals + 1) : signature;
+        this.table = table;
+    }
+
+    Node parse() {
+        Node result = expression();
+        skipSpaces();
+        if (position < text.length()) {
+            throw error("Неожиданный символ '" + text.charAt(position) + "'");
+        }
+        return result;
+    }
+
+    private Node expression() {
+        Node result = term();
+        while (true) {
+            if (accept('+')) {
+                result = table.binary(Node.ADD, result, term());
+            } else if (accept('-')) {
+                result = table.binary(Node.SUB, result, term());
+            } else {
+                return result;
+            }
+        }
+    }
+
+    private Node term() {
+        Node result = unary();
+        while (true) {
+            if (accept('*')) {
+                result = table.binary(Node.MUL, result, unary());
+            } else if (accept('/')) {
+                result = table.binary(Node.DIV, result, unary());
+            } else if (startsOperand()) {
+                result = table.binary(Node.MUL, result, power());
+            } else {
+                return result;
+            }
+        }
+    }
+
+    private Node unary() {
+        if (accept('-')) {
+            return table.unary(Node.NEG, unary());
+        }
+        if (accept('+')) {
+            return unary();
+        }
+        return power();
+    }
+
+    private Node power() {
+        Node result = primary();
+        while (true) {
+            if (accept('^')) {
+                return table.binary(Node.POW, result, unary());
+            } else if (accept('²')) {
+                result = table.binary(Node.POW, result, table.constant(2));
+            } else if (accept('³')) {
+                result = table.binary(Node.POW, result, table.constant(3));
+            } else {
+                return result;
+            }
+        }
+    }
+
+    private Node primary() {
+        skipSpaces();
+        if (position >= text.length()) {
+            throw error("Неожиданный конец выражения");
+        }
+        char c = text.charAt(position);
+        if (accept('(')) {
+            Node inner = expression();
+            expect(')');
+            return inner;
+        }
+        if (Character.isDigit(c) || c == '.') {
+            return table.constant(number());
+        }
+        if (Character.isLetter(c)) {
+            String name = identifier();
+            switch (name) {
+                case "x":
+                    return table.variable();
+                case "e":
+                    return table.constant(Math.E);
+                case "pi":
+                    return table.constant(Math.PI);
+                default:
+                    int op = function(name);
+                    expect('(');
+                    Node argument = expression();
+                    expect(')');
+                    return table.unary(op, argument);
+            }
+        }
+        throw error("Неожиданный символ '" + c + "'");
+    }
+
+    private int function(String name) {
+        switch (name) {
+            case "sin":
+                return Node.SIN;
+            case "cos":
+                return Node.COS;
+            case "tan":
+            case "tg":
+                return Node.TAN;
+            case "exp":
+                return Node.EXP;
+            case "ln":
+            case "log":
+                return Node.LN;
+            case "sqrt":
+                return Node.SQRT;
+            case "abs":
+                return Node.ABS;
+            default:
+                throw error("Неизвестная функция '" + name + "'");
+        }
+    }
+
+    private double number() {
+        int start = position;
+        while (position < text.length() && (Character.isDigit(text.charAt(position)) || text.charAt(position) == '.')) {
+            position++;
+        }
+        if (position < text.length() && (text.charAt(position) == 'E')) {
+            int exponent = position + 1;
+            if (exponent < text.length() && (text.charAt(exponent) == '+' || text.charAt(exponent) == '-')) {
+                exponent++;
+            }
+            if (exponent < text.length() && Character.isDigit(text.charAt(exponent))) {
+                position = exponent;
+                while (position < text.length() && Character.isDigit(text.charAt(position))) {
+                    position++;
+                }
+            }
+        }
+        try {
+            return Double.parseDouble(text.substring(start, position));
+        } catch (NumberFormatException e) {
+            throw error("Некорректное число '" + text.substring(start, position) + "'");
+        }
+    }
+
+    private String identifier() {
+        int start = position;
+        while (position < text.length() && Character.isLetter(text.charAt(position))) {
+            position++;
+        }
+        return text.substring(start, position).toLowerCase();
+    }
+
+    private boolean startsOperand() {
+        skipSpaces();
+        if (position >= text.length()) {
+            return false;
+        }
+        char c = text.charAt(position);
+        return c == '(' || Character.isLetter(c) || Character.isDigit(c);
+    }
+
+    private boolean accept(char expected) {
+        skipSpaces();
+        if (position < text.length() && text.charAt(position) == expected) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private void expect(char expected) {
+        if (!accept(expected)) {
+            throw error("Ожидался символ '" + expected + "'");
+        }
+    }
+
+    private void skipSpaces() {
+        while (position < text.length() && Character.isWhitespace(text.charAt(position))) {
+            position++;
+        }
+    }
+
+    private ExpressionParseException error(String message) {
+        return new ExpressionParseException(message + " в позиции " + position + ": " + text.trim());
+    }
+}
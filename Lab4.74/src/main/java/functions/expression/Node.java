@@ -0,0 +1,77 @@
+package functions.expression;
+
+// Узел выражения. Узлы создаются только через NodeTable, поэтому структурно равные
+// поддеревья представлены одним объектом и дочерние узлы можно сравнивать по ссылке.
+final class Node {
+    static final int CONST = 0;
+    static final int VAR = 1;
+    static final int NEG = 2;
+    static final int ADD = 3;
+    static final int SUB = 4;
+    static final int MUL = 5;
+    static final int DIV = 6;
+    static final int POW = 7;
+    static final int SIN = 8;
+    static final int COS = 9;
+    static final int TAN = 10;
+    static final int EXP = 11;
+    static final int LN = 12;
+    static final int SQRT = 13;
+    static final int ABS = 14;
+
+    final int op;
+    final Node left;
+    final Node right;
+    final double value;
+    // Порядковый номер в NodeTable: дочерние узлы всегда имеют меньший id
+    final int id;
+
+    Node(int op, Node left, Node right, double value, int id) {
+        this.op = op;
+        this.left = left;
+        this.right = right;
+        this.value = value;
+        this.id = id;
+    }
+
+    boolean isConstant() {
+        return op == CONST;
+    }
+
+    boolean isConstant(double expected) {
+        return op == CONST && Double.compare(value, expected) == 0;
+    }
+
+    static double evaluate(int op, double a, double b) {
+        switch (op) {
+            case NEG:
+                return -a;
+            case ADD:
+                return a + b;
+            case SUB:
+                return a - b;
+            case MUL:
+                return a * b;
+            case DIV:
+                return a / b;
+            case POW:
+                return Math.pow(a, b);
+            case SIN:
+                return Math.sin(a);
+            case COS:
+                return Math.cos(a);
+            case TAN:
+                return Math.tan(a);
+            case EXP:
+                return Math.exp(a);
+            case LN:
+                return Math.log(a);
+            case SQRT:
+                return Math.sqrt(a);
+            case ABS:
+                return Math.abs(a);
+            default:
+                throw new IllegalArgumentException("Неизвестная операция: " + op);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package functions.expression;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Построение узлов со свёрткой констант и устранением общих подвыражений:
+// повторный запрос того же узла возвращает уже созданный объект.
+final class NodeTable {
+    private final Map<Key, Node> nodes = new HashMap<>();
+    private final List<Node> ordered = new ArrayList<>();
+
+    private record Key(int op, Node left, Node right, long valueBits) {
+    }
+
+    Node constant(double value) {
+        return intern(Node.CONST, null, null, value);
+    }
+
+    Node variable() {
+        return intern(Node.VAR, null, null, 0);
+    }
+
+    Node unary(int op, Node operand) {
+        if (operand.isConstant()) {
+            return constant(Node.evaluate(op, operand.value, 0));
+        }
+        if (op == Node.NEG && operand.op == Node.NEG) {
+            return operand.left;
+        }
+        return intern(op, operand, null, 0);
+    }
+
+    Node binary(int op, Node left, Node right) {
+        if (left.isConstant() && right.isConstant()) {
+            return constant(Node.evaluate(op, left.value, right.value));
+        }
+        switch (op) {
+            case Node.ADD:
+                if (left.isConstant(0)) {
+                    return right;
+                }
+                if (right.isConstant(0)) {
+                    return left;
+                }
+                break;
+            case Node.SUB:
+                if (right.isConstant(0)) {
+                    return left;
+                }
+                if (left.isConstant(0)) {
+                    return unary(Node.NEG, right);
+                }
+                break;
+            case Node.MUL:
+                if (left.isConstant(1)) {
+                    return right;
+                }
+                if (right.isConstant(1)) {
+                    return left;
+                }
+                break;
+            case Node.DIV:
+                if (right.isConstant(1)) {
+                    return left;
+                }
+                break;
+            case Node.POW:
+                if (right.isConstant(0)) {
+                    return constant(1);
+                }
+                if (right.isConstant(1)) {
+                    return left;
+                }
+                if (right.isConstant(2)) {
+                    return binary(Node.MUL, left, left);
+                }
+                break;
+            default:
+                break;
+        }
+        // Коммутативные операции приводятся к одному порядку аргументов, чтобы x*y и y*x совпали
+        if ((op == Node.ADD || op == Node.MUL) && left.id > right.id) {
+            Node temp = left;
+            left = right;
+            right = temp;
+        }
+        return intern(op, left, right, 0);
+    }
+
+    List<Node> nodes() {
+        return ordered;
+    }
+
+    private Node intern(int op, Node left, Node right, double value) {
+        Key key = new Key(op, left, right, Double.doubleToLongBits(value));
+        Node node = nodes.get(key);
+        if (node == null) {
+            node = new Node(op, left, right, value, ordered.size());
+            nodes.put(key, node);
+            ordered.add(node);
+        }
+        return node;
+    }
+}
@@ -0,0 +1,56 @@
+package functions.factory;
+
+import functions.CompactTabulatedFunction;
+import functions.TabulatedFunction;
+
+public class CompactTabulatedFunctionFactory implements TabulatedFunctionFactory {
+    // Точность по x относительно длины диапазона по умолчанию; совпадает с точностью float для y.
+    // Если узлы стоят плотнее, точность уменьшается до четверти наименьшего шага
+    public static final double DEFAULT_RELATIVE_X_PRECISION = 0x1p-24;
+
+    // Нижняя граница относительной точности: коды x не превышают 2^30 и помещаются в int
+    private static final double MIN_RELATIVE_X_PRECISION = 0x1p-31;
+
+    // 0 - точность выбирается для каждой функции по её диапазону x
+    private final double xPrecision;
+
+    public CompactTabulatedFunctionFactory() {
+        this.xPrecision = 0;
+    }
+
+    // xPrecision - допустимая абсолютная погрешность хранения x
+    public CompactTabulatedFunctionFactory(double xPrecision) {
+        this.xPrecision = xPrecision;
+    }
+
+    public double getXPrecision() {
+        return xPrecision;
+    }
+
+    @Override
+    public TabulatedFunction create(double[] xValues, double[] yValues) {
+        return new CompactTabulatedFunction(xValues, yValues, xPrecision > 0 ? xPrecision : relativePrecision(xValues));
+    }
+
+    // Некорректные массивы получают любую допустимую точность, чтобы ошибку сообщил конструктор функции
+    private static double relativePrecision(double[] xValues) {
+        if (xValues.length < 2) {
+            return 1;
+        }
+        double range = xValues[xValues.length - 1] - xValues[0];
+        if (!(range > 0) || Double.isInfinite(range)) {
+            return 1;
+        }
+        double minStep = range;
+        for (int i = 1; i < xValues.length; i++) {
+            double step = xValues[i] - xValues[i - 1];
+            if (!(step > 0)) {
+                return 1;
+            }
+            minStep = Math.min(minStep, step);
+        }
+        // Шаг квантования вдвое меньше наименьшего шага сетки, поэтому соседние узлы не сливаются
+        double precision = Math.min(range * DEFAULT_RELATIVE_X_PRECISION, minStep / 4);
+        return Math.max(precision, range * MIN_RELATIVE_X_PRECISION);
+    }
+}
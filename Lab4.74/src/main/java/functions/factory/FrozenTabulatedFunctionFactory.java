@@ -0,0 +1,11 @@
+package functions.factory;
+
+import functions.FrozenTabulatedFunction;
+import functions.TabulatedFunction;
+
+public class FrozenTabulatedFunctionFactory implements TabulatedFunctionFactory {
+    @Override
+    public TabulatedFunction create(double[] xValues, double[] yValues) {
+        return new FrozenTabulatedFunction(xValues, yValues);
+    }
+}
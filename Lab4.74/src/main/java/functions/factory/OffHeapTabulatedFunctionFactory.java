@@ -0,0 +1,12 @@
+package functions.factory;
+
+import functions.OffHeapTabulatedFunction;
+import functions.TabulatedFunction;
+
+// Созданные функции нужно закрывать методом close()
+public class OffHeapTabulatedFunctionFactory implements TabulatedFunctionFactory {
+    @Override
+    public TabulatedFunction create(double[] xValues, double[] yValues) {
+        return new OffHeapTabulatedFunction(xValues, yValues);
+    }
+}
@@ -0,0 +1,26 @@
+package functions.factory;
+
+import functions.SplineTabulatedFunction;
+import functions.TabulatedFunction;
+
+public class SplineTabulatedFunctionFactory implements TabulatedFunctionFactory {
+    private final SplineTabulatedFunction.SplineType type;
+
+    public SplineTabulatedFunctionFactory() {
+        this(SplineTabulatedFunction.SplineType.NATURAL_CUBIC);
+    }
+
+    // B_SPLINE требует равномерной сетки
+    public SplineTabulatedFunctionFactory(SplineTabulatedFunction.SplineType type) {
+        this.type = type;
+    }
+
+    public SplineTabulatedFunction.SplineType getType() {
+        return type;
+    }
+
+    @Override
+    public TabulatedFunction create(double[] xValues, double[] yValues) {
+        return new SplineTabulatedFunction(xValues, yValues, type);
+    }
+}
@@ -4,4 +4,15 @@ import functions.TabulatedFunction;
 
 public interface TabulatedFunctionFactory {
     TabulatedFunction create(double[] xValues, double[] yValues);
+
+    // Создание функции на равномерной сетке из count = yValues.length узлов от xFrom до xTo
+    default TabulatedFunction createUniform(double xFrom, double xTo, double[] yValues) {
+        int count = yValues.length;
+        double step = (xTo - xFrom) / (count - 1);
+        double[] xValues = new double[count];
+        for (int i = 0; i < count; i++) {
+            xValues[i] = xFrom + i * step;
+        }
+        return create(xValues, yValues);
+    }
 }
@@ -0,0 +1,30 @@
+package functions.factory;
+
+import functions.TabulatedFunction;
+import functions.UniformGridTabulatedFunction;
+
+public class UniformGridTabulatedFunctionFactory implements TabulatedFunctionFactory {
+    private final TabulatedFunctionFactory fallbackFactory;
+
+    public UniformGridTabulatedFunctionFactory() {
+        this(new ArrayTabulatedFunctionFactory());
+    }
+
+    // fallbackFactory используется для неравномерных сеток
+    public UniformGridTabulatedFunctionFactory(TabulatedFunctionFactory fallbackFactory) {
+        this.fallbackFactory = fallbackFactory;
+    }
+
+    @Override
+    public TabulatedFunction create(double[] xValues, double[] yValues) {
+        if (xValues.length == yValues.length && UniformGridTabulatedFunction.isUniform(xValues)) {
+            return new UniformGridTabulatedFunction(xValues[0], xValues[xValues.length - 1], yValues);
+        }
+        return fallbackFactory.create(xValues, yValues);
+    }
+
+    @Override
+    public TabulatedFunction createUniform(double xFrom, double xTo, double[] yValues) {
+        return new UniformGridTabulatedFunction(xFrom, xTo, yValues);
+    }
+}
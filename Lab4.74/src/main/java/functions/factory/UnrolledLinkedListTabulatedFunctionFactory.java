@@ -0,0 +1,11 @@
+package functions.factory;
+
+import functions.TabulatedFunction;
+import functions.UnrolledLinkedListTabulatedFunction;
+
+public class UnrolledLinkedListTabulatedFunctionFactory implements TabulatedFunctionFactory {
+    @Override
+    public TabulatedFunction create(double[] xValues, double[] yValues) {
+        return new UnrolledLinkedListTabulatedFunction(xValues, yValues);
+    }
+}
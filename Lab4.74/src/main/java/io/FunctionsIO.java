@@ -1,12 +1,14 @@
 package io;
 
-import functions.Point;
+import functions.Insertable;
+import functions.MappedTabulatedFunction;
 import functions.TabulatedFunction;
 import functions.factory.TabulatedFunctionFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.*;
+import java.nio.file.Path;
 import java.text.NumberFormat;
 import java.text.ParseException;
 import java.util.Locale;
@@ -28,15 +30,10 @@ public final class FunctionsIO {
         printWriter.println(count);
         logger.debug("Writing point count: {}", count);
 
-        int pointsWritten = 0;
-        for (Point point : function) {
-            printWriter.printf("%f %f\n", point.x, point.y);
-            pointsWritten++;
-            logger.trace("Written point {}: x={}, y={}", pointsWritten, point.x, point.y);
-        }
+        function.forEachPoint((x, y) -> printWriter.printf("%f %f\n", x, y));
 
         printWriter.flush();
-        logger.info("Successfully wrote {} points to text stream", pointsWritten);
+        logger.info("Successfully wrote {} points to text stream", count);
     }
 
     public static void writeTabulatedFunction(BufferedOutputStream outputStream, TabulatedFunction function)
@@ -50,16 +47,22 @@ public final class FunctionsIO {
         dataOutputStream.writeInt(count);
         logger.debug("Writing binary point count: {}", count);
 
-        int pointsWritten = 0;
-        for (Point point : function) {
-            dataOutputStream.writeDouble(point.x);
-            dataOutputStream.writeDouble(point.y);
-            pointsWritten++;
-            logger.trace("Written binary point {}: x={}, y={}", pointsWritten, point.x, point.y);
+        try {
+            function.forEachPoint((x, y) -> {
+                try {
+                    dataOutputStream.writeDouble(x);
+                    dataOutputStream.writeDouble(y);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            logger.error("Error while writing binary points", e.getCause());
+            throw e.getCause();
         }
 
         outputStream.flush();
-        logger.info("Successfully wrote {} points to binary stream", pointsWritten);
+        logger.info("Successfully wrote {} points to binary stream", count);
     }
 
     public static TabulatedFunction readTabulatedFunction(BufferedReader reader, TabulatedFunctionFactory factory)
@@ -157,6 +160,35 @@ public final class FunctionsIO {
         return result;
     }
 
+    // Дописывание точек из бинарного потока (формат writeTabulatedFunction) в существующую функцию
+    public static void appendTabulatedFunction(BufferedInputStream inputStream, Insertable function)
+            throws IOException {
+        DataInputStream dataInputStream = new DataInputStream(inputStream);
+
+        int count = dataInputStream.readInt();
+        logger.debug("Appending {} binary points", count);
+        if (count < 0) {
+            logger.error("Invalid binary point count: {}", count);
+            throw new IOException("Некорректное количество точек в бинарном потоке: " + count);
+        }
+
+        double[] xValues = new double[count];
+        double[] yValues = new double[count];
+        for (int i = 0; i < count; i++) {
+            xValues[i] = dataInputStream.readDouble();
+            yValues[i] = dataInputStream.readDouble();
+        }
+
+        function.insertAll(xValues, yValues);
+        logger.info("Successfully appended {} points from binary stream", count);
+    }
+
+    // Отображение бинарного файла в память без чтения узлов; результат нужно закрыть
+    public static MappedTabulatedFunction mapTabulatedFunction(Path path) throws IOException {
+        logger.info("Mapping tabulated function from binary file: {}", path);
+        return new MappedTabulatedFunction(path);
+    }
+
     public static void serialize(BufferedOutputStream stream, TabulatedFunction function) throws IOException {
         logger.info("Serializing tabulated function. Function type: {}, Points: {}",
                 function.getClass().getSimpleName(), function.getCount());
@@ -0,0 +1,165 @@
+package operations;
+
+import functions.MathFunction;
+import functions.TabulatedFunction;
+import functions.factory.ArrayTabulatedFunctionFactory;
+import functions.factory.TabulatedFunctionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+
+// Табулирование с контролем ошибки: отрезок делится пополам, пока значение функции в середине
+// отличается от линейной интерполяции по концам больше чем на tolerance. Перед делением отрезок
+// [xFrom, xTo] разбивается на initialSegments равных частей, чтобы не пропустить особенности,
+// на которых середина случайно совпала с хордой (например, sin на целом периоде).
+// Общее число точек ограничено maxPoints: шумная функция или слишком малая tolerance иначе
+// дали бы до initialSegments * 2^maxDepth точек.
+public class AdaptiveTabulator {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdaptiveTabulator.class);
+
+    public static final int DEFAULT_INITIAL_SEGMENTS = 16;
+    public static final int DEFAULT_MAX_DEPTH = 30;
+    public static final int DEFAULT_MAX_POINTS = 1 << 20;
+
+    private TabulatedFunctionFactory factory;
+    private final double tolerance;
+    private final int initialSegments;
+    private final int maxDepth;
+    private final int maxPoints;
+
+    public AdaptiveTabulator(double tolerance) {
+        this(new ArrayTabulatedFunctionFactory(), tolerance);
+    }
+
+    public AdaptiveTabulator(TabulatedFunctionFactory factory, double tolerance) {
+        this(factory, tolerance, DEFAULT_INITIAL_SEGMENTS, DEFAULT_MAX_DEPTH);
+    }
+
+    public AdaptiveTabulator(TabulatedFunctionFactory factory, double tolerance, int initialSegments, int maxDepth) {
+        this(factory, tolerance, initialSegments, maxDepth, DEFAULT_MAX_POINTS);
+    }
+
+    public AdaptiveTabulator(TabulatedFunctionFactory factory, double tolerance, int initialSegments, int maxDepth,
+                             int maxPoints) {
+        if (!(tolerance > 0)) {
+            logger.error("Invalid tolerance: {}", tolerance);
+            throw new IllegalArgumentException("Допустимая ошибка должна быть положительной: " + tolerance);
+        }
+        if (initialSegments < 1) {
+            logger.error("Invalid initial segment count: {}", initialSegments);
+            throw new IllegalArgumentException("Количество начальных отрезков должно быть не менее 1");
+        }
+        if (maxDepth < 0) {
+            logger.error("Invalid max depth: {}", maxDepth);
+            throw new IllegalArgumentException("Глубина деления не может быть отрицательной");
+        }
+        if (maxPoints <= initialSegments) {
+            logger.error("Point budget {} does not cover {} initial segments", maxPoints, initialSegments);
+            throw new IllegalArgumentException("Лимит точек должен быть больше количества начальных отрезков");
+        }
+        logger.debug("Creating AdaptiveTabulator: factory={}, tolerance={}, initialSegments={}, maxDepth={}, maxPoints={}",
+                factory.getClass().getSimpleName(), tolerance, initialSegments, maxDepth, maxPoints);
+        this.factory = factory;
+        this.tolerance = tolerance;
+        this.initialSegments = initialSegments;
+        this.maxDepth = maxDepth;
+        this.maxPoints = maxPoints;
+    }
+
+    public TabulatedFunctionFactory getFactory() {
+        return factory;
+    }
+
+    public void setFactory(TabulatedFunctionFactory factory) {
+        logger.debug("Setting new factory: {}", factory.getClass().getSimpleName());
+        this.factory = factory;
+    }
+
+    public double getTolerance() {
+        return tolerance;
+    }
+
+    public int getMaxPoints() {
+        return maxPoints;
+    }
+
+    public TabulatedFunction tabulate(MathFunction source, double xFrom, double xTo) {
+        logger.info("Adaptive tabulation on [{}, {}] with tolerance {}", xFrom, xTo, tolerance);
+        if (xFrom > xTo) {
+            logger.debug("Swapping xFrom and xTo: {} -> {}", xFrom, xTo);
+            double temp = xTo;
+            xTo = xFrom;
+            xFrom = temp;
+        }
+        if (!(xFrom < xTo)) {
+            logger.error("Degenerate interval: xFrom={}, xTo={}", xFrom, xTo);
+            throw new IllegalArgumentException("Левая граница должна быть меньше правой");
+        }
+
+        PointBuffer points = new PointBuffer((int) Math.min(initialSegments * 4L + 1, maxPoints), maxPoints);
+        double step = (xTo - xFrom) / initialSegments;
+        double leftX = xFrom;
+        double leftY = source.apply(leftX);
+        points.add(leftX, leftY);
+        for (int i = 1; i <= initialSegments; i++) {
+            double rightX = i == initialSegments ? xTo : xFrom + i * step;
+            double rightY = source.apply(rightX);
+            subdivide(source, points, leftX, leftY, rightX, rightY, 0);
+            points.add(rightX, rightY);
+            leftX = rightX;
+            leftY = rightY;
+        }
+
+        logger.info("Adaptive tabulation placed {} points", points.count);
+        return factory.create(Arrays.copyOf(points.xValues, points.count), Arrays.copyOf(points.yValues, points.count));
+    }
+
+    private void subdivide(MathFunction source, PointBuffer points,
+                           double leftX, double leftY, double rightX, double rightY, int depth) {
+        if (depth >= maxDepth) {
+            return;
+        }
+        double middleX = 0.5 * (leftX + rightX);
+        if (!(middleX > leftX && middleX < rightX)) {
+            return;
+        }
+        double middleY = source.apply(middleX);
+        if (!(Math.abs(middleY - 0.5 * (leftY + rightY)) > tolerance)) {
+            return;
+        }
+        subdivide(source, points, leftX, leftY, middleX, middleY, depth + 1);
+        points.add(middleX, middleY);
+        subdivide(source, points, middleX, middleY, rightX, rightY, depth + 1);
+    }
+
+    private static final class PointBuffer {
+        private double[] xValues;
+        private double[] yValues;
+        private int count;
+        private final int limit;
+
+        PointBuffer(int capacity, int limit) {
+            xValues = new double[capacity];
+            yValues = new double[capacity];
+            this.limit = limit;
+        }
+
+        void add(double x, double y) {
+            if (count == limit) {
+                logger.error("Adaptive tabulation exceeded the budget of {} points near x={}", limit, x);
+                throw new IllegalStateException("Превышен лимит в " + limit
+                        + " точек; увеличьте допустимую ошибку или уменьшите глубину деления");
+            }
+            if (count == xValues.length) {
+                int newCapacity = (int) Math.min(count * 2L, limit);
+                xValues = Arrays.copyOf(xValues, newCapacity);
+                yValues = Arrays.copyOf(yValues, newCapacity);
+            }
+            xValues[count] = x;
+            yValues[count] = y;
+            count++;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package operations;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+interface ArithmeticKernel {
+    double EPSILON = 1e-10;
+
+    // Первый индекс i из [from, to), где |a[i] - b[i]| > EPSILON, либо -1
+    int firstMismatch(double[] a, double[] b, int from, int to);
+
+    // Первый индекс i из [from, to), где |v[i]| < EPSILON, либо -1
+    int firstNearZero(double[] v, int from, int to);
+
+    void apply(ArithmeticOperation operation, double[] u, double[] v, double[] out, int from, int to);
+
+    default int firstMismatch(double[] a, double[] b, int count) {
+        return firstMismatch(a, b, 0, count);
+    }
+
+    default int firstNearZero(double[] v, int count) {
+        return firstNearZero(v, 0, count);
+    }
+
+    default void apply(ArithmeticOperation operation, double[] u, double[] v, double[] out, int count) {
+        apply(operation, u, v, out, 0, count);
+    }
+
+    static ArithmeticKernel best() {
+        return Holder.BEST;
+    }
+
+    final class Holder {
+        private static final Logger logger = LoggerFactory.getLogger(ArithmeticKernel.class);
+        private static final ArithmeticKernel BEST = select();
+
+        private Holder() {
+        }
+
+        // Векторная реализация загружается только если модуль jdk.incubator.vector подключен
+        private static ArithmeticKernel select() {
+            if (ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+                try {
+                    ArithmeticKernel kernel = new VectorArithmeticKernel();
+                    logger.info("Using SIMD arithmetic kernel with {} lanes", VectorArithmeticKernel.lanes());
+                    return kernel;
+                } catch (LinkageError e) {
+                    logger.warn("Vector API is unavailable, falling back to scalar arithmetic", e);
+                }
+            } else {
+                logger.info("Module jdk.incubator.vector is not present, using scalar arithmetic");
+            }
+            return new ScalarArithmeticKernel();
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package operations;
+
+enum ArithmeticOperation {
+    ADD {
+        @Override
+        double apply(double u, double v) {
+            return u + v;
+        }
+    },
+    SUBTRACT {
+        @Override
+        double apply(double u, double v) {
+            return u - v;
+        }
+    },
+    MULTIPLY {
+        @Override
+        double apply(double u, double v) {
+            return u * v;
+        }
+    },
+    DIVIDE {
+        @Override
+        double apply(double u, double v) {
+            return u / v;
+        }
+    };
+
+    abstract double apply(double u, double v);
+}
@@ -0,0 +1,13 @@
+package operations;
+
+// Разностная схема TabulatedDifferentialOperator
+public enum DifferenceScheme {
+    // (y[i+1] - y[i]) / (x[i+1] - x[i]); в последнем узле повторяется значение предыдущего отрезка
+    FORWARD,
+    // (y[i+1] - y[i-1]) / (x[i+1] - x[i-1]); на концах односторонние разности первого порядка
+    CENTRAL,
+    // Трёхточечная формула второго порядка, в том числе на неравномерной сетке и на концах
+    SECOND_ORDER,
+    // Пятиточечный шаблон четвёртого порядка; только для равномерной сетки от 5 точек
+    FIVE_POINT
+}
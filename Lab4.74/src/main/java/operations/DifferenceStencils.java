@@ -0,0 +1,207 @@
+package operations;
+
+// Разностные шаблоны над примитивными массивами. Каждый метод заполняет out[from..to) за один
+// проход без выделения памяти; внутренние узлы считаются в цикле без ветвлений, концы - отдельно,
+// поэтому диапазоны можно обрабатывать независимо в разных потоках
+final class DifferenceStencils {
+
+    private DifferenceStencils() {
+        throw new UnsupportedOperationException("Невозможно создать экземпляр служебного класса");
+    }
+
+    // Первая производная на произвольной сетке
+    static void first(DifferenceScheme scheme, double[] x, double[] y, double[] out, int count, int from, int to) {
+        int last = count - 1;
+        switch (scheme) {
+            case FORWARD:
+                for (int i = from; i < Math.min(to, last); i++) {
+                    out[i] = (y[i + 1] - y[i]) / (x[i + 1] - x[i]);
+                }
+                if (to == count) {
+                    out[last] = (y[last] - y[last - 1]) / (x[last] - x[last - 1]);
+                }
+                return;
+            case CENTRAL:
+                for (int i = Math.max(from, 1); i < Math.min(to, last); i++) {
+                    out[i] = (y[i + 1] - y[i - 1]) / (x[i + 1] - x[i - 1]);
+                }
+                if (from == 0) {
+                    out[0] = (y[1] - y[0]) / (x[1] - x[0]);
+                }
+                if (to == count) {
+                    out[last] = (y[last] - y[last - 1]) / (x[last] - x[last - 1]);
+                }
+                return;
+            default:
+                if (count < 3) {
+                    for (int i = from; i < to; i++) {
+                        out[i] = (y[1] - y[0]) / (x[1] - x[0]);
+                    }
+                    return;
+                }
+                for (int i = Math.max(from, 1); i < Math.min(to, last); i++) {
+                    double h1 = x[i] - x[i - 1];
+                    double h2 = x[i + 1] - x[i];
+                    out[i] = -h2 / (h1 * (h1 + h2)) * y[i - 1]
+                            + (h2 - h1) / (h1 * h2) * y[i]
+                            + h1 / (h2 * (h1 + h2)) * y[i + 1];
+                }
+                if (from == 0) {
+                    double h1 = x[1] - x[0];
+                    double h2 = x[2] - x[1];
+                    out[0] = -(2 * h1 + h2) / (h1 * (h1 + h2)) * y[0]
+                            + (h1 + h2) / (h1 * h2) * y[1]
+                            - h1 / (h2 * (h1 + h2)) * y[2];
+                }
+                if (to == count) {
+                    double h1 = x[last - 1] - x[last - 2];
+                    double h2 = x[last] - x[last - 1];
+                    out[last] = h2 / (h1 * (h1 + h2)) * y[last - 2]
+                            - (h1 + h2) / (h1 * h2) * y[last - 1]
+                            + (2 * h2 + h1) / (h2 * (h1 + h2)) * y[last];
+                }
+        }
+    }
+
+    // Первая производная на равномерной сетке с шагом step
+    static void firstUniform(DifferenceScheme scheme, double step, double[] y, double[] out, int count,
+                             int from, int to) {
+        int last = count - 1;
+        double inv = 1.0 / step;
+        switch (scheme) {
+            case FORWARD:
+                for (int i = from; i < Math.min(to, last); i++) {
+                    out[i] = (y[i + 1] - y[i]) * inv;
+                }
+                if (to == count) {
+                    out[last] = (y[last] - y[last - 1]) * inv;
+                }
+                return;
+            case CENTRAL:
+                for (int i = Math.max(from, 1); i < Math.min(to, last); i++) {
+                    out[i] = (y[i + 1] - y[i - 1]) * (0.5 * inv);
+                }
+                if (from == 0) {
+                    out[0] = (y[1] - y[0]) * inv;
+                }
+                if (to == count) {
+                    out[last] = (y[last] - y[last - 1]) * inv;
+                }
+                return;
+            case SECOND_ORDER:
+                if (count < 3) {
+                    for (int i = from; i < to; i++) {
+                        out[i] = (y[1] - y[0]) * inv;
+                    }
+                    return;
+                }
+                for (int i = Math.max(from, 1); i < Math.min(to, last); i++) {
+                    out[i] = (y[i + 1] - y[i - 1]) * (0.5 * inv);
+                }
+                if (from == 0) {
+                    out[0] = (-3 * y[0] + 4 * y[1] - y[2]) * (0.5 * inv);
+                }
+                if (to == count) {
+                    out[last] = (3 * y[last] - 4 * y[last - 1] + y[last - 2]) * (0.5 * inv);
+                }
+                return;
+            default:
+                double scale = inv / 12;
+                for (int i = Math.max(from, 2); i < Math.min(to, last - 1); i++) {
+                    out[i] = (y[i - 2] - 8 * y[i - 1] + 8 * y[i + 1] - y[i + 2]) * scale;
+                }
+                // Несимметричные пятиточечные формулы того же порядка у концов
+                if (from <= 0 && to > 0) {
+                    out[0] = (-25 * y[0] + 48 * y[1] - 36 * y[2] + 16 * y[3] - 3 * y[4]) * scale;
+                }
+                if (from <= 1 && to > 1) {
+                    out[1] = (-3 * y[0] - 10 * y[1] + 18 * y[2] - 6 * y[3] + y[4]) * scale;
+                }
+                if (from <= last - 1 && to > last - 1) {
+                    out[last - 1] = (3 * y[last] + 10 * y[last - 1] - 18 * y[last - 2] + 6 * y[last - 3]
+                            - y[last - 4]) * scale;
+                }
+                if (to == count) {
+                    out[last] = (25 * y[last] - 48 * y[last - 1] + 36 * y[last - 2] - 16 * y[last - 3]
+                            + 3 * y[last - 4]) * scale;
+                }
+        }
+    }
+
+    // Вторая производная на произвольной сетке по трём точкам; на концах несимметричная формула
+    // второго порядка по четырём точкам, при трёх точках - шаблон соседнего узла
+    static void second(double[] x, double[] y, double[] out, int count, int from, int to) {
+        int last = count - 1;
+        for (int i = Math.max(from, 1); i < Math.min(to, last); i++) {
+            out[i] = secondAt(x, y, i);
+        }
+        if (from == 0) {
+            out[0] = count < 4 ? secondAt(x, y, 1) : secondOneSided(x, y, 0, 0);
+        }
+        if (to == count) {
+            out[last] = count < 4 ? secondAt(x, y, last - 1) : secondOneSided(x, y, last - 3, last);
+        }
+    }
+
+    // Вторая производная на равномерной сетке: трёхточечный или пятиточечный шаблон внутри,
+    // на концах несимметричная формула второго порядка
+    static void secondUniform(DifferenceScheme scheme, double step, double[] y, double[] out, int count,
+                              int from, int to) {
+        int last = count - 1;
+        double inv = 1.0 / (step * step);
+        if (scheme == DifferenceScheme.FIVE_POINT) {
+            double scale = inv / 12;
+            for (int i = Math.max(from, 2); i < Math.min(to, last - 1); i++) {
+                out[i] = (-y[i - 2] + 16 * y[i - 1] - 30 * y[i] + 16 * y[i + 1] - y[i + 2]) * scale;
+            }
+            if (from <= 1 && to > 1) {
+                out[1] = (y[0] - 2 * y[1] + y[2]) * inv;
+            }
+            if (from <= last - 1 && to > last - 1) {
+                out[last - 1] = (y[last - 2] - 2 * y[last - 1] + y[last]) * inv;
+            }
+        } else {
+            for (int i = Math.max(from, 1); i < Math.min(to, last); i++) {
+                out[i] = (y[i - 1] - 2 * y[i] + y[i + 1]) * inv;
+            }
+        }
+        if (count < 4) {
+            if (from == 0) {
+                out[0] = (y[0] - 2 * y[1] + y[2]) * inv;
+            }
+            if (to == count) {
+                out[last] = (y[last - 2] - 2 * y[last - 1] + y[last]) * inv;
+            }
+            return;
+        }
+        if (from == 0) {
+            out[0] = (2 * y[0] - 5 * y[1] + 4 * y[2] - y[3]) * inv;
+        }
+        if (to == count) {
+            out[last] = (2 * y[last] - 5 * y[last - 1] + 4 * y[last - 2] - y[last - 3]) * inv;
+        }
+    }
+
+    // Вторая производная кубического интерполянта по узлам first..first+3 в узле at
+    private static double secondOneSided(double[] x, double[] y, int first, int at) {
+        double result = 0;
+        for (int j = first; j < first + 4; j++) {
+            double sum = 0;
+            double denominator = 1;
+            for (int k = first; k < first + 4; k++) {
+                if (k != j) {
+                    sum += x[at] - x[k];
+                    denominator *= x[j] - x[k];
+                }
+            }
+            result += 2 * sum / denominator * y[j];
+        }
+        return result;
+    }
+
+    private static double secondAt(double[] x, double[] y, int i) {
+        double h1 = x[i] - x[i - 1];
+        double h2 = x[i + 1] - x[i];
+        return 2 * (y[i - 1] / (h1 * (h1 + h2)) - y[i] / (h1 * h2) + y[i + 1] / (h2 * (h1 + h2)));
+    }
+}
@@ -0,0 +1,13 @@
+package operations;
+
+// Поведение бинарных операций над функциями с разными сетками x
+public enum GridAlignment {
+    // Сетки должны совпадать, иначе InconsistentFunctionsException
+    STRICT,
+    // Объединение узлов обеих функций; каждая функция интерполируется (и экстраполируется) в чужих узлах
+    UNION,
+    // Узлы обеих функций в пересечении областей определения
+    INTERSECTION,
+    // Узлы первой функции; вторая пересчитывается в них
+    LEFT
+}
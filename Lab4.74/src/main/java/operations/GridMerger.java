@@ -0,0 +1,103 @@
+package operations;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Слияние двух отсортированных сеток за один проход O(n + m): в каждом узле результата одна
+// из функций берётся точно, другая - линейной интерполяцией по соседним узлам (за краями -
+// продолжением крайнего отрезка), и сразу применяется операция
+final class GridMerger {
+    private static final Logger logger = LoggerFactory.getLogger(GridMerger.class);
+    private static final double EPSILON = ArithmeticKernel.EPSILON;
+
+    final double[] xValues;
+    final double[] yValues;
+    int count;
+
+    private GridMerger(int capacity) {
+        this.xValues = new double[capacity];
+        this.yValues = new double[capacity];
+    }
+
+    static GridMerger merge(double[] xa, double[] ya, double[] xb, double[] yb, GridAlignment alignment,
+                            ArithmeticOperation operation) {
+        int n = xa.length;
+        int m = xb.length;
+        if (alignment == GridAlignment.LEFT) {
+            GridMerger result = new GridMerger(n);
+            int j = 0;
+            for (int i = 0; i < n; i++) {
+                double x = xa[i];
+                while (j < m && xb[j] < x - EPSILON) {
+                    j++;
+                }
+                double v = j < m && Math.abs(xb[j] - x) < EPSILON ? yb[j] : valueAt(xb, yb, j, x);
+                result.emit(x, ya[i], v, operation);
+            }
+            return result;
+        }
+
+        double low = Double.NEGATIVE_INFINITY;
+        double high = Double.POSITIVE_INFINITY;
+        if (alignment == GridAlignment.INTERSECTION) {
+            low = Math.max(xa[0], xb[0]) - EPSILON;
+            high = Math.min(xa[n - 1], xb[m - 1]) + EPSILON;
+        }
+
+        GridMerger result = new GridMerger(n + m);
+        int i = 0;
+        int j = 0;
+        while (i < n || j < m) {
+            double x;
+            double u;
+            double v;
+            if (j >= m || (i < n && xa[i] < xb[j] - EPSILON)) {
+                x = xa[i];
+                u = ya[i];
+                v = valueAt(xb, yb, j, x);
+                i++;
+            } else if (i >= n || xb[j] < xa[i] - EPSILON) {
+                x = xb[j];
+                u = valueAt(xa, ya, i, x);
+                v = yb[j];
+                j++;
+            } else {
+                x = xa[i];
+                u = ya[i];
+                v = yb[j];
+                i++;
+                j++;
+            }
+            if (x >= low && x <= high) {
+                result.emit(x, u, v, operation);
+            }
+        }
+        return result;
+    }
+
+    // Значение функции в x, где upper - индекс первого узла правее x
+    private static double valueAt(double[] xs, double[] ys, int upper, double x) {
+        int count = xs.length;
+        if (count == 1) {
+            return ys[0];
+        }
+        int left = Math.max(0, Math.min(upper - 1, count - 2));
+        double leftX = xs[left];
+        double rightX = xs[left + 1];
+        if (Math.abs(rightX - leftX) < EPSILON) {
+            return ys[left];
+        }
+        return ys[left] + (ys[left + 1] - ys[left]) * (x - leftX) / (rightX - leftX);
+    }
+
+    private void emit(double x, double u, double v, ArithmeticOperation operation) {
+        if (operation == ArithmeticOperation.DIVIDE && Math.abs(v) < EPSILON) {
+            logger.error("Division by zero detected at x={}: numerator={}, denominator={}", x, u, v);
+            throw new ArithmeticException("Деление на ноль");
+        }
+        xValues[count] = x;
+        yValues[count] = operation.apply(u, v);
+        count++;
+    }
+
+}
@@ -0,0 +1,49 @@
+package operations;
+
+final class ScalarArithmeticKernel implements ArithmeticKernel {
+    @Override
+    public int firstMismatch(double[] a, double[] b, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (Math.abs(a[i] - b[i]) > EPSILON) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int firstNearZero(double[] v, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (Math.abs(v[i]) < EPSILON) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public void apply(ArithmeticOperation operation, double[] u, double[] v, double[] out, int from, int to) {
+        switch (operation) {
+            case ADD -> {
+                for (int i = from; i < to; i++) {
+                    out[i] = u[i] + v[i];
+                }
+            }
+            case SUBTRACT -> {
+                for (int i = from; i < to; i++) {
+                    out[i] = u[i] - v[i];
+                }
+            }
+            case MULTIPLY -> {
+                for (int i = from; i < to; i++) {
+                    out[i] = u[i] * v[i];
+                }
+            }
+            case DIVIDE -> {
+                for (int i = from; i < to; i++) {
+                    out[i] = u[i] / v[i];
+                }
+            }
+        }
+    }
+}
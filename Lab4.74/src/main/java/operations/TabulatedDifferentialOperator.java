@@ -1,18 +1,27 @@
 package operations;
 
 import concurrent.SynchronizedTabulatedFunction;
-import functions.Point;
 import functions.TabulatedFunction;
+import functions.UniformGridTabulatedFunction;
 import functions.factory.ArrayTabulatedFunctionFactory;
 import functions.factory.TabulatedFunctionFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
 public class TabulatedDifferentialOperator implements DifferentialOperator<TabulatedFunction> {
 
     private static final Logger logger = LoggerFactory.getLogger(TabulatedDifferentialOperator.class);
 
+    // Размер, начиная с которого вычисление делится на части в параллельном режиме
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 16;
+
     private TabulatedFunctionFactory factory;
+    private DifferenceScheme scheme = DifferenceScheme.FORWARD;
+    private ForkJoinPool pool;
+    private int parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
 
     public TabulatedDifferentialOperator() {
         logger.debug("Creating TabulatedDifferentialOperator with default ArrayTabulatedFunctionFactory");
@@ -25,6 +34,11 @@ public class TabulatedDifferentialOperator implements DifferentialOperator<Tabul
         this.factory = factory;
     }
 
+    public TabulatedDifferentialOperator(TabulatedFunctionFactory factory, DifferenceScheme scheme) {
+        this(factory);
+        this.scheme = scheme;
+    }
+
     public TabulatedFunctionFactory getFactory() {
         logger.trace("Getting factory: {}", factory.getClass().getSimpleName());
         return factory;
@@ -35,59 +49,144 @@ public class TabulatedDifferentialOperator implements DifferentialOperator<Tabul
         this.factory = factory;
     }
 
+    public DifferenceScheme getScheme() {
+        return scheme;
+    }
+
+    public void setScheme(DifferenceScheme scheme) {
+        logger.debug("Setting difference scheme: {}", scheme);
+        this.scheme = scheme;
+    }
+
+    // Параллельный режим: функции от threshold точек обрабатываются в pool частями не меньше threshold / 2
+    public void setParallelMode(ForkJoinPool pool, int threshold) {
+        if (threshold < 2) {
+            logger.error("Invalid parallel threshold: {}", threshold);
+            throw new IllegalArgumentException("Порог параллельного режима должен быть не меньше 2: " + threshold);
+        }
+        logger.debug("Parallel mode enabled: parallelism={}, threshold={}", pool.getParallelism(), threshold);
+        this.pool = pool;
+        this.parallelThreshold = threshold;
+    }
+
+    public void setParallelMode(ForkJoinPool pool) {
+        setParallelMode(pool, DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    public void setSequentialMode() {
+        logger.debug("Parallel mode disabled");
+        this.pool = null;
+    }
+
+    public boolean isParallel() {
+        return pool != null;
+    }
+
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
     @Override
     public TabulatedFunction derive(TabulatedFunction function) {
-        logger.info("Computing derivative of TabulatedFunction. Type: {}, Points: {}",
-                function.getClass().getSimpleName(), function.getCount());
+        return differentiate(function, 1);
+    }
 
-        Point[] points = TabulatedFunctionOperationService.asPoints(function);
-        int count = points.length;
-        logger.debug("Converted function to {} points array", count);
+    // Вторая производная. На неравномерной сетке всегда трёхточечная формула; на равномерной
+    // схема FIVE_POINT даёт пятиточечный шаблон, остальные - трёхточечный
+    public TabulatedFunction deriveSecond(TabulatedFunction function) {
+        return differentiate(function, 2);
+    }
 
-        double[] xValues = new double[count];
-        double[] yValues = new double[count];
+    private TabulatedFunction differentiate(TabulatedFunction function, int order) {
+        logger.info("Computing derivative of order {} of TabulatedFunction. Type: {}, Points: {}, Scheme: {}",
+                order, function.getClass().getSimpleName(), function.getCount(), scheme);
 
-        // Copy x values
-        for (int i = 0; i < count; i++) {
-            xValues[i] = points[i].x;
+        int count = function.getCount();
+        DifferenceScheme scheme = this.scheme;
+        int minCount = scheme == DifferenceScheme.FIVE_POINT ? 5 : order + 1;
+        if (count < minCount) {
+            logger.error("Too few points for {} derivative of order {}: {}", scheme, order, count);
+            throw new IllegalArgumentException("Для схемы " + scheme + " нужно не меньше " + minCount + " точек");
         }
-        logger.trace("X values copied successfully");
 
-        // Compute derivatives using finite differences
-        logger.debug("Computing derivatives using finite differences");
-        for (int i = 0; i < count - 1; i++) {
-            double deltaX = points[i + 1].x - points[i].x;
-            double deltaY = points[i + 1].y - points[i].y;
-
-            if (Math.abs(deltaX) < 1e-10) {
-                logger.warn("Very small or zero deltaX at index {}: {}", i, deltaX);
+        double[] yValues = new double[count];
+        double[] derivatives = new double[count];
+        function.copyY(yValues);
+
+        TabulatedFunction derivative;
+        if (function instanceof UniformGridTabulatedFunction) {
+            double step = ((UniformGridTabulatedFunction) function).getStep();
+            logger.debug("Computing derivative on uniform grid with step {}", step);
+            computeUniform(scheme, order, step, yValues, derivatives);
+            derivative = factory.createUniform(function.leftBound(), function.rightBound(), derivatives);
+        } else {
+            double[] xValues = new double[count];
+            function.copyX(xValues);
+            if (scheme == DifferenceScheme.FIVE_POINT) {
+                if (!UniformGridTabulatedFunction.isUniform(xValues)) {
+                    logger.error("Five-point scheme requested for non-uniform grid");
+                    throw new IllegalArgumentException("Пятиточечная схема требует равномерной сетки");
+                }
+                computeUniform(scheme, order, (xValues[count - 1] - xValues[0]) / (count - 1), yValues, derivatives);
+            } else if (order == 1) {
+                run(count, (from, to) -> DifferenceStencils.first(scheme, xValues, yValues, derivatives, count, from, to));
+            } else {
+                run(count, (from, to) -> DifferenceStencils.second(xValues, yValues, derivatives, count, from, to));
             }
+            derivative = factory.create(xValues, derivatives);
+        }
 
-            yValues[i] = deltaY / deltaX;
+        logger.info("Derivative computation completed. Result type: {}, Points: {}",
+                derivative.getClass().getSimpleName(), derivative.getCount());
+        return derivative;
+    }
 
-            logger.trace("Derivative at index {}: deltaX={}, deltaY={}, derivative={}",
-                    i, deltaX, deltaY, yValues[i]);
+    private void computeUniform(DifferenceScheme scheme, int order, double step, double[] yValues,
+                                double[] derivatives) {
+        int count = yValues.length;
+        if (order == 1) {
+            run(count, (from, to) -> DifferenceStencils.firstUniform(scheme, step, yValues, derivatives, count, from, to));
+        } else {
+            run(count, (from, to) -> DifferenceStencils.secondUniform(scheme, step, yValues, derivatives, count, from, to));
         }
+    }
 
-        // Set last derivative value equal to the previous one
-        if (count > 1) {
-            yValues[count - 1] = yValues[count - 2];
-            logger.debug("Set last derivative value to previous value: {}", yValues[count - 1]);
+    private void run(int count, RangeAction action) {
+        if (pool != null && count >= parallelThreshold) {
+            logger.debug("Processing {} points in parallel", count);
+            pool.invoke(new RangeTask(action, 0, count, Math.max(1, parallelThreshold / 2)));
         } else {
-            logger.warn("Function has only one point, derivative array may be invalid");
+            action.compute(0, count);
         }
+    }
 
-        TabulatedFunction derivative = factory.create(xValues, yValues);
-        logger.info("Derivative computation completed. Result type: {}, Points: {}",
-                derivative.getClass().getSimpleName(), derivative.getCount());
+    private interface RangeAction {
+        void compute(int from, int to);
+    }
 
-        // Log some sample derivative values for verification
-        if (logger.isDebugEnabled() && count > 0) {
-            logger.debug("Sample derivative values - First: {}, Last: {}",
-                    yValues[0], yValues[count - 1]);
+    // Каждый узел зависит только от входных массивов, поэтому части диапазона независимы
+    private static final class RangeTask extends RecursiveAction {
+        private final RangeAction action;
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+
+        RangeTask(RangeAction action, int from, int to, int chunkSize) {
+            this.action = action;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
         }
 
-        return derivative;
+        @Override
+        protected void compute() {
+            if (to - from > chunkSize) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new RangeTask(action, from, middle, chunkSize), new RangeTask(action, middle, to, chunkSize));
+                return;
+            }
+            action.compute(from, to);
+        }
     }
 
     public TabulatedFunction deriveSynchronously(TabulatedFunction function) {
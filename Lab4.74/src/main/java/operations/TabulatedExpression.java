@@ -0,0 +1,258 @@
+package operations;
+
+import exceptions.InconsistentFunctionsException;
+import functions.FrozenTabulatedFunction;
+import functions.TabulatedFunction;
+import functions.UniformGridTabulatedFunction;
+import functions.factory.FrozenTabulatedFunctionFactory;
+import functions.factory.TabulatedFunctionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Отложенное выражение над табулированными функциями с общей сеткой x. Операции только
+// записываются в граф; materialize проверяет сетки один раз и вычисляет всё выражение за один
+// проход блоками по BLOCK_SIZE точек во временных регистрах, без промежуточных функций.
+// Повторно использованные функции и подвыражения (по ссылке) вычисляются один раз на блок.
+// Функции читаются в момент materialize, поэтому изменения после построения выражения учитываются
+public final class TabulatedExpression {
+    private static final Logger logger = LoggerFactory.getLogger(TabulatedExpression.class);
+
+    static final int BLOCK_SIZE = 1024;
+
+    private final TabulatedFunction function;
+    private final ArithmeticOperation operation;
+    private final TabulatedExpression left;
+    private final TabulatedExpression right;
+
+    private TabulatedExpression(TabulatedFunction function, ArithmeticOperation operation,
+                                TabulatedExpression left, TabulatedExpression right) {
+        this.function = function;
+        this.operation = operation;
+        this.left = left;
+        this.right = right;
+    }
+
+    public static TabulatedExpression of(TabulatedFunction function) {
+        return new TabulatedExpression(function, null, null, null);
+    }
+
+    public TabulatedExpression add(TabulatedExpression other) {
+        return new TabulatedExpression(null, ArithmeticOperation.ADD, this, other);
+    }
+
+    public TabulatedExpression add(TabulatedFunction other) {
+        return add(of(other));
+    }
+
+    public TabulatedExpression subtract(TabulatedExpression other) {
+        return new TabulatedExpression(null, ArithmeticOperation.SUBTRACT, this, other);
+    }
+
+    public TabulatedExpression subtract(TabulatedFunction other) {
+        return subtract(of(other));
+    }
+
+    public TabulatedExpression multiply(TabulatedExpression other) {
+        return new TabulatedExpression(null, ArithmeticOperation.MULTIPLY, this, other);
+    }
+
+    public TabulatedExpression multiply(TabulatedFunction other) {
+        return multiply(of(other));
+    }
+
+    public TabulatedExpression divide(TabulatedExpression other) {
+        return new TabulatedExpression(null, ArithmeticOperation.DIVIDE, this, other);
+    }
+
+    public TabulatedExpression divide(TabulatedFunction other) {
+        return divide(of(other));
+    }
+
+    public TabulatedFunction materialize(TabulatedFunctionFactory factory) {
+        Program program = new Program(this);
+        List<TabulatedFunction> leaves = program.leaves;
+        TabulatedFunction first = leaves.get(0);
+        int count = first.getCount();
+        logger.debug("Materializing expression: {} functions, {} instructions, {} points",
+                leaves.size(), program.size, count);
+
+        for (TabulatedFunction leaf : leaves) {
+            if (leaf.getCount() != count) {
+                logger.error("Function count mismatch: {} and {} points", count, leaf.getCount());
+                throw new InconsistentFunctionsException("Функции имеют разное количество точек");
+            }
+        }
+
+        ArithmeticKernel kernel = ArithmeticKernel.best();
+        double[] xValues = checkGrids(leaves, count, kernel);
+
+        // Функции на массивах читаются блоками прямо в регистры. Остальные (списки) копируются
+        // заранее целиком, потому что доступ по индексу у них не O(1)
+        double[][] leafY = new double[leaves.size()][];
+        for (int k = 0; k < leaves.size(); k++) {
+            TabulatedFunction leaf = leaves.get(k);
+            if (!leaf.hasFastRangeCopy()) {
+                leafY[k] = new double[count];
+                leaf.copyY(leafY[k]);
+            }
+        }
+
+        double[] yValues = new double[count];
+        double[][] registers = new double[program.size][Math.min(BLOCK_SIZE, count)];
+
+        for (int start = 0; start < count; start += BLOCK_SIZE) {
+            int length = Math.min(BLOCK_SIZE, count - start);
+            program.run(kernel, leafY, registers, start, length);
+            System.arraycopy(registers[program.size - 1], 0, yValues, start, length);
+        }
+
+        TabulatedFunction result;
+        if (xValues == null && first instanceof UniformGridTabulatedFunction) {
+            result = factory.createUniform(first.leftBound(), first.rightBound(), yValues);
+        } else if (xValues == null && first instanceof FrozenTabulatedFunction
+                && factory instanceof FrozenTabulatedFunctionFactory) {
+            result = ((FrozenTabulatedFunction) first).withOwnedY(yValues);
+        } else {
+            if (xValues == null) {
+                xValues = new double[count];
+                first.copyX(xValues);
+            }
+            result = factory.create(xValues, yValues);
+        }
+        logger.info("Expression materialized successfully. Result function: {} points", result.getCount());
+        return result;
+    }
+
+    // Сравнение сеток всех функций с первой. Возвращает x первой функции или null, если все функции -
+    // равномерные сетки с одинаковыми границами либо замороженные функции с общим массивом x.
+    // Функции на массивах сравниваются блоками через буферы размером с блок
+    private static double[] checkGrids(List<TabulatedFunction> leaves, int count, ArithmeticKernel kernel) {
+        TabulatedFunction first = leaves.get(0);
+        boolean sharedGrid = true;
+        for (TabulatedFunction leaf : leaves) {
+            sharedGrid &= TabulatedFunctionOperationService.sameGrid(first, leaf);
+        }
+        if (sharedGrid) {
+            return null;
+        }
+
+        double[] xValues = new double[count];
+        first.copyX(xValues);
+        double[] expected = null;
+        double[] actual = null;
+        double[] other = null;
+        for (int k = 1; k < leaves.size(); k++) {
+            TabulatedFunction leaf = leaves.get(k);
+            if (!leaf.hasFastRangeCopy()) {
+                if (other == null) {
+                    other = new double[count];
+                }
+                leaf.copyX(other);
+                checkMismatch(kernel.firstMismatch(xValues, other, count), xValues, leaf);
+                continue;
+            }
+            if (expected == null) {
+                expected = new double[Math.min(BLOCK_SIZE, count)];
+                actual = new double[expected.length];
+            }
+            for (int start = 0; start < count; start += BLOCK_SIZE) {
+                int length = Math.min(BLOCK_SIZE, count - start);
+                System.arraycopy(xValues, start, expected, 0, length);
+                leaf.copyX(start, start + length, actual, 0);
+                int mismatch = kernel.firstMismatch(expected, actual, length);
+                checkMismatch(mismatch == -1 ? -1 : start + mismatch, xValues, leaf);
+            }
+        }
+        return xValues;
+    }
+
+    private static void checkMismatch(int mismatch, double[] xValues, TabulatedFunction leaf) {
+        if (mismatch != -1) {
+            logger.error("X value mismatch at index {}: {} and {}", mismatch, xValues[mismatch], leaf.getX(mismatch));
+            throw new InconsistentFunctionsException("Значения X не совпадают по индексу " + mismatch);
+        }
+    }
+
+    // Граф, развёрнутый в последовательность инструкций; результат инструкции i лежит в регистре i
+    private static final class Program {
+        private final List<TabulatedFunction> leaves = new ArrayList<>();
+        private final Map<TabulatedFunction, Integer> leafRegisters = new IdentityHashMap<>();
+        private final Map<TabulatedExpression, Integer> nodeRegisters = new IdentityHashMap<>();
+        private final List<ArithmeticOperation> operations = new ArrayList<>();
+        // Для загрузки: номер функции в leaves и -1; для операции: регистры операндов
+        private final List<int[]> operands = new ArrayList<>();
+        private int size;
+
+        Program(TabulatedExpression root) {
+            compile(root);
+        }
+
+        // Обход в глубину без рекурсии, чтобы длинные цепочки не упирались в стек
+        private int compile(TabulatedExpression root) {
+            List<TabulatedExpression> stack = new ArrayList<>();
+            stack.add(root);
+            while (!stack.isEmpty()) {
+                TabulatedExpression node = stack.get(stack.size() - 1);
+                if (nodeRegisters.containsKey(node)) {
+                    stack.remove(stack.size() - 1);
+                } else if (node.operation == null) {
+                    stack.remove(stack.size() - 1);
+                    nodeRegisters.put(node, load(node.function));
+                } else if (!nodeRegisters.containsKey(node.left)) {
+                    stack.add(node.left);
+                } else if (!nodeRegisters.containsKey(node.right)) {
+                    stack.add(node.right);
+                } else {
+                    stack.remove(stack.size() - 1);
+                    operations.add(node.operation);
+                    operands.add(new int[]{nodeRegisters.get(node.left), nodeRegisters.get(node.right)});
+                    nodeRegisters.put(node, size++);
+                }
+            }
+            return nodeRegisters.get(root);
+        }
+
+        private int load(TabulatedFunction function) {
+            Integer register = leafRegisters.get(function);
+            if (register != null) {
+                return register;
+            }
+            leaves.add(function);
+            operations.add(null);
+            operands.add(new int[]{leaves.size() - 1, -1});
+            leafRegisters.put(function, size);
+            return size++;
+        }
+
+        // leafY[k] - заранее скопированные y функции k либо null, если она читается блоками
+        void run(ArithmeticKernel kernel, double[][] leafY, double[][] registers, int start, int length) {
+            for (int i = 0; i < size; i++) {
+                ArithmeticOperation operation = operations.get(i);
+                int[] args = operands.get(i);
+                if (operation == null) {
+                    double[] copied = leafY[args[0]];
+                    if (copied != null) {
+                        System.arraycopy(copied, start, registers[i], 0, length);
+                    } else {
+                        leaves.get(args[0]).copyY(start, start + length, registers[i], 0);
+                    }
+                    continue;
+                }
+                if (operation == ArithmeticOperation.DIVIDE) {
+                    int zero = kernel.firstNearZero(registers[args[1]], 0, length);
+                    if (zero != -1) {
+                        logger.error("Division by zero detected at index {}: numerator={}, denominator={}",
+                                start + zero, registers[args[0]][zero], registers[args[1]][zero]);
+                        throw new ArithmeticException("Деление на ноль");
+                    }
+                }
+                kernel.apply(operation, registers[args[0]], registers[args[1]], registers[i], 0, length);
+            }
+        }
+    }
+}
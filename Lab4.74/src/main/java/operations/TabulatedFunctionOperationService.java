@@ -1,18 +1,39 @@
 package operations;
 
 import exceptions.InconsistentFunctionsException;
+import functions.FrozenTabulatedFunction;
 import functions.Point;
 import functions.TabulatedFunction;
+import functions.UniformGridTabulatedFunction;
 import functions.factory.ArrayTabulatedFunctionFactory;
+import functions.factory.FrozenTabulatedFunctionFactory;
 import functions.factory.TabulatedFunctionFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
 public class TabulatedFunctionOperationService {
 
     private static final Logger logger = LoggerFactory.getLogger(TabulatedFunctionOperationService.class);
 
+    // Размер, начиная с которого операция делится на части в параллельном режиме
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 16;
+
     private TabulatedFunctionFactory factory;
+    private final ArithmeticKernel kernel = ArithmeticKernel.best();
+    private ForkJoinPool pool;
+    private int parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+    private GridAlignment alignment = GridAlignment.STRICT;
+
+    // Рабочие массивы операций с назначением переиспользуются в потоке, поэтому повторные вызовы
+    // в цикле не выделяют память. Сохраняются только массивы до MAX_RETAINED_POINTS точек
+    // (не больше 2 МБ на поток); для больших функций массивы выделяются на вызов
+    static final int MAX_RETAINED_POINTS = 1 << 16;
+    private static final ThreadLocal<Scratch> scratch = ThreadLocal.withInitial(Scratch::new);
 
     public TabulatedFunctionOperationService(TabulatedFunctionFactory factory) {
         logger.debug("Creating TabulatedFunctionOperationService with factory: {}",
@@ -35,54 +56,350 @@ public class TabulatedFunctionOperationService {
         this.factory = factory;
     }
 
-    private interface BiOperation {
-        double apply(double u, double v);
+    public GridAlignment getGridAlignment() {
+        return alignment;
     }
 
-    private TabulatedFunction doOperation(TabulatedFunction a, TabulatedFunction b, BiOperation operation) {
+    // Поведение при разных сетках x; совпадающие сетки всегда обрабатываются без слияния
+    public void setGridAlignment(GridAlignment alignment) {
+        logger.debug("Setting grid alignment: {}", alignment);
+        this.alignment = alignment;
+    }
+
+    // Параллельный режим: функции от threshold точек обрабатываются в pool частями не меньше threshold / 2
+    public void setParallelMode(ForkJoinPool pool, int threshold) {
+        if (threshold < 2) {
+            logger.error("Invalid parallel threshold: {}", threshold);
+            throw new IllegalArgumentException("Порог параллельного режима должен быть не меньше 2: " + threshold);
+        }
+        logger.debug("Parallel mode enabled: parallelism={}, threshold={}", pool.getParallelism(), threshold);
+        this.pool = pool;
+        this.parallelThreshold = threshold;
+    }
+
+    public void setParallelMode(ForkJoinPool pool) {
+        setParallelMode(pool, DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    public void setSequentialMode() {
+        logger.debug("Parallel mode disabled");
+        this.pool = null;
+    }
+
+    public boolean isParallel() {
+        return pool != null;
+    }
+
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    private TabulatedFunction doOperation(TabulatedFunction a, TabulatedFunction b, ArithmeticOperation operation) {
         logger.debug("Performing binary operation on functions. Function A: {} points, Function B: {} points",
                 a.getCount(), b.getCount());
 
         if (a.getCount() != b.getCount()) {
+            if (alignment != GridAlignment.STRICT) {
+                return doAlignedOperation(a, b, operation);
+            }
             logger.error("Function count mismatch: A has {} points, B has {} points",
                     a.getCount(), b.getCount());
             throw new InconsistentFunctionsException("Функции имеют разное количество точек");
         }
 
-        logger.trace("Converting functions to points arrays");
-        Point[] pointsA = asPoints(a);
-        Point[] pointsB = asPoints(b);
+        int count = a.getCount();
+        boolean sameUniformGrid = a instanceof UniformGridTabulatedFunction && b instanceof UniformGridTabulatedFunction
+                && ((UniformGridTabulatedFunction) a).hasSameGrid((UniformGridTabulatedFunction) b);
+        boolean sameFrozenX = a instanceof FrozenTabulatedFunction && b instanceof FrozenTabulatedFunction
+                && ((FrozenTabulatedFunction) a).hasSameX((FrozenTabulatedFunction) b);
+
+        boolean compareX = !sameUniformGrid && !sameFrozenX;
+        boolean parallel = pool != null && count >= parallelThreshold;
+        // В параллельном режиме функции на массивах читаются частями внутри задач, а не заранее целиком
+        boolean readInChunks = parallel && a.hasFastRangeCopy() && b.hasFastRangeCopy();
+
+        double[] xValues = compareX ? new double[count] : null;
+        double[] xValuesB = compareX ? new double[count] : null;
+        double[] yValues = new double[count];
+        double[] yValuesB = new double[count];
+        if (!readInChunks) {
+            a.copyY(yValues);
+            b.copyY(yValuesB);
+            if (compareX) {
+                a.copyX(xValues);
+                b.copyX(xValuesB);
+            }
+        }
 
-        double[] xValues = new double[a.getCount()];
-        double[] yValues = new double[a.getCount()];
+        if (sameUniformGrid) {
+            logger.debug("Both functions share the same uniform grid, skipping x comparison");
+        } else if (sameFrozenX) {
+            logger.debug("Both frozen functions share the same x array, skipping x comparison");
+        }
 
-        logger.debug("Processing {} points for operation", a.getCount());
-        for (int i = 0; i < a.getCount(); i++) {
-            logger.trace("Processing point {}: A(x={}, y={}), B(x={}, y={})",
-                    i, pointsA[i].x, pointsA[i].y, pointsB[i].x, pointsB[i].y);
+        if (parallel) {
+            logger.debug("Processing {} points for operation {} in parallel", count, operation);
+            ChunkTask task = new ChunkTask(kernel, operation, readInChunks ? a : null, readInChunks ? b : null,
+                    xValues, xValuesB, yValues, yValuesB, 0, count, Math.max(1, parallelThreshold / 2));
+            pool.invoke(task);
+            if (task.firstMismatch.get() != -1 && alignment != GridAlignment.STRICT) {
+                return doAlignedOperation(a, b, operation);
+            }
+            checkOperands(task.firstMismatch.get(), task.firstZero.get(), xValues, xValuesB, yValues, yValuesB);
+        } else {
+            int mismatch = xValues == null ? -1 : kernel.firstMismatch(xValues, xValuesB, count);
+            if (mismatch != -1 && alignment != GridAlignment.STRICT) {
+                return doAlignedOperation(a, b, operation);
+            }
+            int zero = mismatch == -1 && operation == ArithmeticOperation.DIVIDE
+                    ? kernel.firstNearZero(yValuesB, count) : -1;
+            checkOperands(mismatch, zero, xValues, xValuesB, yValues, yValuesB);
+            logger.debug("Processing {} points for operation {}", count, operation);
+            kernel.apply(operation, yValues, yValuesB, yValues, count);
+        }
 
-            if (Math.abs(pointsA[i].x - pointsB[i].x) > 1e-10) {
-                logger.error("X value mismatch at index {}: A.x={}, B.x={}",
-                        i, pointsA[i].x, pointsB[i].x);
-                throw new InconsistentFunctionsException("Значения X не совпадают по индексу " + i);
+        logger.debug("Creating new function with factory: {}", factory.getClass().getSimpleName());
+        TabulatedFunction result;
+        if (sameUniformGrid) {
+            result = factory.createUniform(a.leftBound(), a.rightBound(), yValues);
+        } else if (a instanceof FrozenTabulatedFunction && factory instanceof FrozenTabulatedFunctionFactory) {
+            // Результат разделяет массив x с аргументом, поэтому цепочки операций остаются на быстром пути
+            result = ((FrozenTabulatedFunction) a).withOwnedY(yValues);
+        } else {
+            if (xValues == null) {
+                xValues = new double[count];
+                a.copyX(xValues);
             }
+            result = factory.create(xValues, yValues);
+        }
+        logger.info("Binary operation completed successfully. Result function: {} points", result.getCount());
+        return result;
+    }
+
+    // Результат записывается в y функции into с той же сеткой, что у a и b; into может совпадать с a или b.
+    // Выравнивание сеток не применяется: при несовпадении x выбрасывается исключение
+    private TabulatedFunction doOperationInto(TabulatedFunction a, TabulatedFunction b, TabulatedFunction into,
+                                              ArithmeticOperation operation) {
+        int count = a.getCount();
+        if (b.getCount() != count || into.getCount() != count) {
+            logger.error("Function count mismatch: A has {} points, B has {} points, destination has {} points",
+                    count, b.getCount(), into.getCount());
+            throw new InconsistentFunctionsException("Функции имеют разное количество точек");
+        }
 
-            xValues[i] = pointsA[i].x;
-            double yA = pointsA[i].y;
-            double yB = pointsB[i].y;
-            double resultY = operation.apply(yA, yB);
-            yValues[i] = resultY;
+        Scratch buffers = scratch.get().ensure(count);
+        boolean xLoaded = false;
+        if (!sameGrid(a, b)) {
+            buffers.ensureX(count);
+            a.copyX(buffers.xValues);
+            b.copyX(buffers.xValuesB);
+            xLoaded = true;
+            checkOperands(kernel.firstMismatch(buffers.xValues, buffers.xValuesB, count), -1,
+                    buffers.xValues, buffers.xValuesB, null, null);
+        }
+        if (!sameGrid(a, into)) {
+            buffers.ensureX(count);
+            if (!xLoaded) {
+                a.copyX(buffers.xValues);
+            }
+            into.copyX(buffers.xValuesB);
+            checkOperands(kernel.firstMismatch(buffers.xValues, buffers.xValuesB, count), -1,
+                    buffers.xValues, buffers.xValuesB, null, null);
+        }
 
-            logger.trace("Operation result at index {}: {}({}, {}) = {}",
-                    i, operation.getClass().getSimpleName(), yA, yB, resultY);
+        double[] yValues = buffers.yValues;
+        double[] yValuesB = buffers.yValuesB;
+        a.copyY(yValues);
+        b.copyY(yValuesB);
+        if (pool != null && count >= parallelThreshold) {
+            ChunkTask task = new ChunkTask(kernel, operation, null, null, null, null, yValues, yValuesB,
+                    0, count, Math.max(1, parallelThreshold / 2));
+            pool.invoke(task);
+            checkOperands(-1, task.firstZero.get(), null, null, yValues, yValuesB);
+        } else {
+            int zero = operation == ArithmeticOperation.DIVIDE ? kernel.firstNearZero(yValuesB, count) : -1;
+            checkOperands(-1, zero, null, null, yValues, yValuesB);
+            kernel.apply(operation, yValues, yValuesB, yValues, count);
         }
 
-        logger.debug("Creating new function with factory: {}", factory.getClass().getSimpleName());
-        TabulatedFunction result = factory.create(xValues, yValues);
-        logger.info("Binary operation completed successfully. Result function: {} points", result.getCount());
+        into.setYs(yValues);
+        logger.debug("Operation {} written into destination of {} points", operation, count);
+        return into;
+    }
+
+    // Совпадение сеток, известное без сравнения x
+    static boolean sameGrid(TabulatedFunction a, TabulatedFunction b) {
+        if (a == b) {
+            return true;
+        }
+        if (a instanceof UniformGridTabulatedFunction && b instanceof UniformGridTabulatedFunction) {
+            return ((UniformGridTabulatedFunction) a).hasSameGrid((UniformGridTabulatedFunction) b);
+        }
+        if (a instanceof FrozenTabulatedFunction && b instanceof FrozenTabulatedFunction) {
+            return ((FrozenTabulatedFunction) a).hasSameX((FrozenTabulatedFunction) b);
+        }
+        return false;
+    }
+
+    private static final class Scratch {
+        private double[] xValues = new double[0];
+        private double[] xValuesB = new double[0];
+        private double[] yValues = new double[0];
+        private double[] yValuesB = new double[0];
+
+        // Массивы x нужны только при сравнении сеток и выделяются отдельно
+        Scratch ensure(int count) {
+            if (count > MAX_RETAINED_POINTS) {
+                return new Scratch().withY(count);
+            }
+            if (yValues.length < count) {
+                withY(count);
+            }
+            return this;
+        }
+
+        Scratch ensureX(int count) {
+            if (xValues.length < count) {
+                xValues = new double[count];
+                xValuesB = new double[count];
+            }
+            return this;
+        }
+
+        private Scratch withY(int count) {
+            yValues = new double[count];
+            yValuesB = new double[count];
+            return this;
+        }
+    }
+
+    private TabulatedFunction doAlignedOperation(TabulatedFunction a, TabulatedFunction b,
+                                                 ArithmeticOperation operation) {
+        logger.debug("Aligning grids of {} and {} points ({}) for operation {}",
+                a.getCount(), b.getCount(), alignment, operation);
+        double[] xValuesA = new double[a.getCount()];
+        double[] yValuesA = new double[a.getCount()];
+        double[] xValuesB = new double[b.getCount()];
+        double[] yValuesB = new double[b.getCount()];
+        a.copyX(xValuesA);
+        a.copyY(yValuesA);
+        b.copyX(xValuesB);
+        b.copyY(yValuesB);
+
+        GridMerger merged = GridMerger.merge(xValuesA, yValuesA, xValuesB, yValuesB, alignment, operation);
+        if (merged.count < 2) {
+            logger.error("Function domains do not overlap: [{}, {}] and [{}, {}]",
+                    a.leftBound(), a.rightBound(), b.leftBound(), b.rightBound());
+            throw new InconsistentFunctionsException("Области определения функций не пересекаются");
+        }
+
+        TabulatedFunction result = factory.create(Arrays.copyOf(merged.xValues, merged.count),
+                Arrays.copyOf(merged.yValues, merged.count));
+        logger.info("Aligned operation completed successfully. Result function: {} points", result.getCount());
         return result;
     }
 
+    private static void checkOperands(int mismatch, int zero, double[] xValues, double[] xValuesB,
+                                      double[] yValues, double[] yValuesB) {
+        if (mismatch != -1) {
+            logger.error("X value mismatch at index {}: A.x={}, B.x={}",
+                    mismatch, xValues[mismatch], xValuesB[mismatch]);
+            throw new InconsistentFunctionsException("Значения X не совпадают по индексу " + mismatch);
+        }
+        if (zero != -1) {
+            logger.error("Division by zero detected: numerator={}, denominator={}",
+                    yValues[zero], yValuesB[zero]);
+            throw new ArithmeticException("Деление на ноль");
+        }
+    }
+
+    // Часть диапазона индексов: чтение операндов (если a и b заданы), проверка x, проверка делителя
+    // и арифметика выполняются подряд над одним куском, пока он в кэше. Ошибки собираются как
+    // минимальные индексы по всем частям, поэтому сообщение совпадает с последовательным режимом
+    private static final class ChunkTask extends RecursiveAction {
+        private final ArithmeticKernel kernel;
+        private final ArithmeticOperation operation;
+        private final TabulatedFunction a;
+        private final TabulatedFunction b;
+        private final double[] xValues;
+        private final double[] xValuesB;
+        private final double[] yValues;
+        private final double[] yValuesB;
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+        private final AtomicInteger firstMismatch;
+        private final AtomicInteger firstZero;
+
+        ChunkTask(ArithmeticKernel kernel, ArithmeticOperation operation, TabulatedFunction a, TabulatedFunction b,
+                  double[] xValues, double[] xValuesB, double[] yValues, double[] yValuesB,
+                  int from, int to, int chunkSize) {
+            this(kernel, operation, a, b, xValues, xValuesB, yValues, yValuesB, from, to, chunkSize,
+                    new AtomicInteger(-1), new AtomicInteger(-1));
+        }
+
+        private ChunkTask(ArithmeticKernel kernel, ArithmeticOperation operation, TabulatedFunction a,
+                          TabulatedFunction b, double[] xValues, double[] xValuesB, double[] yValues,
+                          double[] yValuesB, int from, int to, int chunkSize,
+                          AtomicInteger firstMismatch, AtomicInteger firstZero) {
+            this.kernel = kernel;
+            this.operation = operation;
+            this.a = a;
+            this.b = b;
+            this.xValues = xValues;
+            this.xValuesB = xValuesB;
+            this.yValues = yValues;
+            this.yValuesB = yValuesB;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+            this.firstMismatch = firstMismatch;
+            this.firstZero = firstZero;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > chunkSize) {
+                int middle = (from + to) >>> 1;
+                invokeAll(part(from, middle), part(middle, to));
+                return;
+            }
+
+            if (a != null) {
+                a.copyY(from, to, yValues, from);
+                b.copyY(from, to, yValuesB, from);
+                if (xValues != null) {
+                    a.copyX(from, to, xValues, from);
+                    b.copyX(from, to, xValuesB, from);
+                }
+            }
+            if (xValues != null) {
+                int mismatch = kernel.firstMismatch(xValues, xValuesB, from, to);
+                if (mismatch != -1) {
+                    record(firstMismatch, mismatch);
+                    return;
+                }
+            }
+            if (operation == ArithmeticOperation.DIVIDE) {
+                int zero = kernel.firstNearZero(yValuesB, from, to);
+                if (zero != -1) {
+                    record(firstZero, zero);
+                    return;
+                }
+            }
+            kernel.apply(operation, yValues, yValuesB, yValues, from, to);
+        }
+
+        private ChunkTask part(int partFrom, int partTo) {
+            return new ChunkTask(kernel, operation, a, b, xValues, xValuesB, yValues, yValuesB, partFrom, partTo,
+                    chunkSize, firstMismatch, firstZero);
+        }
+
+        private static void record(AtomicInteger first, int index) {
+            first.accumulateAndGet(index, (current, candidate) -> current == -1 ? candidate : Math.min(current, candidate));
+        }
+    }
+
     public TabulatedFunction add(TabulatedFunction a, TabulatedFunction b) {
         logger.info("Performing addition operation");
         logger.debug("Function A type: {}, points: {}",
@@ -90,7 +407,7 @@ public class TabulatedFunctionOperationService {
         logger.debug("Function B type: {}, points: {}",
                 b.getClass().getSimpleName(), b.getCount());
 
-        TabulatedFunction result = doOperation(a, b, (u, v) -> u + v);
+        TabulatedFunction result = doOperation(a, b, ArithmeticOperation.ADD);
 
         logger.debug("Addition operation completed. Result type: {}",
                 result.getClass().getSimpleName());
@@ -104,7 +421,7 @@ public class TabulatedFunctionOperationService {
         logger.debug("Function B type: {}, points: {}",
                 b.getClass().getSimpleName(), b.getCount());
 
-        TabulatedFunction result = doOperation(a, b, (u, v) -> u - v);
+        TabulatedFunction result = doOperation(a, b, ArithmeticOperation.SUBTRACT);
 
         logger.debug("Subtraction operation completed. Result type: {}",
                 result.getClass().getSimpleName());
@@ -118,7 +435,7 @@ public class TabulatedFunctionOperationService {
         logger.debug("Function B type: {}, points: {}",
                 b.getClass().getSimpleName(), b.getCount());
 
-        TabulatedFunction result = doOperation(a, b, (u, v) -> u * v);
+        TabulatedFunction result = doOperation(a, b, ArithmeticOperation.MULTIPLY);
 
         logger.debug("Multiplication operation completed. Result type: {}",
                 result.getClass().getSimpleName());
@@ -132,34 +449,61 @@ public class TabulatedFunctionOperationService {
         logger.debug("Function B type: {}, points: {}",
                 b.getClass().getSimpleName(), b.getCount());
 
-        TabulatedFunction result = doOperation(a, b, (u, v) -> {
-            if (Math.abs(v) < 1e-10) {
-                logger.error("Division by zero detected: numerator={}, denominator={}", u, v);
-                throw new ArithmeticException("Деление на ноль");
-            }
-            double divisionResult = u / v;
-            logger.trace("Division: {} / {} = {}", u, v, divisionResult);
-            return divisionResult;
-        });
+        TabulatedFunction result = doOperation(a, b, ArithmeticOperation.DIVIDE);
 
         logger.debug("Division operation completed. Result type: {}",
                 result.getClass().getSimpleName());
         return result;
     }
 
+    // Варианты с назначением: результат записывается в существующую изменяемую функцию into
+    // с той же сеткой без создания новой функции; into возвращается для цепочек вызовов
+    public TabulatedFunction add(TabulatedFunction a, TabulatedFunction b, TabulatedFunction into) {
+        return doOperationInto(a, b, into, ArithmeticOperation.ADD);
+    }
+
+    public TabulatedFunction subtract(TabulatedFunction a, TabulatedFunction b, TabulatedFunction into) {
+        return doOperationInto(a, b, into, ArithmeticOperation.SUBTRACT);
+    }
+
+    public TabulatedFunction multiply(TabulatedFunction a, TabulatedFunction b, TabulatedFunction into) {
+        return doOperationInto(a, b, into, ArithmeticOperation.MULTIPLY);
+    }
+
+    public TabulatedFunction divide(TabulatedFunction a, TabulatedFunction b, TabulatedFunction into) {
+        return doOperationInto(a, b, into, ArithmeticOperation.DIVIDE);
+    }
+
+    // Варианты на месте: target = target op other
+    public TabulatedFunction addInPlace(TabulatedFunction target, TabulatedFunction other) {
+        return doOperationInto(target, other, target, ArithmeticOperation.ADD);
+    }
+
+    public TabulatedFunction subtractInPlace(TabulatedFunction target, TabulatedFunction other) {
+        return doOperationInto(target, other, target, ArithmeticOperation.SUBTRACT);
+    }
+
+    public TabulatedFunction multiplyInPlace(TabulatedFunction target, TabulatedFunction other) {
+        return doOperationInto(target, other, target, ArithmeticOperation.MULTIPLY);
+    }
+
+    public TabulatedFunction divideInPlace(TabulatedFunction target, TabulatedFunction other) {
+        return doOperationInto(target, other, target, ArithmeticOperation.DIVIDE);
+    }
+
+    // Вычисление отложенного выражения за один проход; сетки функций должны совпадать (режим STRICT)
+    public TabulatedFunction evaluate(TabulatedExpression expression) {
+        logger.info("Evaluating fused expression");
+        return expression.materialize(factory);
+    }
+
     public static Point[] asPoints(TabulatedFunction tabulatedFunction) {
         logger.debug("Converting TabulatedFunction to Points array. Function type: {}, points: {}",
                 tabulatedFunction.getClass().getSimpleName(), tabulatedFunction.getCount());
 
         Point[] points = new Point[tabulatedFunction.getCount()];
-        int i = 0;
-
-        logger.trace("Iterating through function points");
-        for (Point point : tabulatedFunction) {
-            points[i] = point;
-            logger.trace("Point {}: x={}, y={}", i, point.x, point.y);
-            i++;
-        }
+        int[] index = {0};
+        tabulatedFunction.forEachPoint((x, y) -> points[index[0]++] = new Point(x, y));
 
         logger.debug("Successfully converted {} points to array", points.length);
         return points;
@@ -0,0 +1,75 @@
+package operations;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+final class VectorArithmeticKernel implements ArithmeticKernel {
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    static int lanes() {
+        return SPECIES.length();
+    }
+
+    @Override
+    public int firstMismatch(double[] a, double[] b, int from, int to) {
+        int i = from;
+        int bound = from + SPECIES.loopBound(to - from);
+        for (; i < bound; i += SPECIES.length()) {
+            DoubleVector va = DoubleVector.fromArray(SPECIES, a, i);
+            DoubleVector vb = DoubleVector.fromArray(SPECIES, b, i);
+            VectorMask<Double> mismatch = va.sub(vb).abs().compare(VectorOperators.GT, EPSILON);
+            if (mismatch.anyTrue()) {
+                return i + mismatch.firstTrue();
+            }
+        }
+        for (; i < to; i++) {
+            if (Math.abs(a[i] - b[i]) > EPSILON) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int firstNearZero(double[] v, int from, int to) {
+        int i = from;
+        int bound = from + SPECIES.loopBound(to - from);
+        for (; i < bound; i += SPECIES.length()) {
+            VectorMask<Double> nearZero = DoubleVector.fromArray(SPECIES, v, i)
+                    .abs()
+                    .compare(VectorOperators.LT, EPSILON);
+            if (nearZero.anyTrue()) {
+                return i + nearZero.firstTrue();
+            }
+        }
+        for (; i < to; i++) {
+            if (Math.abs(v[i]) < EPSILON) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public void apply(ArithmeticOperation operation, double[] u, double[] v, double[] out, int from, int to) {
+        VectorOperators.Binary lanewise = switch (operation) {
+            case ADD -> VectorOperators.ADD;
+            case SUBTRACT -> VectorOperators.SUB;
+            case MULTIPLY -> VectorOperators.MUL;
+            case DIVIDE -> VectorOperators.DIV;
+        };
+
+        int i = from;
+        int bound = from + SPECIES.loopBound(to - from);
+        for (; i < bound; i += SPECIES.length()) {
+            DoubleVector vu = DoubleVector.fromArray(SPECIES, u, i);
+            DoubleVector vv = DoubleVector.fromArray(SPECIES, v, i);
+            vu.lanewise(lanewise, vv).intoArray(out, i);
+        }
+        for (; i < to; i++) {
+            out[i] = operation.apply(u[i], v[i]);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package benchmarks;
+
+import ch.qos.logback.classic.Level;
+import functions.ArrayTabulatedFunction;
+import functions.SqrFunction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Random;
+
+// Сравнение бинарного поиска ArrayTabulatedFunction с прежним линейным просмотром.
+// Запуск: mvn test-compile exec:java -Dexec.mainClass=benchmarks.ArraySearchBenchmark -Dexec.classpathScope=test
+public class ArraySearchBenchmark {
+    private static final int[] SIZES = {1_000, 100_000, 10_000_000};
+    private static final long OPERATIONS_BUDGET = 200_000_000L;
+
+    public static void main(String[] args) {
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME)).setLevel(Level.WARN);
+
+        System.out.printf("%12s %16s %16s %10s%n", "points", "linear ns/op", "binary ns/op", "speedup");
+        for (int size : SIZES) {
+            ArrayTabulatedFunction function = new ArrayTabulatedFunction(new SqrFunction(), 0, size, size);
+            double[] xValues = new double[size];
+            for (int i = 0; i < size; i++) {
+                xValues[i] = function.getX(i);
+            }
+
+            double[] queries = randomQueries(size, 4096);
+            int linearCalls = (int) Math.max(64, Math.min(1_000_000, OPERATIONS_BUDGET / size));
+            int binaryCalls = 2_000_000;
+
+            runLinear(xValues, queries, linearCalls);
+            runBinary(function, queries, binaryCalls);
+
+            double linear = runLinear(xValues, queries, linearCalls);
+            double binary = runBinary(function, queries, binaryCalls);
+            System.out.printf("%12d %16.1f %16.1f %9.1fx%n", size, linear, binary, linear / binary);
+        }
+    }
+
+    private static double[] randomQueries(int size, int count) {
+        Random random = new Random(42);
+        double[] queries = new double[count];
+        for (int i = 0; i < count; i++) {
+            queries[i] = random.nextDouble() * size;
+        }
+        return queries;
+    }
+
+    private static double runBinary(ArrayTabulatedFunction function, double[] queries, int calls) {
+        double sink = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < calls; i++) {
+            sink += function.apply(queries[i & (queries.length - 1)]);
+        }
+        long elapsed = System.nanoTime() - start;
+        consume(sink);
+        return (double) elapsed / calls;
+    }
+
+    // Повторяет прежнюю реализацию indexOfX + floorIndexOfX
+    private static double runLinear(double[] xValues, double[] queries, int calls) {
+        long sink = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < calls; i++) {
+            double x = queries[i & (queries.length - 1)];
+            int index = -1;
+            for (int j = 0; j < xValues.length; j++) {
+                if (Math.abs(xValues[j] - x) < 1e-10) {
+                    index = j;
+                    break;
+                }
+            }
+            if (index == -1) {
+                index = xValues.length - 1;
+                for (int j = 1; j < xValues.length; j++) {
+                    if (xValues[j] > x) {
+                        index = j - 1;
+                        break;
+                    }
+                }
+            }
+            sink += index;
+        }
+        long elapsed = System.nanoTime() - start;
+        consume(sink);
+        return (double) elapsed / calls;
+    }
+
+    private static void consume(double value) {
+        if (value == 42.4242) {
+            System.out.println(value);
+        }
+    }
+}
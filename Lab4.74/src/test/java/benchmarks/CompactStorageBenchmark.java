@@ -0,0 +1,84 @@
+package benchmarks;
+
+import ch.qos.logback.classic.Level;
+import functions.ArrayTabulatedFunction;
+import functions.CompactTabulatedFunction;
+import functions.SqrFunction;
+import functions.TabulatedFunction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Random;
+
+// Сравнение CompactTabulatedFunction с ArrayTabulatedFunction по объёму хранения и скорости apply.
+// Запуск: mvn test-compile exec:java -Dexec.mainClass=benchmarks.CompactStorageBenchmark -Dexec.classpathScope=test
+public class CompactStorageBenchmark {
+    private static final int[] SIZES = {1_000, 100_000, 10_000_000};
+    // Точность по x в долях шага сетки
+    private static final double[] PRECISION_FRACTIONS = {1e-2, 1e-3};
+    private static final int CALLS = 2_000_000;
+
+    public static void main(String[] args) {
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME)).setLevel(Level.WARN);
+
+        System.out.printf("%12s %10s %14s %14s %8s %14s %14s %12s%n", "points", "xPrecision",
+                "array bytes", "compact bytes", "ratio", "array ns/op", "compact ns/op", "max |dy|");
+        for (int size : SIZES) {
+            ArrayTabulatedFunction array = new ArrayTabulatedFunction(new SqrFunction(), 0, 1, size);
+            double[] xValues = new double[size];
+            double[] yValues = new double[size];
+            array.copyX(xValues);
+            array.copyY(yValues);
+            double[] queries = randomQueries(4096);
+            long arrayBytes = 2L * Double.BYTES * size;
+
+            for (double fraction : PRECISION_FRACTIONS) {
+                double xPrecision = fraction / (size - 1);
+                CompactTabulatedFunction compact = new CompactTabulatedFunction(xValues, yValues, xPrecision);
+
+                run(array, queries);
+                run(compact, queries);
+
+                double arrayTime = run(array, queries);
+                double compactTime = run(compact, queries);
+                System.out.printf("%12d %10.0e %14d %14d %7.1fx %14.1f %14.1f %12.2e%n", size, xPrecision,
+                        arrayBytes, compact.getStorageBytes(), (double) arrayBytes / compact.getStorageBytes(),
+                        arrayTime, compactTime, maxError(array, compact, queries));
+            }
+        }
+    }
+
+    private static double[] randomQueries(int count) {
+        Random random = new Random(42);
+        double[] queries = new double[count];
+        for (int i = 0; i < count; i++) {
+            queries[i] = random.nextDouble();
+        }
+        return queries;
+    }
+
+    private static double run(TabulatedFunction function, double[] queries) {
+        double sink = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < CALLS; i++) {
+            sink += function.apply(queries[i & (queries.length - 1)]);
+        }
+        long elapsed = System.nanoTime() - start;
+        consume(sink);
+        return (double) elapsed / CALLS;
+    }
+
+    private static double maxError(TabulatedFunction expected, TabulatedFunction actual, double[] queries) {
+        double max = 0;
+        for (double x : queries) {
+            max = Math.max(max, Math.abs(expected.apply(x) - actual.apply(x)));
+        }
+        return max;
+    }
+
+    private static void consume(double value) {
+        if (value == 42.4242) {
+            System.out.println(value);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package benchmarks;
+
+import ch.qos.logback.classic.Level;
+import functions.FrozenTabulatedFunction;
+import functions.TabulatedFunction;
+import functions.factory.ArrayTabulatedFunctionFactory;
+import functions.factory.FrozenTabulatedFunctionFactory;
+import functions.factory.TabulatedFunctionFactory;
+import operations.TabulatedFunctionOperationService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ForkJoinPool;
+
+// Время TabulatedFunctionOperationService.multiply в последовательном и параллельном режимах
+// при разном числе потоков. Функции имеют разные массивы x, поэтому проверка x не пропускается.
+// Операнды читаются частями внутри задач; с ArrayTabulatedFunctionFactory результат затем
+// копируется и проверяется на сортировку последовательно, что ограничивает ускорение.
+// Запуск: mvn test-compile exec:java -Dexec.mainClass=benchmarks.ParallelOperationBenchmark -Dexec.classpathScope=test
+// (для 10^7 точек нужно около 2 ГБ кучи)
+public class ParallelOperationBenchmark {
+    private static final int[] SIZES = {100_000, 1_000_000, 10_000_000};
+    private static final int ROUNDS = 10;
+
+    public static void main(String[] args) {
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME)).setLevel(Level.WARN);
+
+        int cores = Runtime.getRuntime().availableProcessors();
+        System.out.printf("%10s %12s %10s %14s %10s%n", "factory", "points", "threads", "ms/op", "speedup");
+        TabulatedFunctionFactory[] factories = {new FrozenTabulatedFunctionFactory(), new ArrayTabulatedFunctionFactory()};
+        for (TabulatedFunctionFactory factory : factories) {
+            String name = factory instanceof FrozenTabulatedFunctionFactory ? "frozen" : "array";
+            for (int size : SIZES) {
+                TabulatedFunction a = function(size, 1);
+                TabulatedFunction b = function(size, 2);
+                TabulatedFunctionOperationService service = new TabulatedFunctionOperationService(factory);
+
+                run(service, a, b);
+                double sequential = run(service, a, b);
+                System.out.printf("%10s %12d %10s %14.2f %10s%n", name, size, "seq", sequential, "1.0x");
+
+                for (int threads = 2; threads <= cores; threads *= 2) {
+                    ForkJoinPool pool = new ForkJoinPool(threads);
+                    service.setParallelMode(pool);
+                    run(service, a, b);
+                    double parallel = run(service, a, b);
+                    System.out.printf("%10s %12d %10d %14.2f %9.1fx%n", name, size, threads, parallel,
+                            sequential / parallel);
+                    pool.shutdown();
+                }
+            }
+        }
+    }
+
+    private static TabulatedFunction function(int size, double shift) {
+        double[] xValues = new double[size];
+        double[] yValues = new double[size];
+        for (int i = 0; i < size; i++) {
+            xValues[i] = i;
+            yValues[i] = shift + Math.sin(i);
+        }
+        return new FrozenTabulatedFunction(xValues, yValues);
+    }
+
+    private static double run(TabulatedFunctionOperationService service, TabulatedFunction a, TabulatedFunction b) {
+        double sink = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            sink += service.multiply(a, b).getY(i);
+        }
+        long elapsed = System.nanoTime() - start;
+        consume(sink);
+        return elapsed / 1e6 / ROUNDS;
+    }
+
+    private static void consume(double value) {
+        if (value == 42.4242) {
+            System.out.println(value);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package benchmarks;
+
+import ch.qos.logback.classic.Level;
+import functions.ArrayTabulatedFunction;
+import functions.SqrFunction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.Random;
+
+// Скорость ArrayTabulatedFunction.apply без кэша наклонов и с ним: поштучно на случайных x
+// и пакетом на отсортированных (однопроходный обход отрезков).
+// Запуск: mvn test-compile exec:java -Dexec.mainClass=benchmarks.SlopeCacheBenchmark -Dexec.classpathScope=test
+public class SlopeCacheBenchmark {
+    private static final int[] SIZES = {16, 1_000, 1_000_000};
+    private static final int CALLS = 2_000_000;
+    private static final int BATCH = 4096;
+
+    public static void main(String[] args) {
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME)).setLevel(Level.WARN);
+
+        System.out.printf("%12s %16s %16s %16s %16s%n", "points",
+                "plain ns/op", "cached ns/op", "plain bulk ns/op", "cached bulk ns/op");
+        for (int size : SIZES) {
+            ArrayTabulatedFunction plain = new ArrayTabulatedFunction(new SqrFunction(), 0, 1, size);
+            ArrayTabulatedFunction cached = new ArrayTabulatedFunction(new SqrFunction(), 0, 1, size);
+            cached.setSlopeCacheEnabled(true);
+            double[] queries = randomQueries();
+            double[] sorted = queries.clone();
+            Arrays.sort(sorted);
+
+            run(plain, queries);
+            run(cached, queries);
+            runBulk(plain, sorted);
+            runBulk(cached, sorted);
+
+            System.out.printf("%12d %16.1f %16.1f %16.1f %16.1f%n", size,
+                    run(plain, queries), run(cached, queries), runBulk(plain, sorted), runBulk(cached, sorted));
+        }
+    }
+
+    private static double[] randomQueries() {
+        Random random = new Random(42);
+        double[] queries = new double[BATCH];
+        for (int i = 0; i < BATCH; i++) {
+            queries[i] = random.nextDouble() * 1.2 - 0.1;
+        }
+        return queries;
+    }
+
+    private static double run(ArrayTabulatedFunction function, double[] queries) {
+        double sink = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < CALLS; i++) {
+            sink += function.apply(queries[i & (queries.length - 1)]);
+        }
+        long elapsed = System.nanoTime() - start;
+        consume(sink);
+        return (double) elapsed / CALLS;
+    }
+
+    private static double runBulk(ArrayTabulatedFunction function, double[] queries) {
+        double[] out = new double[queries.length];
+        double sink = 0;
+        int rounds = CALLS / queries.length;
+        long start = System.nanoTime();
+        for (int r = 0; r < rounds; r++) {
+            function.apply(queries, out);
+            sink += out[r & (out.length - 1)];
+        }
+        long elapsed = System.nanoTime() - start;
+        consume(sink);
+        return (double) elapsed / ((long) rounds * queries.length);
+    }
+
+    private static void consume(double value) {
+        if (value == 42.4242) {
+            System.out.println(value);
+        }
+    }
+}
@@ -256,4 +256,46 @@ public class SynchronizedTabulatedFunctionTest
         assertEquals(100, syncFunction.getY(2), 1e-9);
         assertEquals(1, syncFunction.getY(3), 1e-9);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testForEachPointAndCopy() {
+        double[] xValues = {1.0, 2.0, 3.0, 4.0};
+        double[] yValues = {1.0, 4.0, 9.0, 16.0};
+        TabulatedFunction function = new SynchronizedTabulatedFunction(new LinkedListTabulatedFunction(xValues, yValues));
+
+        double[] visitedX = new double[4];
+        double[] visitedY = new double[4];
+        int[] visited = {0};
+        function.forEachPoint((x, y) -> {
+            visitedX[visited[0]] = x;
+            visitedY[visited[0]] = y;
+            visited[0]++;
+        });
+        assertEquals(4, visited[0]);
+        assertArrayEquals(xValues, visitedX, 1e-12);
+        assertArrayEquals(yValues, visitedY, 1e-12);
+
+        double[] copiedX = new double[5];
+        double[] copiedY = new double[4];
+        function.copyX(copiedX);
+        function.copyY(copiedY);
+        assertArrayEquals(new double[]{1.0, 2.0, 3.0, 4.0, 0.0}, copiedX, 1e-12);
+        assertArrayEquals(yValues, copiedY, 1e-12);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> function.copyX(new double[3]));
+        assertThrows(IndexOutOfBoundsException.class, () -> function.copyY(new double[3]));
+    }
+
+    @Test
+    void testFreeze() {
+        SynchronizedTabulatedFunction function = new SynchronizedTabulatedFunction(
+                new LinkedListTabulatedFunction(new double[]{1.0, 2.0, 3.0}, new double[]{1.0, 4.0, 9.0}));
+
+        FrozenTabulatedFunction frozen = function.freeze();
+        function.setY(0, 100.0);
+
+        assertEquals(3, frozen.getCount());
+        assertEquals(1.0, frozen.getY(0));
+        assertEquals(9.0, frozen.getY(2));
+    }
+}
@@ -2,10 +2,17 @@ package functions;
 import exceptions.ArrayIsNotSortedException;
 import exceptions.DifferentLengthOfArraysException;
 import exceptions.InterpolationException;
+import io.FunctionsIO;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Assertions;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 public class ArrayTabulatedFunctionTest {
@@ -683,5 +690,259 @@ public class ArrayTabulatedFunctionTest {
         assertEquals(expected, result, 0.0001);
     }
 
+    @Test
+    void testBulkApplySortedMatchesScalar() {
+        double[] xValues = {1.0, 2.0, 3.0, 5.0, 8.0};
+        double[] yValues = {1.0, 4.0, 9.0, 25.0, 64.0};
+        TabulatedFunction function = new ArrayTabulatedFunction(xValues, yValues);
+
+        double[] xs = {-1.0, 1.0, 1.5, 2.0, 2.0, 3.0 - 1e-11, 4.0, 5.0, 7.9, 8.0, 9.5};
+        double[] out = new double[xs.length];
+        function.apply(xs, out);
+
+        for (int i = 0; i < xs.length; i++) {
+            assertEquals(function.apply(xs[i]), out[i], 1e-12);
+        }
+    }
+
+    @Test
+    void testBulkApplyUnsortedMatchesScalar() {
+        double[] xValues = {1.0, 2.0, 3.0, 4.0};
+        double[] yValues = {2.0, 4.0, 6.0, 8.0};
+        TabulatedFunction function = new ArrayTabulatedFunction(xValues, yValues);
+
+        double[] xs = {3.5, 0.0, 2.0, 10.0, 1.25};
+        double[] out = new double[xs.length];
+        function.apply(xs, out, 1, 5);
+
+        assertEquals(0.0, out[0]);
+        for (int i = 1; i < xs.length; i++) {
+            assertEquals(function.apply(xs[i]), out[i], 1e-12);
+        }
+    }
+
+    @Test
+    void testForEachPointAndCopy() {
+        double[] xValues = {1.0, 2.0, 3.0, 4.0};
+        double[] yValues = {1.0, 4.0, 9.0, 16.0};
+        TabulatedFunction function = new ArrayTabulatedFunction(xValues, yValues);
+
+        double[] visitedX = new double[4];
+        double[] visitedY = new double[4];
+        int[] visited = {0};
+        function.forEachPoint((x, y) -> {
+            visitedX[visited[0]] = x;
+            visitedY[visited[0]] = y;
+            visited[0]++;
+        });
+        assertEquals(4, visited[0]);
+        assertArrayEquals(xValues, visitedX, 1e-12);
+        assertArrayEquals(yValues, visitedY, 1e-12);
+
+        double[] copiedX = new double[5];
+        double[] copiedY = new double[4];
+        function.copyX(copiedX);
+        function.copyY(copiedY);
+        assertArrayEquals(new double[]{1.0, 2.0, 3.0, 4.0, 0.0}, copiedX, 1e-12);
+        assertArrayEquals(yValues, copiedY, 1e-12);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> function.copyX(new double[3]));
+        assertThrows(IndexOutOfBoundsException.class, () -> function.copyY(new double[3]));
+    }
+
+    @Test
+    public void testSlopeCacheMatchesPlainEvaluation() {
+        double[] xValues = {-2, -0.5, 1, 1.5, 4, 7};
+        double[] yValues = {3, -1, 2, 2.5, 0, 6};
+        ArrayTabulatedFunction plain = new ArrayTabulatedFunction(xValues, yValues);
+        ArrayTabulatedFunction cached = new ArrayTabulatedFunction(xValues, yValues);
+        cached.setSlopeCacheEnabled(true);
+        assertTrue(cached.isSlopeCacheEnabled());
+
+        assertSameValues(plain, cached);
+
+        plain.setY(2, 10);
+        cached.setY(2, 10);
+        assertSameValues(plain, cached);
+
+        for (double x : new double[]{0, -3, 8, 1.2, 20}) {
+            plain.insert(x, x * x);
+            cached.insert(x, x * x);
+            assertSameValues(plain, cached);
+        }
+        plain.insert(4, -4);
+        cached.insert(4, -4);
+        assertSameValues(plain, cached);
+
+        for (int index : new int[]{0, 3, plain.getCount() - 3, plain.getCount() - 4}) {
+            plain.remove(index);
+            cached.remove(index);
+            assertSameValues(plain, cached);
+        }
+
+        cached.setSlopeCacheEnabled(false);
+        assertFalse(cached.isSlopeCacheEnabled());
+        assertSameValues(plain, cached);
+    }
+
+    @Test
+    public void testSlopeCacheReturnsNodesExactly() {
+        ArrayTabulatedFunction function = new ArrayTabulatedFunction(new SqrFunction(), 0, 1, 11);
+        function.setSlopeCacheEnabled(true);
+
+        for (int i = 0; i < function.getCount(); i++) {
+            assertEquals(function.getY(i), function.apply(function.getX(i)));
+        }
+
+        double[] xs = new double[function.getCount()];
+        double[] out = new double[xs.length];
+        function.copyX(xs);
+        function.apply(xs, out);
+        for (int i = 0; i < xs.length; i++) {
+            assertEquals(function.getY(i), out[i]);
+        }
+    }
+
+    private static void assertSameValues(ArrayTabulatedFunction expected, ArrayTabulatedFunction actual) {
+        double[] xs = new double[121];
+        for (int i = 0; i < xs.length; i++) {
+            xs[i] = -5 + i * 0.25;
+        }
+        double[] expectedOut = new double[xs.length];
+        double[] actualOut = new double[xs.length];
+        expected.apply(xs, expectedOut);
+        actual.apply(xs, actualOut);
+        for (int i = 0; i < xs.length; i++) {
+            assertEquals(expected.apply(xs[i]), actual.apply(xs[i]), 1e-9);
+            assertEquals(expectedOut[i], actualOut[i], 1e-9);
+        }
+    }
+
+    @Test
+    public void testInsertAllMatchesSequentialInsert() {
+        double[] xs = {2.5, 0, 9, 4, 1.5, 2.5, -7, 3};
+        double[] ys = {1, 2, 3, 4, 5, 6, 7, 8};
+        ArrayTabulatedFunction sequential = new ArrayTabulatedFunction(new double[]{1, 2, 3, 4}, new double[]{2, 4, 6, 8});
+        for (int i = 0; i < xs.length; i++) {
+            sequential.insert(xs[i], ys[i]);
+        }
+        arrayFunction.setSlopeCacheEnabled(true);
+        arrayFunction.apply(2.2);
+
+        arrayFunction.insertAll(xs, ys);
+
+        assertEquals(sequential.getCount(), arrayFunction.getCount());
+        assertEquals(6.0, arrayFunction.getY(arrayFunction.indexOfX(2.5)));
+        assertEquals(8.0, arrayFunction.getY(arrayFunction.indexOfX(3)));
+        for (int i = 0; i < sequential.getCount(); i++) {
+            assertEquals(sequential.getX(i), arrayFunction.getX(i));
+            assertEquals(sequential.getY(i), arrayFunction.getY(i));
+        }
+        assertEquals(sequential.apply(5.5), arrayFunction.apply(5.5), 1e-12);
+
+        assertThrows(DifferentLengthOfArraysException.class, () -> arrayFunction.insertAll(new double[]{1}, new double[0]));
+    }
+
+    @Test
+    public void testInsertAllGrowsCapacityOnce() {
+        double[] xs = new double[1000];
+        double[] ys = new double[1000];
+        for (int i = 0; i < xs.length; i++) {
+            xs[i] = 1000 - i * 0.5;
+            ys[i] = i;
+        }
+
+        arrayFunction.insertAll(xs, ys);
+
+        assertEquals(1004, arrayFunction.getCount());
+        assertEquals(1.0, arrayFunction.leftBound());
+        assertEquals(1000.0, arrayFunction.rightBound());
+        assertEquals(999.0, arrayFunction.getY(arrayFunction.indexOfX(500.5)));
+    }
+
+    @Test
+    public void testAppendFromBinaryStream() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (BufferedOutputStream output = new BufferedOutputStream(bytes)) {
+            FunctionsIO.writeTabulatedFunction(output,
+                    new ArrayTabulatedFunction(new double[]{0, 2.5, 6}, new double[]{-1, -2, -3}));
+        }
+
+        FunctionsIO.appendTabulatedFunction(new BufferedInputStream(new ByteArrayInputStream(bytes.toByteArray())),
+                arrayFunction);
+
+        assertEquals(7, arrayFunction.getCount());
+        assertEquals(0.0, arrayFunction.leftBound());
+        assertEquals(6.0, arrayFunction.rightBound());
+        assertEquals(-2.0, arrayFunction.getY(3));
+    }
+
+    @Test
+    public void testRemoveRange() {
+        ArrayTabulatedFunction function = new ArrayTabulatedFunction(new SqrFunction(), 0, 9, 10);
+        function.setSlopeCacheEnabled(true);
+        function.apply(1.5);
+
+        function.removeRange(2, 7);
+
+        assertEquals(5, function.getCount());
+        assertArrayEquals(new double[]{0, 1, 7, 8, 9}, copyOfX(function), 1e-12);
+        assertEquals(81.0, function.getY(4), 1e-12);
+        assertEquals(25.0, function.apply(4), 1e-12);
+
+        function.removeRange(3, 3);
+        assertEquals(5, function.getCount());
+        assertThrows(IllegalArgumentException.class, () -> function.removeRange(-1, 2));
+        assertThrows(IllegalArgumentException.class, () -> function.removeRange(3, 6));
+        assertThrows(IllegalArgumentException.class, () -> function.removeRange(3, 2));
+    }
+
+    @Test
+    public void testRemoveIf() {
+        ArrayTabulatedFunction function = new ArrayTabulatedFunction(new SqrFunction(), 0, 9, 10);
+
+        int removed = function.removeIf((x, y) -> x % 2 == 1 || y > 50);
+
+        assertEquals(6, removed);
+        assertArrayEquals(new double[]{0, 2, 4, 6}, copyOfX(function), 1e-12);
+        assertEquals(36.0, function.getY(3), 1e-12);
+        assertEquals(0, function.removeIf((x, y) -> false));
+    }
+
+    @Test
+    public void testTrimToSize() {
+        for (int i = 0; i < 20; i++) {
+            arrayFunction.insert(10 + i, i);
+        }
+        assertTrue(arrayFunction.getCapacity() > arrayFunction.getCount());
+
+        arrayFunction.removeRange(4, 24);
+        arrayFunction.trimToSize();
+
+        assertEquals(4, arrayFunction.getCapacity());
+        assertEquals(6.0, arrayFunction.getY(2));
+
+        arrayFunction.insert(5, 10);
+        assertEquals(5, arrayFunction.getCount());
+        assertEquals(10.0, arrayFunction.getY(4));
+    }
+
+    private static double[] copyOfX(TabulatedFunction function) {
+        double[] xs = new double[function.getCount()];
+        function.copyX(xs);
+        return xs;
+    }
+
+    @Test
+    void testSetYsKeepsSlopeCache() {
+        ArrayTabulatedFunction function = new ArrayTabulatedFunction(new double[]{0, 1, 2}, new double[]{0, 0, 0});
+        function.setSlopeCacheEnabled(true);
+        function.setYs(new double[]{1, 3, 7});
+
+        assertEquals(3.0, function.getY(1), 1e-12);
+        assertEquals(2.0, function.apply(0.5), 1e-12);
+        assertEquals(5.0, function.apply(1.5), 1e-12);
+        assertThrows(IndexOutOfBoundsException.class, () -> function.setYs(new double[]{1, 2}));
+    }
 
-}
\ No newline at end of file
+}
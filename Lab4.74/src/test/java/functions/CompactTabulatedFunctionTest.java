@@ -0,0 +1,126 @@
+package functions;
+
+import exceptions.ArrayIsNotSortedException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CompactTabulatedFunctionTest {
+
+    private CompactTabulatedFunction function;
+
+    @BeforeEach
+    public void setUp() {
+        function = new CompactTabulatedFunction(new double[]{1, 2, 3, 4}, new double[]{2, 4, 6, 8}, 1e-9);
+    }
+
+    @Test
+    public void testConstructor() {
+        assertEquals(4, function.getCount());
+        assertEquals(1.0, function.leftBound());
+        assertEquals(4.0, function.rightBound(), 1e-9);
+        assertEquals(6.0, function.getY(2));
+        assertEquals(1e-9, function.getXPrecision(), 1e-24);
+    }
+
+    @Test
+    public void testInvalidConstructors() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new CompactTabulatedFunction(new double[]{1}, new double[]{1}, 1e-9));
+        assertThrows(ArrayIsNotSortedException.class,
+                () -> new CompactTabulatedFunction(new double[]{2, 1}, new double[]{1, 2}, 1e-9));
+        assertThrows(IllegalArgumentException.class,
+                () -> new CompactTabulatedFunction(new double[]{1, 2}, new double[]{1, 2}, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> new CompactTabulatedFunction(new double[]{1, 1.05}, new double[]{1, 2}, 0.1));
+        assertThrows(IllegalArgumentException.class,
+                () -> new CompactTabulatedFunction(new double[]{0, 1e10}, new double[]{1, 2}, 1e-9));
+        assertThrows(IllegalArgumentException.class,
+                () -> new CompactTabulatedFunction(new double[]{1, 2}, new double[]{1, 1e300}, 1e-9));
+    }
+
+    @Test
+    public void testErrorBounds() {
+        double xPrecision = 1e-6;
+        ArrayTabulatedFunction source = new ArrayTabulatedFunction(new SqrFunction(), -3, 3, 1000);
+        double[] xValues = new double[source.getCount()];
+        double[] yValues = new double[source.getCount()];
+        source.copyX(xValues);
+        source.copyY(yValues);
+
+        CompactTabulatedFunction compact = new CompactTabulatedFunction(xValues, yValues, xPrecision);
+
+        for (int i = 0; i < source.getCount(); i++) {
+            assertEquals(source.getX(i), compact.getX(i), xPrecision);
+            assertEquals(source.getY(i), compact.getY(i), Math.ulp((float) source.getY(i)));
+        }
+        double maxSlope = 6;
+        double bound = 9 * 0x1p-24 + maxSlope * xPrecision;
+        for (double x = -3; x <= 3; x += 0.0123) {
+            assertEquals(source.apply(x), compact.apply(x), bound);
+        }
+    }
+
+    @Test
+    public void testNarrowAndWideStorage() {
+        int count = 1000;
+        double[] xValues = new double[count];
+        double[] yValues = new double[count];
+        for (int i = 0; i < count; i++) {
+            xValues[i] = i * 0.01;
+            yValues[i] = i;
+        }
+        CompactTabulatedFunction narrow = new CompactTabulatedFunction(xValues, yValues, 1e-5);
+        assertTrue(narrow.getStorageBytes() < 7L * count);
+
+        xValues[count - 1] = 1e6;
+        CompactTabulatedFunction wide = new CompactTabulatedFunction(xValues, yValues, 1e-3);
+        assertEquals(8L * count, wide.getStorageBytes());
+        assertEquals(1e6, wide.rightBound(), 1e-3);
+        assertEquals(5.0, wide.getX(500), 1e-3);
+    }
+
+    @Test
+    public void testApply() {
+        assertEquals(4, function.apply(2), 0.0001);
+        assertEquals(5, function.apply(2.5), 0.0001);
+        assertEquals(0, function.apply(0), 0.0001);
+        assertEquals(10, function.apply(5), 0.0001);
+    }
+
+    @Test
+    public void testIndexOf() {
+        assertEquals(2, function.indexOfX(3.0));
+        assertEquals(-1, function.indexOfX(2.5));
+        assertEquals(3, function.indexOfY(8.0));
+        assertEquals(-1, function.indexOfY(5.0));
+    }
+
+    @Test
+    public void testSetYRoundsToFloat() {
+        function.setY(1, 0.1);
+        assertEquals((float) 0.1, function.getY(1));
+        assertThrows(IllegalArgumentException.class, () -> function.setY(4, 1));
+        assertThrows(IllegalArgumentException.class, () -> function.setY(0, Double.MAX_VALUE));
+    }
+
+    @Test
+    public void testIteratorAndCopy() {
+        Iterator<Point> iterator = function.iterator();
+        int i = 0;
+        while (iterator.hasNext()) {
+            Point point = iterator.next();
+            assertEquals(function.getX(i), point.x);
+            assertEquals(function.getY(i), point.y);
+            i++;
+        }
+        assertEquals(4, i);
+
+        double[] ys = new double[4];
+        function.copyY(ys);
+        assertArrayEquals(new double[]{2, 4, 6, 8}, ys);
+    }
+}
@@ -144,4 +144,19 @@ public class CompositeFunctionTest {
         assertEquals(10.0, complexChain.apply(2), 1e-9);
     }
 
-}
\ No newline at end of file
+    @Test
+    void testBulkApplyMatchesScalar() {
+        double[] xValues = {0, 1, 2, 3};
+        double[] yValues = {0, 2, 4, 6};
+        TabulatedFunction arrayFunc = new ArrayTabulatedFunction(xValues, yValues);
+        MathFunction chain = new SqrFunction().andThen(arrayFunc).andThen(new IdentityFunction());
+
+        double[] xs = {-1, -0.5, 0, 0.5, 1, 1.5, 2};
+        double[] out = new double[xs.length];
+        chain.apply(xs, out);
+
+        for (int i = 0; i < xs.length; i++) {
+            assertEquals(chain.apply(xs[i]), out[i], 1e-12);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package functions;
+
+import concurrent.SynchronizedTabulatedFunction;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EvaluationMetricsTest {
+
+    @Test
+    public void testCountersFollowSwitch() {
+        EvaluationMetrics.reset();
+        ArrayTabulatedFunction array = new ArrayTabulatedFunction(new double[]{1, 2, 3}, new double[]{2, 4, 6});
+        MathFunction composite = new CompositeFunction(array, new SqrFunction());
+        SynchronizedTabulatedFunction synchronizedFunction = new SynchronizedTabulatedFunction(array);
+
+        assertEquals(25.0, composite.apply(2.5), 1e-12);
+        assertEquals(8.0, synchronizedFunction.apply(4), 1e-12);
+        array.getX(0);
+
+        Map<EvaluationMetrics.Event, Long> counts = EvaluationMetrics.snapshot();
+        if (EvaluationMetrics.ENABLED) {
+            assertEquals(2L, counts.get(EvaluationMetrics.Event.APPLY));
+            assertEquals(1L, counts.get(EvaluationMetrics.Event.COMPOSITE_APPLY));
+            assertEquals(1L, counts.get(EvaluationMetrics.Event.INTERPOLATE));
+            assertEquals(1L, counts.get(EvaluationMetrics.Event.EXTRAPOLATE));
+            assertTrue(counts.get(EvaluationMetrics.Event.SYNCHRONIZED_CALL) >= 1);
+            assertTrue(counts.get(EvaluationMetrics.Event.POINT_ACCESS) >= 1);
+        } else {
+            for (long count : counts.values()) {
+                assertEquals(0L, count);
+            }
+            assertEquals(0.0, EvaluationMetrics.getMeanNanos(EvaluationMetrics.Event.APPLY));
+        }
+    }
+
+    @Test
+    public void testResetClearsCounters() {
+        new ArrayTabulatedFunction(new double[]{1, 2}, new double[]{1, 2}).apply(1.5);
+
+        EvaluationMetrics.reset();
+
+        assertEquals(0L, EvaluationMetrics.getCount(EvaluationMetrics.Event.APPLY));
+        assertEquals(0.0, EvaluationMetrics.getMeanNanos(EvaluationMetrics.Event.APPLY));
+    }
+}
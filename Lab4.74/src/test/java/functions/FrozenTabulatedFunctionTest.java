@@ -0,0 +1,152 @@
+package functions;
+
+import exceptions.ArrayIsNotSortedException;
+import exceptions.DifferentLengthOfArraysException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FrozenTabulatedFunctionTest {
+
+    @Test
+    public void testConstructorCopiesArrays() {
+        double[] xValues = {1, 2, 3};
+        double[] yValues = {2, 4, 6};
+        FrozenTabulatedFunction function = new FrozenTabulatedFunction(xValues, yValues);
+
+        xValues[0] = -10;
+        yValues[0] = -10;
+
+        assertEquals(3, function.getCount());
+        assertEquals(1.0, function.getX(0));
+        assertEquals(2.0, function.getY(0));
+    }
+
+    @Test
+    public void testInvalidConstructors() {
+        assertThrows(IllegalArgumentException.class, () -> new FrozenTabulatedFunction(new double[]{1}, new double[]{1}));
+        assertThrows(DifferentLengthOfArraysException.class,
+                () -> new FrozenTabulatedFunction(new double[]{1, 2}, new double[]{1}));
+        assertThrows(ArrayIsNotSortedException.class,
+                () -> new FrozenTabulatedFunction(new double[]{2, 1}, new double[]{1, 2}));
+    }
+
+    @Test
+    public void testFreezeMatchesSource() {
+        ArrayTabulatedFunction source = new ArrayTabulatedFunction(new SqrFunction(), -4, 4, 77);
+        FrozenTabulatedFunction frozen = source.freeze();
+
+        assertEquals(source.getCount(), frozen.getCount());
+        for (int i = 0; i < source.getCount(); i++) {
+            assertEquals(source.getX(i), frozen.getX(i));
+            assertEquals(source.getY(i), frozen.getY(i));
+        }
+        for (double x = -5; x <= 5; x += 0.031) {
+            assertEquals(source.apply(x), frozen.apply(x), 1e-12);
+        }
+        assertSame(frozen, frozen.freeze());
+        assertSame(frozen, FrozenTabulatedFunction.of(frozen));
+    }
+
+    @Test
+    public void testApplyNaNMatchesSource() {
+        ArrayTabulatedFunction source = new ArrayTabulatedFunction(new double[]{1, 2, 3}, new double[]{1, 4, 9});
+        FrozenTabulatedFunction frozen = source.freeze();
+
+        assertTrue(Double.isNaN(source.apply(Double.NaN)));
+        assertTrue(Double.isNaN(frozen.apply(Double.NaN)));
+    }
+
+    @Test
+    public void testSnapshotIsIndependentOfSource() {
+        LinkedListTabulatedFunction source = new LinkedListTabulatedFunction(new double[]{1, 2, 3}, new double[]{1, 4, 9});
+        FrozenTabulatedFunction frozen = source.freeze();
+
+        source.setY(1, 100);
+
+        assertEquals(4.0, frozen.getY(1));
+        assertEquals(2.5, frozen.apply(1.5), 1e-12);
+    }
+
+    @Test
+    public void testReadOnly() {
+        FrozenTabulatedFunction function = new FrozenTabulatedFunction(new double[]{1, 2}, new double[]{3, 4});
+        assertThrows(UnsupportedOperationException.class, () -> function.setY(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> function.getY(2));
+    }
+
+    @Test
+    public void testWithYSharesX() {
+        FrozenTabulatedFunction function = new FrozenTabulatedFunction(new double[]{1, 2, 3}, new double[]{1, 2, 3});
+        double[] yValues = {7, 8, 9};
+        FrozenTabulatedFunction other = function.withY(yValues);
+        yValues[0] = 0;
+
+        assertTrue(function.hasSameX(other));
+        assertEquals(7.0, other.getY(0));
+        assertEquals(1.0, function.getY(0));
+        assertFalse(function.hasSameX(new FrozenTabulatedFunction(new double[]{1, 2, 3}, new double[]{1, 2, 3})));
+        assertThrows(IllegalArgumentException.class, () -> function.withY(new double[2]));
+    }
+
+    @Test
+    public void testWithOwnedYTakesArray() {
+        FrozenTabulatedFunction function = new FrozenTabulatedFunction(new double[]{1, 2, 3}, new double[]{1, 2, 3});
+        double[] yValues = {7, 8, 9};
+        FrozenTabulatedFunction other = function.withOwnedY(yValues);
+        yValues[0] = 0;
+
+        assertTrue(function.hasSameX(other));
+        assertEquals(0.0, other.getY(0));
+        assertThrows(IllegalArgumentException.class, () -> function.withOwnedY(new double[4]));
+    }
+
+    @Test
+    public void testIndexOfAndIterator() {
+        FrozenTabulatedFunction function = new FrozenTabulatedFunction(new double[]{1, 2, 3}, new double[]{5, 6, 7});
+        assertEquals(1, function.indexOfX(2.0));
+        assertEquals(-1, function.indexOfX(2.5));
+        assertEquals(2, function.indexOfY(7.0));
+        assertEquals(-1, function.indexOfY(8.0));
+
+        Iterator<Point> iterator = function.iterator();
+        int i = 0;
+        while (iterator.hasNext()) {
+            Point point = iterator.next();
+            assertEquals(function.getX(i), point.x);
+            assertEquals(function.getY(i), point.y);
+            i++;
+        }
+        assertEquals(3, i);
+        assertThrows(java.util.NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    public void testConcurrentReads() throws Exception {
+        FrozenTabulatedFunction function = new ArrayTabulatedFunction(new SqrFunction(), 0, 10, 1001).freeze();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<?>[] futures = new Future<?>[4];
+            for (int t = 0; t < futures.length; t++) {
+                futures[t] = executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        double x = (i % 1000) * 0.01;
+                        assertEquals(x * x, function.apply(x), 1e-9);
+                    }
+                });
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        }
+    }
+}
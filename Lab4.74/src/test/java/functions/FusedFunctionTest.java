@@ -0,0 +1,73 @@
+package functions;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FusedFunctionTest {
+
+    @Test
+    void testCompiledChainMatchesComposite() {
+        MathFunction increment = x -> x + 1;
+        CompositeFunction composite = new SqrFunction().andThen(increment).andThen(new SqrFunction()).andThen(x -> x / 2);
+
+        MathFunction compiled = composite.compile();
+
+        assertTrue(compiled instanceof FusedFunction);
+        assertEquals(4, ((FusedFunction) compiled).getStageCount());
+        for (double x = -3; x <= 3; x += 0.25) {
+            assertEquals(composite.apply(x), compiled.apply(x), 1e-12);
+        }
+    }
+
+    @Test
+    void testIdentityIsFolded() {
+        MathFunction sqr = new SqrFunction();
+        MathFunction compiled = new IdentityFunction().andThen(sqr).andThen(new IdentityFunction()).compile();
+
+        assertSame(sqr, compiled);
+        assertTrue(FusedFunction.compile(new IdentityFunction().andThen(new IdentityFunction())) instanceof IdentityFunction);
+    }
+
+    @Test
+    void testConstantsAreFolded() {
+        MathFunction compiled = new SqrFunction().andThen(new ZeroFunction()).compile();
+        assertTrue(compiled instanceof ZeroFunction);
+        assertEquals(0.0, compiled.apply(5));
+
+        MathFunction increment = x -> x + 1;
+        MathFunction chain = new SqrFunction().andThen(new UnitFunction()).andThen(increment).compile();
+        assertEquals(2, ((FusedFunction) chain).getStageCount());
+        assertEquals(2.0, chain.apply(7));
+
+        MathFunction constant = new SqrFunction().andThen(new ConstantFunction(3)).andThen(new SqrFunction()).compile();
+        assertEquals(9.0, constant.apply(-100));
+    }
+
+    @Test
+    void testNestedFusedAndDeepChains() {
+        MathFunction increment = x -> x + 1;
+        MathFunction inner = new SqrFunction().andThen(increment).compile();
+        MathFunction outer = new CompositeFunction(inner, new SqrFunction()).compile();
+        assertEquals(3, ((FusedFunction) outer).getStageCount());
+        assertEquals(25.0, outer.apply(2), 1e-12);
+
+        MathFunction chain = new IdentityFunction();
+        for (int i = 0; i < 10_000; i++) {
+            chain = chain.andThen(increment);
+        }
+        assertEquals(10_000.5, FusedFunction.compile(chain).apply(0.5), 1e-9);
+    }
+
+    @Test
+    void testBulkApply() {
+        MathFunction increment = x -> x + 1;
+        MathFunction compiled = new SqrFunction().andThen(increment).compile();
+        double[] xs = {0, 1, 2, 3};
+        double[] out = new double[4];
+
+        compiled.apply(xs, out);
+
+        assertArrayEquals(new double[]{1, 2, 5, 10}, out, 1e-12);
+    }
+}
@@ -709,4 +709,135 @@ public class LinkedListTabulatedFunctionTest
         }
     }
 
-}
\ No newline at end of file
+    @Test
+    void testBulkApplySortedMatchesScalar() {
+        double[] xValues = {1.0, 2.0, 3.0, 5.0, 8.0};
+        double[] yValues = {1.0, 4.0, 9.0, 25.0, 64.0};
+        TabulatedFunction function = new LinkedListTabulatedFunction(xValues, yValues);
+
+        double[] xs = {-1.0, 1.0, 1.5, 2.0, 2.0, 3.0 - 1e-11, 4.0, 5.0, 7.9, 8.0, 9.5};
+        double[] out = new double[xs.length];
+        function.apply(xs, out);
+
+        for (int i = 0; i < xs.length; i++) {
+            assertEquals(function.apply(xs[i]), out[i], 1e-12);
+        }
+    }
+
+    @Test
+    void testBulkApplyUnsortedMatchesScalar() {
+        double[] xValues = {1.0, 2.0, 3.0, 4.0};
+        double[] yValues = {2.0, 4.0, 6.0, 8.0};
+        TabulatedFunction function = new LinkedListTabulatedFunction(xValues, yValues);
+
+        double[] xs = {3.5, 0.0, 2.0, 10.0, 1.25};
+        double[] out = new double[xs.length];
+        function.apply(xs, out, 1, 5);
+
+        assertEquals(0.0, out[0]);
+        for (int i = 1; i < xs.length; i++) {
+            assertEquals(function.apply(xs[i]), out[i], 1e-12);
+        }
+    }
+
+    @Test
+    void testForEachPointAndCopy() {
+        double[] xValues = {1.0, 2.0, 3.0, 4.0};
+        double[] yValues = {1.0, 4.0, 9.0, 16.0};
+        TabulatedFunction function = new LinkedListTabulatedFunction(xValues, yValues);
+
+        double[] visitedX = new double[4];
+        double[] visitedY = new double[4];
+        int[] visited = {0};
+        function.forEachPoint((x, y) -> {
+            visitedX[visited[0]] = x;
+            visitedY[visited[0]] = y;
+            visited[0]++;
+        });
+        assertEquals(4, visited[0]);
+        assertArrayEquals(xValues, visitedX, 1e-12);
+        assertArrayEquals(yValues, visitedY, 1e-12);
+
+        double[] copiedX = new double[5];
+        double[] copiedY = new double[4];
+        function.copyX(copiedX);
+        function.copyY(copiedY);
+        assertArrayEquals(new double[]{1.0, 2.0, 3.0, 4.0, 0.0}, copiedX, 1e-12);
+        assertArrayEquals(yValues, copiedY, 1e-12);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> function.copyX(new double[3]));
+        assertThrows(IndexOutOfBoundsException.class, () -> function.copyY(new double[3]));
+    }
+
+    @Test
+    void testInsertAllMatchesSequentialInsert()
+    {
+        double[] xs = {2.5, -1.0, 4.0, 7.0, 2.5, 0.5, 10.0, -3.0};
+        double[] ys = {1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0, 8.0};
+        LinkedListTabulatedFunction sequential = new LinkedListTabulatedFunction(xValues, yValues);
+        LinkedListTabulatedFunction batch = new LinkedListTabulatedFunction(xValues, yValues);
+
+        for (int i = 0; i < xs.length; i++) {
+            sequential.insert(xs[i], ys[i]);
+        }
+        batch.insertAll(xs, ys);
+
+        assertEquals(sequential.getCount(), batch.getCount());
+        assertEquals(-3.0, batch.leftBound());
+        assertEquals(10.0, batch.rightBound());
+        assertEquals(5.0, batch.getY(batch.indexOfX(2.5)));
+        for (int i = 0; i < sequential.getCount(); i++) {
+            assertEquals(sequential.getX(i), batch.getX(i));
+            assertEquals(sequential.getY(i), batch.getY(i));
+        }
+        assertEquals(sequential.apply(3.3), batch.apply(3.3), 1e-12);
+    }
+
+    @Test
+    void testSetYs() {
+        LinkedListTabulatedFunction function = new LinkedListTabulatedFunction(new double[]{0, 1, 2}, new double[]{0, 0, 0});
+        function.setYs(new double[]{4, 5, 6, 7});
+
+        assertEquals(4.0, function.getY(0), 1e-12);
+        assertEquals(6.0, function.getY(2), 1e-12);
+        assertEquals(2.0, function.getX(2), 1e-12);
+    }
+
+    @Test
+    void testRemoveRangeAndRemoveIf() {
+        LinkedListTabulatedFunction function = new LinkedListTabulatedFunction(
+                new double[]{0, 1, 2, 3, 4, 5}, new double[]{0, 1, 4, 9, 16, 25});
+
+        function.removeRange(0, 2);
+        assertEquals(4, function.getCount());
+        assertEquals(2.0, function.leftBound());
+        assertEquals(5.0, function.rightBound());
+
+        function.removeRange(1, 3);
+        assertEquals(2, function.getCount());
+        assertEquals(5.0, function.getX(1));
+        assertEquals(2.0, function.getX(0));
+
+        function.insert(3, 9);
+        function.insert(4, 16);
+        assertEquals(2, function.removeIf((x, y) -> x == 2 || y > 20));
+        assertEquals(2, function.getCount());
+        assertEquals(3.0, function.leftBound());
+        assertEquals(4.0, function.rightBound());
+        assertEquals(12.5, function.apply(3.5), 1e-12);
+
+        assertThrows(IllegalArgumentException.class, () -> function.removeRange(1, 3));
+        assertEquals(2, function.removeIf((x, y) -> true));
+        assertEquals(0, function.getCount());
+    }
+
+    @Test
+    void testDefaultRangeCopy() {
+        LinkedListTabulatedFunction function = new LinkedListTabulatedFunction(new double[]{0, 1, 2}, new double[]{5, 6, 7});
+        double[] ys = new double[3];
+        function.copyY(1, 3, ys, 0);
+
+        assertFalse(function.hasFastRangeCopy());
+        assertArrayEquals(new double[]{6, 7, 0}, ys, 1e-12);
+    }
+}
@@ -0,0 +1,113 @@
+package functions;
+
+import io.FunctionsIO;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MappedTabulatedFunctionTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path write(TabulatedFunction function) throws IOException {
+        Path file = tempDir.resolve("function.bin");
+        try (BufferedOutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+            FunctionsIO.writeTabulatedFunction(out, function);
+        }
+        return file;
+    }
+
+    @Test
+    public void testMappedFunctionMatchesSource() throws IOException {
+        ArrayTabulatedFunction source = new ArrayTabulatedFunction(new SqrFunction(), -5, 5, 101);
+
+        try (MappedTabulatedFunction mapped = FunctionsIO.mapTabulatedFunction(write(source))) {
+            assertEquals(source.getCount(), mapped.getCount());
+            assertEquals(source.leftBound(), mapped.leftBound());
+            assertEquals(source.rightBound(), mapped.rightBound());
+            for (int i = 0; i < source.getCount(); i++) {
+                assertEquals(source.getX(i), mapped.getX(i));
+                assertEquals(source.getY(i), mapped.getY(i));
+            }
+            for (double x = -6; x <= 6; x += 0.173) {
+                assertEquals(source.apply(x), mapped.apply(x), 1e-12);
+            }
+            assertEquals(50, mapped.indexOfX(0.0));
+            assertEquals(-1, mapped.indexOfX(0.05));
+            assertEquals(0, mapped.indexOfY(25.0));
+        }
+    }
+
+    @Test
+    public void testCopyAndIterate() throws IOException {
+        ArrayTabulatedFunction source = new ArrayTabulatedFunction(new double[]{1, 2, 3}, new double[]{4, 5, 6});
+
+        try (MappedTabulatedFunction mapped = new MappedTabulatedFunction(write(source))) {
+            double[] xs = new double[3];
+            double[] ys = new double[3];
+            mapped.copyX(xs);
+            mapped.copyY(ys);
+            assertArrayEquals(new double[]{1, 2, 3}, xs);
+            assertArrayEquals(new double[]{4, 5, 6}, ys);
+
+            int points = 0;
+            for (Point point : mapped) {
+                assertEquals(source.getX(points), point.x);
+                points++;
+            }
+            assertEquals(3, points);
+        }
+    }
+
+    @Test
+    public void testReadOnly() throws IOException {
+        ArrayTabulatedFunction source = new ArrayTabulatedFunction(new double[]{1, 2}, new double[]{3, 4});
+
+        try (MappedTabulatedFunction mapped = new MappedTabulatedFunction(write(source))) {
+            assertThrows(UnsupportedOperationException.class, () -> mapped.setY(0, 10));
+        }
+    }
+
+    @Test
+    public void testClose() throws IOException {
+        ArrayTabulatedFunction source = new ArrayTabulatedFunction(new double[]{1, 2}, new double[]{3, 4});
+        MappedTabulatedFunction mapped = new MappedTabulatedFunction(write(source));
+
+        mapped.close();
+        mapped.close();
+
+        assertTrue(mapped.isClosed());
+        assertThrows(IllegalStateException.class, () -> mapped.getY(0));
+        assertThrows(IllegalStateException.class, mapped::rightBound);
+    }
+
+    @Test
+    public void testInvalidFiles() throws IOException {
+        Path empty = Files.write(tempDir.resolve("empty.bin"), new byte[0]);
+        assertThrows(IOException.class, () -> new MappedTabulatedFunction(empty));
+
+        Path truncated = tempDir.resolve("truncated.bin");
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(truncated))) {
+            out.writeInt(10);
+            out.writeDouble(1.0);
+            out.writeDouble(2.0);
+        }
+        assertThrows(IOException.class, () -> new MappedTabulatedFunction(truncated));
+
+        Path single = tempDir.resolve("single.bin");
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(single))) {
+            out.writeInt(1);
+            out.writeDouble(1.0);
+            out.writeDouble(2.0);
+        }
+        assertThrows(IOException.class, () -> new MappedTabulatedFunction(single));
+    }
+}
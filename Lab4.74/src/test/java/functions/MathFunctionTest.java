@@ -44,4 +44,53 @@ public class MathFunctionTest {
         MathFunction composite1 = f.andThen(g);
         assertEquals(10.0, composite1.apply(5.0), 1e-9);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testBulkApplyDefaultImplementation() {
+        MathFunction increment = x -> x + 1;
+        double[] xs = {1, 2, 3, 4};
+        double[] out = new double[4];
+
+        increment.apply(xs, out);
+        assertArrayEquals(new double[]{2, 3, 4, 5}, out, 1e-12);
+
+        double[] partial = new double[4];
+        increment.apply(xs, partial, 1, 3);
+        assertArrayEquals(new double[]{0, 3, 4, 0}, partial, 1e-12);
+    }
+
+    @Test
+    public void testBulkApplyInPlace() {
+        MathFunction sqr = new SqrFunction();
+        double[] values = {1, 2, 3};
+
+        sqr.apply(values, values);
+        assertArrayEquals(new double[]{1, 4, 9}, values, 1e-12);
+    }
+
+    @Test
+    public void testBulkApplyInvalidRange() {
+        MathFunction identity = new IdentityFunction();
+        double[] xs = {1, 2, 3};
+
+        assertThrows(IndexOutOfBoundsException.class, () -> identity.apply(xs, new double[2]));
+        assertThrows(IndexOutOfBoundsException.class, () -> identity.apply(xs, new double[3], 2, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> identity.apply(xs, new double[3], -1, 2));
+    }
+
+    @Test
+    public void testBulkApplyBuiltInsMatchScalar() {
+        MathFunction[] functions = {
+                new SqrFunction(), new IdentityFunction(), new ConstantFunction(2.5), new ZeroFunction(),
+                new UnitFunction(), new CubicBSplineFunction(), new DerivativeFunction(new SqrFunction(), 1e-6)
+        };
+        double[] xs = {-3, -1.5, -0.25, 0, 0.75, 1, 1.9, 2.5};
+        for (MathFunction function : functions) {
+            double[] out = new double[xs.length];
+            function.apply(xs, out);
+            for (int i = 0; i < xs.length; i++) {
+                assertEquals(function.apply(xs[i]), out[i], 1e-12, function.getClass().getSimpleName());
+            }
+        }
+    }
+}
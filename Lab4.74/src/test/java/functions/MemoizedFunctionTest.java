@@ -0,0 +1,175 @@
+package functions;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MemoizedFunctionTest {
+
+    private static class CountingFunction implements MathFunction {
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public double apply(double x) {
+            calls.incrementAndGet();
+            return x * x + 1;
+        }
+    }
+
+    @Test
+    public void testHitsAndMisses() {
+        CountingFunction source = new CountingFunction();
+        MemoizedFunction memoized = new MemoizedFunction(source, 100);
+
+        assertEquals(5.0, memoized.apply(2));
+        assertEquals(5.0, memoized.apply(2));
+        assertEquals(10.0, memoized.apply(3));
+        assertEquals(10.0, memoized.apply(3));
+
+        assertEquals(2, source.calls.get());
+        assertEquals(2, memoized.getHitCount());
+        assertEquals(2, memoized.getMissCount());
+        assertEquals(0.5, memoized.getHitRate(), 1e-12);
+        assertEquals(2, memoized.size());
+
+        memoized.clear();
+        memoized.resetStatistics();
+        assertEquals(0, memoized.size());
+        assertEquals(0.0, memoized.getHitRate());
+        memoized.apply(2);
+        assertEquals(3, source.calls.get());
+    }
+
+    @Test
+    public void testSpecialKeys() {
+        MemoizedFunction memoized = new MemoizedFunction(x -> 1 / x, 10);
+
+        assertEquals(Double.POSITIVE_INFINITY, memoized.apply(0.0));
+        assertEquals(Double.NEGATIVE_INFINITY, memoized.apply(-0.0));
+        assertTrue(Double.isNaN(memoized.apply(Double.NaN)));
+        assertTrue(Double.isNaN(memoized.apply(Double.NaN)));
+        assertEquals(1, memoized.getHitCount());
+    }
+
+    @Test
+    public void testLruEviction() {
+        CountingFunction source = new CountingFunction();
+        MemoizedFunction memoized = new MemoizedFunction(source, 2, MemoizedFunction.EvictionPolicy.LRU);
+
+        memoized.apply(1);
+        memoized.apply(2);
+        memoized.apply(1);
+        memoized.apply(3);
+
+        assertEquals(1, memoized.getEvictionCount());
+        assertEquals(2, memoized.size());
+        memoized.apply(1);
+        assertEquals(3, source.calls.get());
+        memoized.apply(2);
+        assertEquals(4, source.calls.get());
+    }
+
+    @Test
+    public void testFifoEviction() {
+        CountingFunction source = new CountingFunction();
+        MemoizedFunction memoized = new MemoizedFunction(source, 2, MemoizedFunction.EvictionPolicy.FIFO);
+
+        memoized.apply(1);
+        memoized.apply(2);
+        memoized.apply(1);
+        memoized.apply(3);
+
+        memoized.apply(2);
+        assertEquals(3, source.calls.get());
+        memoized.apply(1);
+        assertEquals(4, source.calls.get());
+    }
+
+    @Test
+    public void testTimeToLive() {
+        CountingFunction source = new CountingFunction();
+        long[] now = {0};
+        MemoizedFunction memoized = new MemoizedFunction(source, 10, MemoizedFunction.EvictionPolicy.LRU,
+                Duration.ofNanos(100), () -> now[0]);
+
+        memoized.apply(1);
+        now[0] = 99;
+        memoized.apply(1);
+        assertEquals(1, source.calls.get());
+
+        now[0] = 100;
+        memoized.apply(1);
+        assertEquals(2, source.calls.get());
+        assertEquals(1, memoized.getEvictionCount());
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new MemoizedFunction(new SqrFunction(), 0));
+        assertThrows(IllegalArgumentException.class, () -> new MemoizedFunction(new SqrFunction(), 10,
+                MemoizedFunction.EvictionPolicy.LRU, Duration.ofSeconds(-1)));
+    }
+
+    @Test
+    public void testManyKeysStayWithinBound() {
+        CountingFunction source = new CountingFunction();
+        MemoizedFunction memoized = new MemoizedFunction(source, 1000);
+
+        for (int i = 0; i < 10_000; i++) {
+            assertEquals(i * (double) i + 1, memoized.apply(i));
+        }
+        assertEquals(1000, memoized.size());
+        assertEquals(9000, memoized.getEvictionCount());
+        for (int i = 9_990; i < 10_000; i++) {
+            memoized.apply(i);
+        }
+        assertEquals(10, memoized.getHitCount());
+    }
+
+    @Test
+    public void testTabulatingConstructors() {
+        CountingFunction source = new CountingFunction();
+        MemoizedFunction memoized = new MemoizedFunction(source, 1000);
+
+        ArrayTabulatedFunction array = new ArrayTabulatedFunction(memoized, 0, 10, 101);
+        LinkedListTabulatedFunction list = new LinkedListTabulatedFunction(memoized, 0, 10, 101);
+
+        assertEquals(101, source.calls.get());
+        assertEquals(101, memoized.getHitCount());
+        for (int i = 0; i < 101; i++) {
+            assertEquals(array.getY(i), list.getY(i));
+        }
+    }
+
+    @Test
+    public void testConcurrentAccess() throws Exception {
+        MemoizedFunction memoized = new MemoizedFunction(new SqrFunction(), 256);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<?>[] futures = new Future<?>[4];
+            for (int t = 0; t < futures.length; t++) {
+                futures[t] = executor.submit(() -> {
+                    for (int i = 0; i < 20_000; i++) {
+                        double x = i % 512;
+                        assertEquals(x * x, memoized.apply(x));
+                    }
+                });
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        }
+        assertTrue(memoized.size() <= 256);
+        assertEquals(80_000, memoized.getHitCount() + memoized.getMissCount());
+    }
+}
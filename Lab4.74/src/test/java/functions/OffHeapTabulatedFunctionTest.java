@@ -0,0 +1,161 @@
+package functions;
+
+import exceptions.ArrayIsNotSortedException;
+import exceptions.InterpolationException;
+import functions.factory.OffHeapTabulatedFunctionFactory;
+import operations.TabulatedDifferentialOperator;
+import operations.TabulatedFunctionOperationService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OffHeapTabulatedFunctionTest {
+
+    private OffHeapTabulatedFunction function;
+
+    @BeforeEach
+    public void setUp() {
+        function = new OffHeapTabulatedFunction(new double[]{1, 2, 3, 4}, new double[]{2, 4, 6, 8});
+    }
+
+    @AfterEach
+    public void tearDown() {
+        function.close();
+    }
+
+    @Test
+    public void testConstructors() {
+        assertEquals(4, function.getCount());
+        assertEquals(1.0, function.leftBound());
+        assertEquals(4.0, function.rightBound());
+        assertEquals(6.0, function.getY(2));
+
+        try (OffHeapTabulatedFunction tabulated = new OffHeapTabulatedFunction(new SqrFunction(), 4, 0, 5)) {
+            assertEquals(0.0, tabulated.getX(0));
+            assertEquals(16.0, tabulated.getY(4));
+        }
+    }
+
+    @Test
+    public void testInvalidConstructors() {
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapTabulatedFunction(new double[]{1}, new double[]{1}));
+        assertThrows(ArrayIsNotSortedException.class, () -> new OffHeapTabulatedFunction(new double[]{2, 1}, new double[]{1, 2}));
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapTabulatedFunction(new SqrFunction(), 0, 1, 1));
+    }
+
+    @Test
+    public void testApply() {
+        assertEquals(4, function.apply(2), 0.0001);
+        assertEquals(5, function.apply(2.5), 0.0001);
+        assertEquals(0, function.apply(0), 0.0001);
+        assertEquals(10, function.apply(5), 0.0001);
+    }
+
+    @Test
+    public void testIndexOf() {
+        assertEquals(2, function.indexOfX(3.0 + 1e-11));
+        assertEquals(-1, function.indexOfX(3.5));
+        assertEquals(3, function.indexOfY(8.0));
+        assertEquals(-1, function.indexOfY(7.0));
+        assertEquals(1, function.floorIndexOfX(2.5));
+        assertThrows(IllegalArgumentException.class, () -> function.floorIndexOfX(0));
+        assertThrows(InterpolationException.class, () -> function.interpolate(3.5, 0));
+    }
+
+    @Test
+    public void testInsertGrowsStorage() {
+        for (int i = 0; i < 50; i++) {
+            function.insert(4.5 + i, i);
+        }
+        function.insert(0, -1);
+        function.insert(2.5, 5);
+        function.insert(3, 60);
+
+        assertEquals(56, function.getCount());
+        assertEquals(0.0, function.getX(0));
+        assertEquals(2.5, function.getX(3));
+        assertEquals(60.0, function.getY(4));
+        assertEquals(53.5, function.rightBound());
+    }
+
+    @Test
+    public void testRemove() {
+        function.remove(1);
+        assertEquals(3, function.getCount());
+        assertEquals(3.0, function.getX(1));
+        assertThrows(IllegalArgumentException.class, () -> function.remove(3));
+    }
+
+    @Test
+    public void testCopyAndIterate() {
+        double[] xs = new double[4];
+        double[] ys = new double[4];
+        function.copyX(xs);
+        function.copyY(ys);
+        assertArrayEquals(new double[]{1, 2, 3, 4}, xs);
+        assertArrayEquals(new double[]{2, 4, 6, 8}, ys);
+
+        Iterator<Point> iterator = function.iterator();
+        assertEquals(1.0, iterator.next().x);
+        assertEquals(4.0, iterator.next().y);
+    }
+
+    @Test
+    public void testClose() {
+        OffHeapTabulatedFunction closed = new OffHeapTabulatedFunction(new double[]{1, 2}, new double[]{3, 4});
+        closed.close();
+        closed.close();
+
+        assertTrue(closed.isClosed());
+        assertThrows(IllegalStateException.class, () -> closed.getX(0));
+        assertThrows(IllegalStateException.class, closed::leftBound);
+        assertThrows(IllegalStateException.class, () -> closed.insert(1, 1));
+    }
+
+    @Test
+    public void testOperationsProduceOffHeapResults() {
+        TabulatedFunctionOperationService service = new TabulatedFunctionOperationService(new OffHeapTabulatedFunctionFactory());
+        TabulatedDifferentialOperator operator = new TabulatedDifferentialOperator(new OffHeapTabulatedFunctionFactory());
+
+        TabulatedFunction sum = service.add(function, function);
+        TabulatedFunction derivative = operator.derive(function);
+
+        assertTrue(sum instanceof OffHeapTabulatedFunction);
+        assertTrue(derivative instanceof OffHeapTabulatedFunction);
+        assertEquals(16.0, sum.getY(3));
+        assertEquals(2.0, derivative.getY(0));
+
+        ((OffHeapTabulatedFunction) sum).close();
+        ((OffHeapTabulatedFunction) derivative).close();
+    }
+
+    @Test
+    public void testRemoveRangeAndTrimToSize() {
+        for (int i = 0; i < 20; i++) {
+            function.insert(10 + i, i);
+        }
+
+        function.removeRange(1, 22);
+        function.trimToSize();
+
+        assertEquals(3, function.getCount());
+        assertEquals(1.0, function.getX(0));
+        assertEquals(28.0, function.getX(1));
+        assertEquals(19.0, function.getY(2));
+        assertThrows(IllegalArgumentException.class, () -> function.removeRange(2, 1));
+    }
+
+    @Test
+    public void testRemoveIf() {
+        assertEquals(2, function.removeIf((x, y) -> x == 2 || y > 7));
+
+        assertEquals(2, function.getCount());
+        assertEquals(1.0, function.getX(0));
+        assertEquals(3.0, function.getX(1));
+        assertEquals(4.0, function.apply(2), 1e-12);
+    }
+}
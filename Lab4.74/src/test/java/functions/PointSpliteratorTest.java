@@ -0,0 +1,103 @@
+package functions;
+
+import concurrent.SynchronizedTabulatedFunction;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PointSpliteratorTest {
+
+    @Test
+    public void testSplitCoversAllPointsInOrder() {
+        double[] xValues = {1, 2, 3, 4, 5, 6, 7};
+        double[] yValues = {10, 20, 30, 40, 50, 60, 70};
+        Spliterator<Point> spliterator = new PointSpliterator(xValues, yValues, 0, xValues.length, 0);
+
+        assertEquals(7, spliterator.getExactSizeIfKnown());
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED));
+        assertFalse(spliterator.hasCharacteristics(Spliterator.IMMUTABLE));
+
+        Spliterator<Point> prefix = spliterator.trySplit();
+        assertEquals(3, prefix.estimateSize());
+        assertEquals(4, spliterator.estimateSize());
+
+        List<Point> points = new ArrayList<>();
+        assertTrue(prefix.tryAdvance(points::add));
+        prefix.forEachRemaining(points::add);
+        assertFalse(prefix.tryAdvance(points::add));
+        spliterator.forEachRemaining(points::add);
+
+        assertEquals(7, points.size());
+        for (int i = 0; i < points.size(); i++) {
+            assertEquals(xValues[i], points.get(i).x);
+            assertEquals(yValues[i], points.get(i).y);
+        }
+    }
+
+    @Test
+    public void testSingleElementDoesNotSplit() {
+        Spliterator<Point> spliterator = new PointSpliterator(new double[]{1}, new double[]{2}, 0, 1, 0);
+
+        assertNull(spliterator.trySplit());
+    }
+
+    @Test
+    public void testArrayFunctionStreams() {
+        ArrayTabulatedFunction function = new ArrayTabulatedFunction(new SqrFunction(), 0, 999, 1000);
+
+        assertEquals(1000, function.spliterator().getExactSizeIfKnown());
+        assertEquals(499500.0, function.xs().parallel().sum(), 1e-6);
+        assertEquals(function.ys().sum(), function.parallelStream().mapToDouble(point -> point.y).sum(), 1e-3);
+        assertEquals(1000, function.stream().count());
+
+        List<Double> xs = function.parallelStream().map(point -> point.x).collect(Collectors.toList());
+        for (int i = 0; i < xs.size(); i++) {
+            assertEquals(i, xs.get(i), 1e-9);
+        }
+    }
+
+    @Test
+    public void testFrozenSpliteratorIsImmutable() {
+        FrozenTabulatedFunction function = new FrozenTabulatedFunction(new double[]{1, 2, 3}, new double[]{4, 5, 6});
+
+        assertTrue(function.spliterator().hasCharacteristics(Spliterator.IMMUTABLE));
+        assertEquals(15.0, function.ys().sum());
+    }
+
+    @Test
+    public void testDefaultSpliteratorIsSized() {
+        LinkedListTabulatedFunction function = new LinkedListTabulatedFunction(new double[]{1, 2, 3}, new double[]{4, 5, 6});
+
+        assertEquals(3, function.spliterator().getExactSizeIfKnown());
+        assertArrayEquals(new double[]{1, 2, 3}, function.xs().toArray());
+        assertEquals(15.0, function.parallelStream().mapToDouble(point -> point.y).sum());
+    }
+
+    @Test
+    public void testUniformGridStreams() {
+        UniformGridTabulatedFunction function = new UniformGridTabulatedFunction(0, 2, new double[]{1, 3, 5});
+
+        assertArrayEquals(new double[]{0, 1, 2}, function.xs().toArray(), 1e-12);
+        assertArrayEquals(new double[]{1, 3, 5}, function.ys().toArray(), 1e-12);
+    }
+
+    @Test
+    public void testSynchronizedStreamsUseSnapshot() {
+        ArrayTabulatedFunction array = new ArrayTabulatedFunction(new double[]{1, 2, 3}, new double[]{4, 5, 6});
+        SynchronizedTabulatedFunction function = new SynchronizedTabulatedFunction(array);
+
+        Spliterator<Point> spliterator = function.spliterator();
+        array.setY(0, 100);
+
+        List<Point> points = new ArrayList<>();
+        spliterator.forEachRemaining(points::add);
+        assertEquals(4.0, points.get(0).y);
+        assertEquals(111.0, function.ys().sum());
+        assertEquals(6.0, function.xs().sum());
+    }
+}
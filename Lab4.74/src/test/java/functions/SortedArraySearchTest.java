@@ -0,0 +1,83 @@
+package functions;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SortedArraySearchTest {
+    private final double[] values = {1.0, 2.0, 3.0, 4.0, 5.0, 0.0, 0.0};
+    private final int count = 5;
+
+    @Test
+    void testIndexOfExactMatch() {
+        assertEquals(0, SortedArraySearch.indexOf(values, count, 1.0));
+        assertEquals(2, SortedArraySearch.indexOf(values, count, 3.0));
+        assertEquals(4, SortedArraySearch.indexOf(values, count, 5.0));
+    }
+
+    @Test
+    void testIndexOfWithinTolerance() {
+        assertEquals(1, SortedArraySearch.indexOf(values, count, 2.0 + 1e-11));
+        assertEquals(1, SortedArraySearch.indexOf(values, count, 2.0 - 1e-11));
+        assertEquals(-1, SortedArraySearch.indexOf(values, count, 2.0 + 1e-9));
+    }
+
+    @Test
+    void testIndexOfNotFound() {
+        assertEquals(-1, SortedArraySearch.indexOf(values, count, 0.0));
+        assertEquals(-1, SortedArraySearch.indexOf(values, count, 2.5));
+        assertEquals(-1, SortedArraySearch.indexOf(values, count, 6.0));
+        assertEquals(-1, SortedArraySearch.indexOf(values, count, Double.NaN));
+    }
+
+    @Test
+    void testIndexOfIgnoresElementsBeyondCount() {
+        double[] withTail = {1.0, 2.0, 3.0, 10.0};
+        assertEquals(-1, SortedArraySearch.indexOf(withTail, 3, 10.0));
+    }
+
+    @Test
+    void testUpperBound() {
+        assertEquals(0, SortedArraySearch.upperBound(values, count, 0.5));
+        assertEquals(1, SortedArraySearch.upperBound(values, count, 1.0));
+        assertEquals(3, SortedArraySearch.upperBound(values, count, 3.5));
+        assertEquals(5, SortedArraySearch.upperBound(values, count, 5.0));
+        assertEquals(5, SortedArraySearch.upperBound(values, count, 100.0));
+    }
+
+    @Test
+    void testFloorIndex() {
+        assertEquals(-1, SortedArraySearch.floorIndex(values, count, 0.5));
+        assertEquals(0, SortedArraySearch.floorIndex(values, count, 1.0));
+        assertEquals(2, SortedArraySearch.floorIndex(values, count, 3.5));
+        assertEquals(4, SortedArraySearch.floorIndex(values, count, 5.0));
+        assertEquals(4, SortedArraySearch.floorIndex(values, count, 7.0));
+    }
+
+    @Test
+    void testMatchesLinearScanOnLargeArray() {
+        int n = 1000;
+        double[] x = new double[n];
+        for (int i = 0; i < n; i++) {
+            x[i] = i * 0.5;
+        }
+        for (double query = -1.0; query < n * 0.5 + 1.0; query += 0.25) {
+            int expectedIndex = -1;
+            for (int i = 0; i < n; i++) {
+                if (Math.abs(x[i] - query) < 1e-10) {
+                    expectedIndex = i;
+                    break;
+                }
+            }
+            int expectedUpper = n;
+            for (int i = 0; i < n; i++) {
+                if (query < x[i]) {
+                    expectedUpper = i;
+                    break;
+                }
+            }
+            assertEquals(expectedIndex, SortedArraySearch.indexOf(x, n, query));
+            assertEquals(expectedUpper, SortedArraySearch.upperBound(x, n, query));
+        }
+    }
+}
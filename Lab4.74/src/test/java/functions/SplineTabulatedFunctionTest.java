@@ -0,0 +1,167 @@
+package functions;
+
+import exceptions.ArrayIsNotSortedException;
+import exceptions.DifferentLengthOfArraysException;
+import exceptions.InterpolationException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SplineTabulatedFunctionTest {
+
+    @Test
+    public void testInterpolatesNodesExactly() {
+        double[] xValues = {0, 0.5, 1.5, 2, 3.5};
+        double[] yValues = {1, -2, 4, 0, 3};
+        SplineTabulatedFunction function =
+                new SplineTabulatedFunction(xValues, yValues, SplineTabulatedFunction.SplineType.NATURAL_CUBIC);
+
+        for (int i = 0; i < xValues.length; i++) {
+            assertEquals(yValues[i], function.apply(xValues[i]), 1e-12);
+        }
+    }
+
+    @Test
+    public void testReproducesLinearFunction() {
+        double[] xValues = {0, 1, 3, 4, 7};
+        double[] yValues = new double[xValues.length];
+        for (int i = 0; i < xValues.length; i++) {
+            yValues[i] = 2 * xValues[i] - 1;
+        }
+        SplineTabulatedFunction function =
+                new SplineTabulatedFunction(xValues, yValues, SplineTabulatedFunction.SplineType.NATURAL_CUBIC);
+
+        for (double x = -2; x <= 9; x += 0.37) {
+            assertEquals(2 * x - 1, function.apply(x), 1e-12);
+        }
+    }
+
+    @Test
+    public void testKnownNaturalSplineValue() {
+        // Для узлов (0,0), (1,1), (2,0) естественный сплайн: M1 = -3, S(0.5) = 11/16
+        SplineTabulatedFunction function = new SplineTabulatedFunction(new double[]{0, 1, 2}, new double[]{0, 1, 0},
+                SplineTabulatedFunction.SplineType.NATURAL_CUBIC);
+
+        assertEquals(11.0 / 16, function.apply(0.5), 1e-12);
+        assertEquals(11.0 / 16, function.apply(1.5), 1e-12);
+    }
+
+    @Test
+    public void testApproximatesSmoothFunction() {
+        MathFunction sin = Math::sin;
+        SplineTabulatedFunction natural =
+                new SplineTabulatedFunction(sin, 0, Math.PI, 41, SplineTabulatedFunction.SplineType.NATURAL_CUBIC);
+        SplineTabulatedFunction bSpline =
+                new SplineTabulatedFunction(sin, 0, Math.PI, 41, SplineTabulatedFunction.SplineType.B_SPLINE);
+
+        for (double x = 0; x <= Math.PI; x += 0.013) {
+            assertEquals(Math.sin(x), natural.apply(x), 1e-5);
+            assertEquals(Math.sin(x), bSpline.apply(x), 1e-5);
+        }
+    }
+
+    @Test
+    public void testBSplineMatchesNaturalCubicOnUniformGrid() {
+        double[] xValues = {-1, 0, 1, 2, 3, 4};
+        double[] yValues = {3, -1, 2, 5, 0, 1};
+        SplineTabulatedFunction natural =
+                new SplineTabulatedFunction(xValues, yValues, SplineTabulatedFunction.SplineType.NATURAL_CUBIC);
+        SplineTabulatedFunction bSpline =
+                new SplineTabulatedFunction(xValues, yValues, SplineTabulatedFunction.SplineType.B_SPLINE);
+
+        for (double x = -3; x <= 6; x += 0.05) {
+            assertEquals(natural.apply(x), bSpline.apply(x), 1e-10);
+        }
+    }
+
+    @Test
+    public void testBSplineRequiresUniformGrid() {
+        assertThrows(IllegalArgumentException.class, () -> new SplineTabulatedFunction(new double[]{0, 1, 3},
+                new double[]{0, 1, 2}, SplineTabulatedFunction.SplineType.B_SPLINE));
+    }
+
+    @Test
+    public void testInvalidConstructors() {
+        assertThrows(IllegalArgumentException.class, () -> new SplineTabulatedFunction(new double[]{1},
+                new double[]{1}, SplineTabulatedFunction.SplineType.NATURAL_CUBIC));
+        assertThrows(DifferentLengthOfArraysException.class, () -> new SplineTabulatedFunction(new double[]{1, 2},
+                new double[]{1}, SplineTabulatedFunction.SplineType.NATURAL_CUBIC));
+        assertThrows(ArrayIsNotSortedException.class, () -> new SplineTabulatedFunction(new double[]{2, 1},
+                new double[]{1, 2}, SplineTabulatedFunction.SplineType.NATURAL_CUBIC));
+    }
+
+    @Test
+    public void testTwoPointsIsLinear() {
+        SplineTabulatedFunction function = new SplineTabulatedFunction(new double[]{1, 3}, new double[]{2, 6},
+                SplineTabulatedFunction.SplineType.B_SPLINE);
+
+        assertEquals(4.0, function.apply(2), 1e-12);
+        assertEquals(0.0, function.apply(0), 1e-12);
+        assertEquals(10.0, function.apply(5), 1e-12);
+    }
+
+    @Test
+    public void testSetYRecomputesCoefficients() {
+        SplineTabulatedFunction function = new SplineTabulatedFunction(new double[]{0, 1, 2}, new double[]{0, 0, 0},
+                SplineTabulatedFunction.SplineType.NATURAL_CUBIC);
+        assertEquals(0.0, function.apply(0.5), 1e-12);
+
+        function.setY(1, 1);
+
+        assertEquals(1.0, function.getY(1));
+        assertEquals(11.0 / 16, function.apply(0.5), 1e-12);
+    }
+
+    @Test
+    public void testBulkApplyMatchesScalar() {
+        double[] xValues = {0, 0.3, 1, 1.2, 2.5, 4};
+        double[] yValues = {1, 2, 0, -1, 3, 2};
+        SplineTabulatedFunction function =
+                new SplineTabulatedFunction(xValues, yValues, SplineTabulatedFunction.SplineType.NATURAL_CUBIC);
+
+        double[] xs = {-1, 4.5, 0.1, 2.5, 1.1, 3.9, 0};
+        double[] out = new double[xs.length];
+        function.apply(xs, out);
+
+        for (int i = 0; i < xs.length; i++) {
+            assertEquals(function.apply(xs[i]), out[i]);
+        }
+    }
+
+    @Test
+    public void testInterpolateChecksRange() {
+        SplineTabulatedFunction function = new SplineTabulatedFunction(new double[]{0, 1, 2}, new double[]{0, 1, 0},
+                SplineTabulatedFunction.SplineType.NATURAL_CUBIC);
+
+        assertThrows(InterpolationException.class, () -> function.interpolate(1.5, 0));
+        assertThrows(IllegalArgumentException.class, () -> function.interpolate(0.5, 2));
+        assertThrows(IllegalArgumentException.class, () -> function.getX(3));
+    }
+
+    @Test
+    public void testSolveTridiagonal() {
+        // 2a + b = 3, a + 2b + c = 4, b + 2c = 3 -> a = b = c = 1
+        double[] rhs = {3, 4, 3};
+        SplineTabulatedFunction.solveTridiagonal(new double[]{0, 1, 1}, new double[]{2, 2, 2},
+                new double[]{1, 1, 0}, rhs);
+
+        assertArrayEquals(new double[]{1, 1, 1}, rhs, 1e-12);
+    }
+
+    @Test
+    void testSetYsMatchesPointwiseUpdate() {
+        double[] xValues = {0, 1, 2, 3, 4};
+        SplineTabulatedFunction bulk = new SplineTabulatedFunction(xValues, new double[5], SplineTabulatedFunction.SplineType.NATURAL_CUBIC);
+        SplineTabulatedFunction pointwise = new SplineTabulatedFunction(xValues, new double[5], SplineTabulatedFunction.SplineType.NATURAL_CUBIC);
+        double[] yValues = {1, 3, 2, 5, 4};
+
+        bulk.setYs(yValues);
+        for (int i = 0; i < yValues.length; i++) {
+            pointwise.setY(i, yValues[i]);
+        }
+        for (double x = -0.5; x <= 4.5; x += 0.25) {
+            assertEquals(pointwise.apply(x), bulk.apply(x), 1e-12);
+        }
+    }
+
+}
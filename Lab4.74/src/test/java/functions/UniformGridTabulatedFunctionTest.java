@@ -0,0 +1,190 @@
+package functions;
+
+import exceptions.InterpolationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UniformGridTabulatedFunctionTest {
+
+    private UniformGridTabulatedFunction function;
+
+    @BeforeEach
+    public void setUp() {
+        function = new UniformGridTabulatedFunction(1, 4, new double[]{2, 4, 6, 8});
+    }
+
+    @Test
+    public void testConstructorFromArray() {
+        assertEquals(4, function.getCount());
+        assertEquals(1.0, function.getX(0));
+        assertEquals(4.0, function.getX(3));
+        assertEquals(8.0, function.getY(3));
+        assertEquals(1.0, function.getStep());
+    }
+
+    @Test
+    public void testConstructorFromMathFunctionMatchesArrayTabulation() {
+        UniformGridTabulatedFunction uniform = new UniformGridTabulatedFunction(new SqrFunction(), 0, 7, 50);
+        ArrayTabulatedFunction array = new ArrayTabulatedFunction(new SqrFunction(), 0, 7, 50);
+
+        assertEquals(array.getCount(), uniform.getCount());
+        for (int i = 0; i < array.getCount(); i++) {
+            assertEquals(array.getX(i), uniform.getX(i));
+            assertEquals(array.getY(i), uniform.getY(i));
+        }
+        for (double x = -1; x <= 8; x += 0.037) {
+            assertEquals(array.apply(x), uniform.apply(x), 1e-12);
+        }
+    }
+
+    @Test
+    public void testConstructorSwapsBounds() {
+        UniformGridTabulatedFunction swapped = new UniformGridTabulatedFunction(new IdentityFunction(), 5, 1, 5);
+        assertEquals(1.0, swapped.leftBound());
+        assertEquals(5.0, swapped.rightBound());
+    }
+
+    @Test
+    public void testInvalidConstructors() {
+        assertThrows(IllegalArgumentException.class, () -> new UniformGridTabulatedFunction(0, 1, new double[]{1}));
+        assertThrows(IllegalArgumentException.class, () -> new UniformGridTabulatedFunction(1, 1, new double[]{1, 2}));
+        assertThrows(IllegalArgumentException.class, () -> new UniformGridTabulatedFunction(new SqrFunction(), 0, 1, 1));
+        assertThrows(IllegalArgumentException.class, () -> new UniformGridTabulatedFunction(new SqrFunction(), 2, 2, 5));
+    }
+
+    @Test
+    public void testApply() {
+        assertEquals(4, function.apply(2), 0.0001);
+        assertEquals(5, function.apply(2.5), 0.0001);
+        assertEquals(0, function.apply(0), 0.0001);
+        assertEquals(10, function.apply(5), 0.0001);
+    }
+
+    @Test
+    public void testIndexOfX() {
+        assertEquals(0, function.indexOfX(1.0));
+        assertEquals(2, function.indexOfX(3.0));
+        assertEquals(2, function.indexOfX(3.0 + 1e-11));
+        assertEquals(-1, function.indexOfX(2.5));
+        assertEquals(-1, function.indexOfX(10.0));
+        assertEquals(-1, function.indexOfX(Double.NaN));
+    }
+
+    @Test
+    public void testIndexOfY() {
+        assertEquals(1, function.indexOfY(4.0));
+        assertEquals(-1, function.indexOfY(5.0));
+    }
+
+    @Test
+    public void testFloorIndexOfX() {
+        assertEquals(0, function.floorIndexOfX(1.0));
+        assertEquals(1, function.floorIndexOfX(2.5));
+        assertEquals(2, function.floorIndexOfX(3.0));
+        assertEquals(3, function.floorIndexOfX(4.0));
+        assertEquals(3, function.floorIndexOfX(100.0));
+        assertThrows(IllegalArgumentException.class, () -> function.floorIndexOfX(0.5));
+    }
+
+    @Test
+    public void testFloorIndexOfXOnFractionalStep() {
+        UniformGridTabulatedFunction fine = new UniformGridTabulatedFunction(new IdentityFunction(), 0, 1, 11);
+        for (int i = 0; i < fine.getCount() - 1; i++) {
+            assertEquals(i, fine.floorIndexOfX(fine.getX(i)));
+            assertEquals(i, fine.floorIndexOfX((fine.getX(i) + fine.getX(i + 1)) / 2));
+        }
+    }
+
+    @Test
+    public void testInterpolateOutOfRange() {
+        assertThrows(InterpolationException.class, () -> function.interpolate(3.5, 0));
+        assertThrows(IllegalArgumentException.class, () -> function.interpolate(3.5, 3));
+    }
+
+    @Test
+    public void testSetY() {
+        function.setY(1, 10);
+        assertEquals(10, function.getY(1));
+        assertThrows(IllegalArgumentException.class, () -> function.setY(4, 1));
+        assertThrows(IllegalArgumentException.class, () -> function.getX(-1));
+    }
+
+    @Test
+    public void testIterator() {
+        Iterator<Point> iterator = function.iterator();
+        int i = 0;
+        while (iterator.hasNext()) {
+            Point point = iterator.next();
+            assertEquals(function.getX(i), point.x);
+            assertEquals(function.getY(i), point.y);
+            i++;
+        }
+        assertEquals(4, i);
+    }
+
+    @Test
+    public void testIsUniform() {
+        assertTrue(UniformGridTabulatedFunction.isUniform(new double[]{0, 0.1, 0.2, 0.3}));
+        assertTrue(UniformGridTabulatedFunction.isUniform(new double[]{-2, 0}));
+        assertFalse(UniformGridTabulatedFunction.isUniform(new double[]{0, 0.1, 0.25, 0.3}));
+        assertFalse(UniformGridTabulatedFunction.isUniform(new double[]{1}));
+        assertFalse(UniformGridTabulatedFunction.isUniform(new double[]{1, 1}));
+    }
+
+    @Test
+    public void testHasSameGrid() {
+        UniformGridTabulatedFunction same = new UniformGridTabulatedFunction(1, 4, new double[]{0, 0, 0, 0});
+        UniformGridTabulatedFunction other = new UniformGridTabulatedFunction(1, 5, new double[]{0, 0, 0, 0});
+        assertTrue(function.hasSameGrid(same));
+        assertFalse(function.hasSameGrid(other));
+    }
+
+    @Test
+    public void testForEachPointAndCopy() {
+        double[] xValues = {1.0, 2.0, 3.0, 4.0};
+        double[] yValues = {1.0, 4.0, 9.0, 16.0};
+        TabulatedFunction function = new UniformGridTabulatedFunction(1.0, 4.0, yValues);
+
+        double[] visitedX = new double[4];
+        double[] visitedY = new double[4];
+        int[] visited = {0};
+        function.forEachPoint((x, y) -> {
+            visitedX[visited[0]] = x;
+            visitedY[visited[0]] = y;
+            visited[0]++;
+        });
+        assertEquals(4, visited[0]);
+        assertArrayEquals(xValues, visitedX, 1e-12);
+        assertArrayEquals(yValues, visitedY, 1e-12);
+
+        double[] copiedX = new double[5];
+        double[] copiedY = new double[4];
+        function.copyX(copiedX);
+        function.copyY(copiedY);
+        assertArrayEquals(new double[]{1.0, 2.0, 3.0, 4.0, 0.0}, copiedX, 1e-12);
+        assertArrayEquals(yValues, copiedY, 1e-12);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> function.copyX(new double[3]));
+        assertThrows(IndexOutOfBoundsException.class, () -> function.copyY(new double[3]));
+    }
+
+    @Test
+    public void testRangeCopy() {
+        UniformGridTabulatedFunction uniform = new UniformGridTabulatedFunction(0, 4, new double[]{1, 2, 3, 4, 5});
+        double[] xs = new double[5];
+        double[] ys = new double[5];
+        uniform.copyX(1, 4, xs, 1);
+        uniform.copyY(2, 5, ys, 0);
+
+        assertTrue(uniform.hasFastRangeCopy());
+        assertArrayEquals(new double[]{0, 1, 2, 3, 0}, xs, 1e-12);
+        assertArrayEquals(new double[]{3, 4, 5, 0, 0}, ys, 1e-12);
+        assertThrows(IndexOutOfBoundsException.class, () -> uniform.copyX(3, 2, xs, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> uniform.copyY(0, 4, new double[3], 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> uniform.copyY(0, 2, ys, 4));
+    }
+}
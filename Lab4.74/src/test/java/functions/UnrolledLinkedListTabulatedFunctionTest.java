@@ -0,0 +1,217 @@
+package functions;
+
+import exceptions.ArrayIsNotSortedException;
+import exceptions.InterpolationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UnrolledLinkedListTabulatedFunctionTest {
+
+    private UnrolledLinkedListTabulatedFunction function;
+
+    @BeforeEach
+    public void setUp() {
+        function = new UnrolledLinkedListTabulatedFunction(new double[]{1, 2, 3, 4}, new double[]{2, 4, 6, 8});
+    }
+
+    private static void assertSameFunction(TabulatedFunction expected, TabulatedFunction actual) {
+        assertEquals(expected.getCount(), actual.getCount());
+        for (int i = 0; i < expected.getCount(); i++) {
+            assertEquals(expected.getX(i), actual.getX(i), "x at " + i);
+            assertEquals(expected.getY(i), actual.getY(i), "y at " + i);
+        }
+    }
+
+    @Test
+    public void testConstructors() {
+        assertEquals(4, function.getCount());
+        assertEquals(1.0, function.leftBound());
+        assertEquals(4.0, function.rightBound());
+
+        UnrolledLinkedListTabulatedFunction tabulated = new UnrolledLinkedListTabulatedFunction(new SqrFunction(), 10, 0, 500);
+        assertSameFunction(new ArrayTabulatedFunction(new SqrFunction(), 0, 10, 500), tabulated);
+    }
+
+    @Test
+    public void testInvalidConstructors() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new UnrolledLinkedListTabulatedFunction(new double[]{1}, new double[]{1}));
+        assertThrows(ArrayIsNotSortedException.class,
+                () -> new UnrolledLinkedListTabulatedFunction(new double[]{2, 1}, new double[]{1, 2}));
+        assertThrows(IllegalArgumentException.class,
+                () -> new UnrolledLinkedListTabulatedFunction(new SqrFunction(), 0, 1, 1));
+    }
+
+    @Test
+    public void testApply() {
+        assertEquals(4, function.apply(2), 0.0001);
+        assertEquals(5, function.apply(2.5), 0.0001);
+        assertEquals(0, function.apply(0), 0.0001);
+        assertEquals(10, function.apply(5), 0.0001);
+    }
+
+    @Test
+    public void testApplyAcrossChunks() {
+        ArrayTabulatedFunction reference = new ArrayTabulatedFunction(new SqrFunction(), -3, 7, 1000);
+        UnrolledLinkedListTabulatedFunction unrolled = new UnrolledLinkedListTabulatedFunction(new SqrFunction(), -3, 7, 1000);
+        for (double x = -4; x <= 8; x += 0.0137) {
+            assertEquals(reference.apply(x), unrolled.apply(x), 1e-12);
+        }
+        for (int i = 0; i < reference.getCount(); i += 37) {
+            assertEquals(i, unrolled.indexOfX(reference.getX(i)));
+        }
+    }
+
+    @Test
+    public void testIndexOf() {
+        assertEquals(2, function.indexOfX(3.0));
+        assertEquals(2, function.indexOfX(3.0 - 1e-11));
+        assertEquals(-1, function.indexOfX(3.5));
+        assertEquals(-1, function.indexOfX(100));
+        assertEquals(1, function.indexOfY(4.0));
+        assertEquals(-1, function.indexOfY(5.0));
+    }
+
+    @Test
+    public void testFloorIndexOfX() {
+        assertEquals(0, function.floorIndexOfX(1.5));
+        assertEquals(2, function.floorIndexOfX(3.0));
+        assertEquals(3, function.floorIndexOfX(10.0));
+        assertThrows(IllegalArgumentException.class, () -> function.floorIndexOfX(0.5));
+    }
+
+    @Test
+    public void testInterpolateOutOfRange() {
+        assertThrows(InterpolationException.class, () -> function.interpolate(3.5, 0));
+        assertThrows(IllegalArgumentException.class, () -> function.interpolate(3.5, 3));
+    }
+
+    @Test
+    public void testSetYAndInvalidIndex() {
+        function.setY(2, 100);
+        assertEquals(100, function.getY(2));
+        assertThrows(IllegalArgumentException.class, () -> function.getX(4));
+        assertThrows(IllegalArgumentException.class, () -> function.getY(-1));
+        assertThrows(IllegalArgumentException.class, () -> function.remove(4));
+    }
+
+    @Test
+    public void testInsert() {
+        function.insert(2.5, 5);
+        function.insert(0, 0);
+        function.insert(10, 20);
+        function.insert(3, 7);
+
+        assertEquals(7, function.getCount());
+        assertEquals(0.0, function.getX(0));
+        assertEquals(2.5, function.getX(3));
+        assertEquals(7.0, function.getY(4));
+        assertEquals(10.0, function.getX(6));
+    }
+
+    @Test
+    public void testRemove() {
+        function.remove(0);
+        function.remove(1);
+        assertEquals(2, function.getCount());
+        assertEquals(2.0, function.getX(0));
+        assertEquals(4.0, function.getX(1));
+
+        function.remove(1);
+        function.remove(0);
+        assertEquals(0, function.getCount());
+        assertThrows(IllegalStateException.class, () -> function.leftBound());
+
+        function.insert(5, 1);
+        assertEquals(1, function.getCount());
+        assertEquals(5.0, function.rightBound());
+    }
+
+    @Test
+    public void testRandomInsertAndRemoveMatchArrayFunction() {
+        Random random = new Random(7);
+        ArrayTabulatedFunction reference = new ArrayTabulatedFunction(new IdentityFunction(), 0, 100, 300);
+        UnrolledLinkedListTabulatedFunction unrolled = new UnrolledLinkedListTabulatedFunction(new IdentityFunction(), 0, 100, 300);
+
+        for (int step = 0; step < 3000; step++) {
+            if (random.nextInt(3) > 0 || reference.getCount() < 3) {
+                double x = Math.floor(random.nextDouble() * 1200 - 100) / 10;
+                double y = random.nextDouble();
+                reference.insert(x, y);
+                unrolled.insert(x, y);
+            } else {
+                int index = random.nextInt(reference.getCount());
+                reference.remove(index);
+                unrolled.remove(index);
+            }
+        }
+        assertSameFunction(reference, unrolled);
+
+        double[] copied = new double[unrolled.getCount()];
+        unrolled.copyX(copied);
+        for (int i = 0; i < copied.length; i++) {
+            assertEquals(reference.getX(i), copied[i]);
+        }
+    }
+
+    @Test
+    public void testIterator() {
+        UnrolledLinkedListTabulatedFunction large = new UnrolledLinkedListTabulatedFunction(new SqrFunction(), 0, 1, 200);
+        Iterator<Point> iterator = large.iterator();
+        int i = 0;
+        while (iterator.hasNext()) {
+            Point point = iterator.next();
+            assertEquals(large.getX(i), point.x);
+            assertEquals(large.getY(i), point.y);
+            i++;
+        }
+        assertEquals(200, i);
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    public void testRemoveRangeAndRemoveIf() {
+        function.removeRange(1, 3);
+        assertEquals(2, function.getCount());
+        assertEquals(1.0, function.getX(0));
+        assertEquals(4.0, function.getX(1));
+
+        function.insert(2.5, 5);
+        assertEquals(1, function.removeIf((x, y) -> y > 7));
+        assertEquals(2.5, function.rightBound());
+        assertThrows(IllegalArgumentException.class, () -> function.removeRange(0, 5));
+    }
+
+    @Test
+    public void testBulkRemovalAcrossChunks() {
+        int count = 10 * UnrolledLinkedListTabulatedFunction.CHUNK_CAPACITY;
+        double[] xValues = new double[count];
+        double[] yValues = new double[count];
+        for (int i = 0; i < count; i++) {
+            xValues[i] = i;
+            yValues[i] = -i;
+        }
+        UnrolledLinkedListTabulatedFunction unrolled = new UnrolledLinkedListTabulatedFunction(xValues, yValues);
+
+        unrolled.removeRange(30, 500);
+        assertEquals(count - 470, unrolled.getCount());
+        assertEquals(29.0, unrolled.getX(29));
+        assertEquals(500.0, unrolled.getX(30));
+        assertEquals(-501.0, unrolled.getY(31));
+
+        assertEquals(85, unrolled.removeIf((x, y) -> ((int) x) % 2 == 1));
+        for (int i = 0; i < unrolled.getCount(); i++) {
+            assertEquals(0.0, unrolled.getX(i) % 2);
+            assertEquals(-unrolled.getX(i), unrolled.getY(i), 0.0);
+        }
+        assertEquals(unrolled.getCount() - 1, unrolled.indexOfX(count - 2));
+        unrolled.insert(1, 1);
+        assertEquals(1, unrolled.indexOfX(1));
+    }
+}
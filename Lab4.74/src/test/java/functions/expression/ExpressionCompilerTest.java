@@ -0,0 +1,102 @@
+package functions.expression;
+
+import exceptions.ExpressionParseException;
+import functions.MathFunction;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ExpressionCompilerTest {
+
+    @Test
+    void testSignatures() {
+        assertEquals(9.0, ExpressionCompiler.compile("f(x) = x^2").apply(3), 1e-12);
+        assertEquals(9.0, ExpressionCompiler.compile("f(x) = x²").apply(-3), 1e-12);
+        assertEquals(27.0, ExpressionCompiler.compile("x³").apply(3), 1e-12);
+        assertEquals(1.0, ExpressionCompiler.compile("f(x) = x^0").apply(5), 1e-12);
+        assertEquals(Math.exp(1.5), ExpressionCompiler.compile("f(x) = e^x").apply(1.5), 1e-12);
+        assertEquals(Math.log(2), ExpressionCompiler.compile("y = ln(x)").apply(2), 1e-12);
+        assertEquals(Math.sin(1) + Math.cos(1), ExpressionCompiler.compile("sin(x) + cos(x)").apply(1), 1e-12);
+    }
+
+    @Test
+    void testPrecedenceAndImplicitMultiplication() {
+        assertEquals(-4.0, ExpressionCompiler.compile("-x^2").apply(2), 1e-12);
+        assertEquals(256.0, ExpressionCompiler.compile("2^x^3").apply(2), 1e-12);
+        assertEquals(0.5, ExpressionCompiler.compile("x^-1").apply(2), 1e-12);
+        assertEquals(17.0, ExpressionCompiler.compile("2x^2 + 3(x - 1)").apply(2.5), 1e-12);
+        assertEquals(1.0, ExpressionCompiler.compile("(x + 1) / (x + 1)").apply(7), 1e-12);
+        assertEquals(2 * Math.PI, ExpressionCompiler.compile("2pi").apply(0), 1e-12);
+        assertEquals(1.5e3, ExpressionCompiler.compile("1.5E3").apply(0), 1e-12);
+    }
+
+    @Test
+    void testConstantFoldingAndCommonSubexpressions() {
+        assertEquals(1, ExpressionCompiler.compileUncached("x * 1 + 0").getInstructionCount());
+        assertEquals(3, ExpressionCompiler.compileUncached("2 * 3 + x").getInstructionCount());
+        assertEquals(1, ExpressionCompiler.compileUncached("sin(pi / 2) * 4").getInstructionCount());
+
+        CompiledExpression shared = ExpressionCompiler.compileUncached("sin(x)^2 + sin(x) + x*sin(x) + sin(x)*x");
+        assertEquals(7, shared.getInstructionCount());
+        double s = Math.sin(0.3);
+        assertEquals(s * s + s + 2 * 0.3 * s, shared.apply(0.3), 1e-12);
+    }
+
+    @Test
+    void testCache() {
+        MathFunction first = ExpressionCompiler.compile("f(x) = x^7");
+        assertSame(first, ExpressionCompiler.compile("f(x) = x^7"));
+        assertNotSame(first, ExpressionCompiler.compileUncached("f(x) = x^7"));
+    }
+
+    @Test
+    void testBulkApplyMatchesScalar() {
+        CompiledExpression function = ExpressionCompiler.compile("sqrt(abs(x)) * exp(-x^2) + tan(x / 4)");
+        double[] xs = new double[1000];
+        for (int i = 0; i < xs.length; i++) {
+            xs[i] = -5 + i * 0.01;
+        }
+        double[] out = new double[xs.length];
+
+        function.apply(xs, out, 1, 999);
+
+        assertEquals(0.0, out[0]);
+        assertEquals(0.0, out[999]);
+        for (int i = 1; i < 999; i++) {
+            assertEquals(function.apply(xs[i]), out[i], 1e-12);
+        }
+    }
+
+    @Test
+    void testInvalidExpressions() {
+        assertThrows(ExpressionParseException.class, () -> ExpressionCompiler.compile("f(x) = "));
+        assertThrows(ExpressionParseException.class, () -> ExpressionCompiler.compile("x +* 2"));
+        assertThrows(ExpressionParseException.class, () -> ExpressionCompiler.compile("foo(x)"));
+        assertThrows(ExpressionParseException.class, () -> ExpressionCompiler.compile("(x + 1"));
+        assertThrows(ExpressionParseException.class, () -> ExpressionCompiler.compile("x )"));
+    }
+
+    @Test
+    void testScalarApplyFromSeveralThreads() throws InterruptedException {
+        CompiledExpression function = ExpressionCompiler.compileUncached("x^2 - 3*x + sin(x)");
+        double[] errors = new double[4];
+        Thread[] threads = new Thread[errors.length];
+        for (int t = 0; t < threads.length; t++) {
+            int index = t;
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    double x = index + i * 1e-3;
+                    errors[index] = Math.max(errors[index], Math.abs(function.apply(x) - (x * x - 3 * x + Math.sin(x))));
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        for (double error : errors) {
+            assertEquals(0.0, error, 1e-9);
+        }
+    }
+
+}
@@ -1,8 +1,13 @@
 package functions.factory;
 
 import functions.ArrayTabulatedFunction;
+import functions.CompactTabulatedFunction;
 import functions.LinkedListTabulatedFunction;
+import functions.OffHeapTabulatedFunction;
+import functions.SplineTabulatedFunction;
 import functions.TabulatedFunction;
+import functions.UniformGridTabulatedFunction;
+import functions.UnrolledLinkedListTabulatedFunction;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -124,5 +129,130 @@ public class TabulatedFunctionFactoryTest {
         assertEquals(1.0, func1.getX(0));
         assertEquals(3.0, func2.getX(0));
     }
-}
 
+    @Test
+    void testUniformGridFactoryCreatesUniformFunctionForUniformGrid() {
+        TabulatedFunctionFactory factory = new UniformGridTabulatedFunctionFactory();
+
+        TabulatedFunction function = factory.create(xValues, yValues);
+
+        assertTrue(function instanceof UniformGridTabulatedFunction);
+        assertEquals(4, function.getCount());
+        assertEquals(3.0, function.getX(2));
+        assertEquals(9.0, function.getY(2));
+    }
+
+    @Test
+    void testUniformGridFactoryFallsBackForNonUniformGrid() {
+        TabulatedFunctionFactory factory = new UniformGridTabulatedFunctionFactory(new LinkedListTabulatedFunctionFactory());
+
+        TabulatedFunction function = factory.create(new double[]{0.0, 1.0, 3.0}, new double[]{0.0, 1.0, 9.0});
+
+        assertTrue(function instanceof LinkedListTabulatedFunction);
+        assertEquals(3, function.getCount());
+    }
+
+    @Test
+    void testDefaultCreateUniformBuildsGrid() {
+        TabulatedFunctionFactory factory = new ArrayTabulatedFunctionFactory();
+
+        TabulatedFunction function = factory.createUniform(0.0, 2.0, new double[]{1.0, 2.0, 3.0});
+
+        assertTrue(function instanceof ArrayTabulatedFunction);
+        assertEquals(0.0, function.getX(0));
+        assertEquals(1.0, function.getX(1));
+        assertEquals(2.0, function.getX(2));
+        assertEquals(3.0, function.getY(2));
+    }
+
+    @Test
+    void testUnrolledLinkedListFactoryCreatesCorrectType() {
+        TabulatedFunctionFactory factory = new UnrolledLinkedListTabulatedFunctionFactory();
+
+        TabulatedFunction function = factory.create(xValues, yValues);
+
+        assertTrue(function instanceof UnrolledLinkedListTabulatedFunction);
+        assertEquals(4, function.getCount());
+        assertEquals(2.0, function.getX(1));
+        assertEquals(16.0, function.getY(3));
+    }
+
+    @Test
+    void testOffHeapFactoryCreatesCorrectType() {
+        TabulatedFunctionFactory factory = new OffHeapTabulatedFunctionFactory();
+
+        TabulatedFunction function = factory.create(xValues, yValues);
+
+        assertTrue(function instanceof OffHeapTabulatedFunction);
+        assertEquals(4, function.getCount());
+        assertEquals(3.0, function.getX(2));
+        assertEquals(9.0, function.getY(2));
+        ((OffHeapTabulatedFunction) function).close();
+    }
+
+    @Test
+    void testCompactFactoryCreatesCorrectType() {
+        TabulatedFunctionFactory factory = new CompactTabulatedFunctionFactory(1e-6);
+
+        TabulatedFunction function = factory.create(xValues, yValues);
+
+        assertTrue(function instanceof CompactTabulatedFunction);
+        assertEquals(4, function.getCount());
+        assertEquals(3.0, function.getX(2), 1e-6);
+        assertEquals(9.0, function.getY(2));
+    }
+
+    @Test
+    void testCompactFactoryDefaultPrecisionFollowsRange() {
+        TabulatedFunctionFactory factory = new CompactTabulatedFunctionFactory();
+        TabulatedFunction function = factory.create(new double[]{0, 0.5, 37.25, 100}, new double[]{1, 2, 3, 4});
+
+        assertTrue(function instanceof CompactTabulatedFunction);
+        assertEquals(100 * CompactTabulatedFunctionFactory.DEFAULT_RELATIVE_X_PRECISION,
+                ((CompactTabulatedFunction) function).getXPrecision(), 1e-18);
+        assertEquals(37.25, function.getX(2), 1e-5);
+        assertEquals(100.0, function.getX(3), 1e-5);
+
+        int count = 100_000;
+        TabulatedFunction dense = factory.create(uniformX(0, 100, count), new double[count]);
+        assertEquals(100.0, dense.getX(count - 1), 1e-5);
+        assertTrue(((CompactTabulatedFunction) dense).getStorageBytes() < 7L * count, "должен выбираться узкий режим");
+    }
+
+    @Test
+    void testCompactFactoryDefaultPrecisionResolvesDenseNodes() {
+        TabulatedFunctionFactory factory = new CompactTabulatedFunctionFactory();
+        double[] xValues = {0, 1e-7, 1, 2, 3, 4};
+        TabulatedFunction function = factory.create(xValues, new double[]{1, 2, 3, 4, 5, 6});
+
+        double precision = ((CompactTabulatedFunction) function).getXPrecision();
+        assertTrue(precision <= 1e-7 / 4);
+        for (int i = 0; i < xValues.length; i++) {
+            assertEquals(xValues[i], function.getX(i), precision);
+        }
+        assertEquals(1.5, function.apply(0.5e-7), 1e-6);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> factory.create(new double[]{0, 1e-12, 1e3}, new double[3]));
+    }
+
+    private static double[] uniformX(double from, double to, int count) {
+        double[] x = new double[count];
+        for (int i = 0; i < count; i++) {
+            x[i] = from + (to - from) * i / (count - 1);
+        }
+        return x;
+    }
+
+    @Test
+    void testSplineFactoryCreatesCorrectType() {
+        TabulatedFunctionFactory factory = new SplineTabulatedFunctionFactory(SplineTabulatedFunction.SplineType.B_SPLINE);
+
+        TabulatedFunction function = factory.create(xValues, yValues);
+
+        assertTrue(function instanceof SplineTabulatedFunction);
+        assertEquals(SplineTabulatedFunction.SplineType.B_SPLINE, ((SplineTabulatedFunction) function).getType());
+        assertEquals(4, function.getCount());
+        assertEquals(9.0, function.apply(3.0), 1e-12);
+    }
+}
@@ -0,0 +1,95 @@
+package operations;
+
+import functions.ArrayTabulatedFunction;
+import functions.LinkedListTabulatedFunction;
+import functions.MathFunction;
+import functions.SqrFunction;
+import functions.TabulatedFunction;
+import functions.factory.ArrayTabulatedFunctionFactory;
+import functions.factory.LinkedListTabulatedFunctionFactory;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AdaptiveTabulatorTest {
+
+    private static double maxError(MathFunction expected, TabulatedFunction actual, double xFrom, double xTo) {
+        double max = 0;
+        for (int i = 0; i <= 100_000; i++) {
+            double x = xFrom + (xTo - xFrom) * i / 100_000;
+            max = Math.max(max, Math.abs(expected.apply(x) - actual.apply(x)));
+        }
+        return max;
+    }
+
+    @Test
+    void testQuadraticWithinTolerance() {
+        AdaptiveTabulator tabulator = new AdaptiveTabulator(1e-4);
+
+        TabulatedFunction function = tabulator.tabulate(new SqrFunction(), 0, 10);
+
+        assertTrue(function instanceof ArrayTabulatedFunction);
+        assertEquals(0.0, function.leftBound());
+        assertEquals(10.0, function.rightBound());
+        assertTrue(maxError(new SqrFunction(), function, 0, 10) <= 1e-4);
+    }
+
+    @Test
+    void testFewerPointsThanUniformForSameAccuracy() {
+        MathFunction step = x -> Math.tanh(50 * x);
+        double tolerance = 1e-4;
+
+        TabulatedFunction adaptive = new AdaptiveTabulator(tolerance).tabulate(step, -1, 1);
+        double adaptiveError = maxError(step, adaptive, -1, 1);
+
+        ArrayTabulatedFunction uniform = new ArrayTabulatedFunction(step, -1, 1, adaptive.getCount());
+        assertTrue(maxError(step, uniform, -1, 1) > 10 * adaptiveError);
+        assertTrue(adaptiveError < 2 * tolerance);
+        for (int i = 1; i < adaptive.getCount(); i++) {
+            assertTrue(adaptive.getX(i) > adaptive.getX(i - 1));
+        }
+    }
+
+    @Test
+    void testLinearFunctionUsesInitialGridOnly() {
+        TabulatedFunction function = new AdaptiveTabulator(new LinkedListTabulatedFunctionFactory(), 1e-9, 4, 30)
+                .tabulate(x -> 3 * x + 1, 2, -2);
+
+        assertTrue(function instanceof LinkedListTabulatedFunction);
+        assertEquals(5, function.getCount());
+        assertEquals(-2.0, function.leftBound());
+        assertEquals(7.0, function.getY(4), 1e-12);
+    }
+
+    @Test
+    void testMaxDepthLimitsPoints() {
+        TabulatedFunction function = new AdaptiveTabulator(new LinkedListTabulatedFunctionFactory(), 1e-12, 1, 3)
+                .tabulate(Math::exp, 0, 1);
+
+        assertEquals(9, function.getCount());
+    }
+
+    @Test
+    void testPointBudget() {
+        MathFunction noisy = x -> Math.sin(1e6 * x);
+        AdaptiveTabulator tabulator = new AdaptiveTabulator(new ArrayTabulatedFunctionFactory(), 1e-12, 4, 30, 1000);
+        assertThrows(IllegalStateException.class, () -> tabulator.tabulate(noisy, 0, 1));
+
+        TabulatedFunction function = new AdaptiveTabulator(new ArrayTabulatedFunctionFactory(), 1e-12, 1, 3, 9)
+                .tabulate(Math::exp, 0, 1);
+        assertEquals(9, function.getCount());
+        assertThrows(IllegalArgumentException.class,
+                () -> new AdaptiveTabulator(new ArrayTabulatedFunctionFactory(), 1e-3, 4, 10, 4));
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveTabulator(0));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveTabulator(Double.NaN));
+        assertThrows(IllegalArgumentException.class,
+                () -> new AdaptiveTabulator(new LinkedListTabulatedFunctionFactory(), 1e-3, 0, 10));
+        assertThrows(IllegalArgumentException.class,
+                () -> new AdaptiveTabulator(new LinkedListTabulatedFunctionFactory(), 1e-3, 4, -1));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveTabulator(1e-3).tabulate(new SqrFunction(), 1, 1));
+    }
+}
@@ -0,0 +1,81 @@
+package operations;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ArithmeticKernelTest {
+    private final ArithmeticKernel[] kernels = {new ScalarArithmeticKernel(), new VectorArithmeticKernel()};
+
+    private static double[] sequence(int count, double start, double step) {
+        double[] values = new double[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = start + i * step;
+        }
+        return values;
+    }
+
+    @Test
+    void testApplyMatchesScalarOperation() {
+        for (int count : new int[]{0, 1, 3, 8, 17, 1001}) {
+            double[] u = sequence(count, -5.0, 0.37);
+            double[] v = sequence(count, 1.5, 0.11);
+            for (ArithmeticKernel kernel : kernels) {
+                for (ArithmeticOperation operation : ArithmeticOperation.values()) {
+                    double[] out = new double[count];
+                    kernel.apply(operation, u, v, out, count);
+                    for (int i = 0; i < count; i++) {
+                        assertEquals(operation.apply(u[i], v[i]), out[i], 0.0,
+                                kernel.getClass().getSimpleName() + " " + operation + " at " + i);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void testApplyInPlace() {
+        for (ArithmeticKernel kernel : kernels) {
+            double[] u = sequence(19, 1.0, 1.0);
+            double[] v = sequence(19, 2.0, 0.0);
+            kernel.apply(ArithmeticOperation.MULTIPLY, u, v, u, u.length);
+            assertEquals(2.0, u[0]);
+            assertEquals(38.0, u[18]);
+        }
+    }
+
+    @Test
+    void testFirstMismatch() {
+        for (ArithmeticKernel kernel : kernels) {
+            double[] a = sequence(37, 0.0, 0.5);
+            double[] b = sequence(37, 0.0, 0.5);
+            assertEquals(-1, kernel.firstMismatch(a, b, 37));
+
+            b[3] += 1e-11;
+            assertEquals(-1, kernel.firstMismatch(a, b, 37));
+
+            b[21] += 1e-3;
+            b[30] += 1e-3;
+            assertEquals(21, kernel.firstMismatch(a, b, 37));
+        }
+    }
+
+    @Test
+    void testFirstNearZero() {
+        for (ArithmeticKernel kernel : kernels) {
+            double[] v = sequence(29, 1.0, 1.0);
+            assertEquals(-1, kernel.firstNearZero(v, 29));
+
+            v[27] = 1e-12;
+            assertEquals(27, kernel.firstNearZero(v, 29));
+
+            v[9] = 0.0;
+            assertEquals(9, kernel.firstNearZero(v, 29));
+        }
+    }
+
+    @Test
+    void testBestKernelIsAvailable() {
+        assertNotNull(ArithmeticKernel.best());
+    }
+}
@@ -3,12 +3,17 @@ package operations;
 import concurrent.SynchronizedTabulatedFunction;
 import functions.ArrayTabulatedFunction;
 import functions.LinkedListTabulatedFunction;
+import functions.SqrFunction;
 import functions.TabulatedFunction;
+import functions.UniformGridTabulatedFunction;
 import functions.factory.ArrayTabulatedFunctionFactory;
 import functions.factory.LinkedListTabulatedFunctionFactory;
 import functions.factory.TabulatedFunctionFactory;
+import functions.factory.UniformGridTabulatedFunctionFactory;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.ForkJoinPool;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 public class TabulatedDifferentialOperatorTest {
@@ -265,4 +270,144 @@ public class TabulatedDifferentialOperatorTest {
             assertEquals(xValues[i], derivative.getX(i), 1e-10);
         }
     }
+
+    @Test
+    void testDeriveOnUniformGrid() {
+        TabulatedDifferentialOperator operator = new TabulatedDifferentialOperator(new UniformGridTabulatedFunctionFactory());
+        UniformGridTabulatedFunction function = new UniformGridTabulatedFunction(new SqrFunction(), 0, 4, 5);
+
+        TabulatedFunction derivative = operator.derive(function);
+
+        assertTrue(derivative instanceof UniformGridTabulatedFunction);
+        assertEquals(5, derivative.getCount());
+        assertEquals(1.0, derivative.getY(0), 1e-10);
+        assertEquals(3.0, derivative.getY(1), 1e-10);
+        assertEquals(7.0, derivative.getY(3), 1e-10);
+        assertEquals(7.0, derivative.getY(4), 1e-10);
+    }
+
+    @Test
+    void testCentralSchemeOnQuadratic() {
+        TabulatedDifferentialOperator operator =
+                new TabulatedDifferentialOperator(new ArrayTabulatedFunctionFactory(), DifferenceScheme.CENTRAL);
+        TabulatedFunction function = new ArrayTabulatedFunction(new double[]{0, 1, 2, 3, 4}, new double[]{0, 1, 4, 9, 16});
+        TabulatedFunction derivative = operator.derive(function);
+
+        assertEquals(1.0, derivative.getY(0), 1e-12);
+        assertEquals(2.0, derivative.getY(1), 1e-12);
+        assertEquals(6.0, derivative.getY(3), 1e-12);
+        assertEquals(7.0, derivative.getY(4), 1e-12);
+    }
+
+    @Test
+    void testSecondOrderSchemeIsExactForQuadraticOnNonUniformGrid() {
+        double[] xValues = {0.1, 0.5, 1.2, 2.0, 3.5};
+        double[] yValues = new double[xValues.length];
+        for (int i = 0; i < xValues.length; i++) {
+            yValues[i] = 3 * xValues[i] * xValues[i] - xValues[i] + 2;
+        }
+        TabulatedDifferentialOperator operator =
+                new TabulatedDifferentialOperator(new ArrayTabulatedFunctionFactory(), DifferenceScheme.SECOND_ORDER);
+        TabulatedFunction function = new ArrayTabulatedFunction(xValues, yValues);
+
+        TabulatedFunction derivative = operator.derive(function);
+        TabulatedFunction second = operator.deriveSecond(function);
+        for (int i = 0; i < xValues.length; i++) {
+            assertEquals(6 * xValues[i] - 1, derivative.getY(i), 1e-10);
+            assertEquals(6.0, second.getY(i), 1e-10);
+        }
+    }
+
+    @Test
+    void testFivePointSchemeIsExactForQuartic() {
+        TabulatedDifferentialOperator operator =
+                new TabulatedDifferentialOperator(new UniformGridTabulatedFunctionFactory(), DifferenceScheme.FIVE_POINT);
+        UniformGridTabulatedFunction function = new UniformGridTabulatedFunction(x -> x * x * x * x - 2 * x * x * x, -1, 2, 13);
+
+        TabulatedFunction derivative = operator.derive(function);
+        TabulatedFunction second = operator.deriveSecond(function);
+        assertTrue(derivative instanceof UniformGridTabulatedFunction);
+        for (int i = 0; i < function.getCount(); i++) {
+            double x = function.getX(i);
+            assertEquals(4 * x * x * x - 6 * x * x, derivative.getY(i), 1e-9);
+            if (i >= 2 && i < function.getCount() - 2) {
+                assertEquals(12 * x * x - 12 * x, second.getY(i), 1e-9);
+            }
+        }
+    }
+
+    @Test
+    void testFivePointSchemeOnEvenlySpacedArray() {
+        TabulatedDifferentialOperator operator =
+                new TabulatedDifferentialOperator(new ArrayTabulatedFunctionFactory(), DifferenceScheme.FIVE_POINT);
+        TabulatedFunction function = new ArrayTabulatedFunction(new SqrFunction(), 0, 1, 11);
+        TabulatedFunction derivative = operator.derive(function);
+
+        assertTrue(derivative instanceof ArrayTabulatedFunction);
+        for (int i = 0; i < derivative.getCount(); i++) {
+            assertEquals(2 * function.getX(i), derivative.getY(i), 1e-10);
+        }
+
+        TabulatedFunction uneven = new ArrayTabulatedFunction(new double[]{0, 1, 2, 3, 5}, new double[]{0, 1, 4, 9, 25});
+        assertThrows(IllegalArgumentException.class, () -> operator.derive(uneven));
+        TabulatedFunction shortFunction = new ArrayTabulatedFunction(new double[]{0, 1, 2, 3}, new double[]{0, 1, 4, 9});
+        assertThrows(IllegalArgumentException.class, () -> operator.derive(shortFunction));
+    }
+
+    @Test
+    void testSecondDerivativeOnUniformGrid() {
+        TabulatedDifferentialOperator operator = new TabulatedDifferentialOperator(new UniformGridTabulatedFunctionFactory());
+        UniformGridTabulatedFunction function = new UniformGridTabulatedFunction(x -> x * x * x, 0, 2, 9);
+        TabulatedFunction second = operator.deriveSecond(function);
+
+        for (int i = 0; i < function.getCount(); i++) {
+            assertEquals(6 * function.getX(i), second.getY(i), 1e-9);
+        }
+        TabulatedFunction twoPoints = new ArrayTabulatedFunction(new double[]{0, 1}, new double[]{0, 1});
+        assertThrows(IllegalArgumentException.class, () -> operator.deriveSecond(twoPoints));
+    }
+
+    @Test
+    void testSecondDerivativeOnEvenlySpacedArrayMatchesUniformGrid() {
+        TabulatedFunction function = new ArrayTabulatedFunction(x -> x * x * x - x, -1, 2, 10);
+        TabulatedFunction uniform = new UniformGridTabulatedFunction(x -> x * x * x - x, -1, 2, 10);
+        for (DifferenceScheme scheme : new DifferenceScheme[]{DifferenceScheme.CENTRAL, DifferenceScheme.SECOND_ORDER}) {
+            TabulatedDifferentialOperator operator = new TabulatedDifferentialOperator(new ArrayTabulatedFunctionFactory(), scheme);
+            TabulatedFunction expected = operator.deriveSecond(uniform);
+            TabulatedFunction actual = operator.deriveSecond(function);
+
+            for (int i = 0; i < function.getCount(); i++) {
+                assertEquals(expected.getY(i), actual.getY(i), 1e-9);
+                assertEquals(6 * function.getX(i), actual.getY(i), 1e-9);
+            }
+        }
+
+        TabulatedFunction uneven = new ArrayTabulatedFunction(new double[]{0, 0.5, 1.5, 1.75, 3}, new double[5]);
+        for (int i = 0; i < uneven.getCount(); i++) {
+            uneven.setY(i, Math.pow(uneven.getX(i), 3));
+        }
+        TabulatedFunction second = new TabulatedDifferentialOperator().deriveSecond(uneven);
+        assertEquals(0.0, second.getY(0), 1e-9);
+        assertEquals(18.0, second.getY(4), 1e-9);
+    }
+
+    @Test
+    void testParallelModeMatchesSequential() {
+        TabulatedFunction function = new ArrayTabulatedFunction(Math::sin, 0, 10, 5000);
+        TabulatedFunction uniform = new UniformGridTabulatedFunction(Math::sin, 0, 10, 5000);
+        for (DifferenceScheme scheme : DifferenceScheme.values()) {
+            TabulatedDifferentialOperator operator = new TabulatedDifferentialOperator(new ArrayTabulatedFunctionFactory(), scheme);
+            TabulatedFunction[] expected = {operator.derive(function), operator.deriveSecond(function),
+                    operator.derive(uniform), operator.deriveSecond(uniform)};
+
+            operator.setParallelMode(ForkJoinPool.commonPool(), 64);
+            TabulatedFunction[] actual = {operator.derive(function), operator.deriveSecond(function),
+                    operator.derive(uniform), operator.deriveSecond(uniform)};
+            for (int k = 0; k < expected.length; k++) {
+                for (int i = 0; i < expected[k].getCount(); i++) {
+                    assertEquals(expected[k].getY(i), actual[k].getY(i), 0.0);
+                }
+            }
+        }
+    }
 }
@@ -0,0 +1,130 @@
+package operations;
+
+import exceptions.InconsistentFunctionsException;
+import functions.ArrayTabulatedFunction;
+import functions.FrozenTabulatedFunction;
+import functions.LinkedListTabulatedFunction;
+import functions.SqrFunction;
+import functions.TabulatedFunction;
+import functions.UniformGridTabulatedFunction;
+import functions.factory.ArrayTabulatedFunctionFactory;
+import functions.factory.FrozenTabulatedFunctionFactory;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TabulatedExpressionTest {
+
+    @Test
+    void testFusedMatchesStepwise() {
+        int count = 3 * TabulatedExpression.BLOCK_SIZE + 17;
+        TabulatedFunction a = new ArrayTabulatedFunction(new SqrFunction(), 0, 10, count);
+        TabulatedFunction b = new LinkedListTabulatedFunction(x -> x + 1, 0, 10, count);
+        TabulatedFunction c = new ArrayTabulatedFunction(x -> 2 * x, 0, 10, count);
+        TabulatedFunction d = new ArrayTabulatedFunction(x -> x - 3, 0, 10, count);
+        TabulatedFunctionOperationService service = new TabulatedFunctionOperationService(new ArrayTabulatedFunctionFactory());
+
+        TabulatedFunction expected = service.multiply(service.add(a, b), service.subtract(c, d));
+        TabulatedFunction actual = service.evaluate(
+                TabulatedExpression.of(a).add(b).multiply(TabulatedExpression.of(c).subtract(d)));
+
+        assertTrue(actual instanceof ArrayTabulatedFunction);
+        assertEquals(count, actual.getCount());
+        for (int i = 0; i < count; i++) {
+            assertEquals(expected.getX(i), actual.getX(i), 0.0);
+            assertEquals(expected.getY(i), actual.getY(i), 0.0);
+        }
+    }
+
+    @Test
+    void testSharedSubexpressionAndRepeatedFunction() {
+        TabulatedFunction a = new ArrayTabulatedFunction(new double[]{1, 2, 3}, new double[]{1, 2, 3});
+        TabulatedExpression sum = TabulatedExpression.of(a).add(a);
+        TabulatedFunction result = sum.multiply(sum).divide(a).materialize(new ArrayTabulatedFunctionFactory());
+
+        assertEquals(4.0, result.getY(0), 1e-12);
+        assertEquals(8.0, result.getY(1), 1e-12);
+        assertEquals(12.0, result.getY(2), 1e-12);
+    }
+
+    @Test
+    void testLazyEvaluationReadsCurrentValues() {
+        TabulatedFunction a = new ArrayTabulatedFunction(new double[]{0, 1}, new double[]{1, 1});
+        TabulatedExpression expression = TabulatedExpression.of(a).add(a);
+        a.setY(1, 5);
+
+        TabulatedFunction result = expression.materialize(new ArrayTabulatedFunctionFactory());
+        assertEquals(2.0, result.getY(0), 1e-12);
+        assertEquals(10.0, result.getY(1), 1e-12);
+    }
+
+    @Test
+    void testUniformAndFrozenGridsKeepType() {
+        TabulatedFunction u1 = new UniformGridTabulatedFunction(0, 1, new double[]{1, 2, 3});
+        TabulatedFunction u2 = new UniformGridTabulatedFunction(0, 1, new double[]{3, 2, 1});
+        TabulatedFunction uniform = TabulatedExpression.of(u1).add(u2)
+                .materialize(new ArrayTabulatedFunctionFactory());
+        assertEquals(0.5, uniform.getX(1), 1e-12);
+        assertEquals(4.0, uniform.getY(2), 1e-12);
+
+        FrozenTabulatedFunction f1 = new FrozenTabulatedFunction(new double[]{0, 1, 2}, new double[]{1, 2, 3});
+        FrozenTabulatedFunction f2 = f1.withY(new double[]{2, 2, 2});
+        TabulatedFunction frozen = TabulatedExpression.of(f1).multiply(f2)
+                .materialize(new FrozenTabulatedFunctionFactory());
+        assertTrue(frozen instanceof FrozenTabulatedFunction);
+        assertEquals(6.0, frozen.getY(2), 1e-12);
+    }
+
+    @Test
+    void testSingleFunctionWithFrozenFactory() {
+        TabulatedFunction a = new ArrayTabulatedFunction(new double[]{0, 1}, new double[]{3, 4});
+        TabulatedFunction result = TabulatedExpression.of(a).materialize(new FrozenTabulatedFunctionFactory());
+        assertEquals(4.0, result.getY(1), 1e-12);
+    }
+
+    @Test
+    void testInconsistentGridsThrow() {
+        TabulatedFunction a = new ArrayTabulatedFunction(new double[]{0, 1, 2}, new double[]{1, 1, 1});
+        TabulatedFunction b = new ArrayTabulatedFunction(new double[]{0, 1.5, 2}, new double[]{1, 1, 1});
+        TabulatedFunction c = new ArrayTabulatedFunction(new double[]{0, 1}, new double[]{1, 1});
+        ArrayTabulatedFunctionFactory factory = new ArrayTabulatedFunctionFactory();
+
+        assertThrows(InconsistentFunctionsException.class, () -> TabulatedExpression.of(a).add(b).materialize(factory));
+        assertThrows(InconsistentFunctionsException.class, () -> TabulatedExpression.of(a).add(c).materialize(factory));
+    }
+
+    @Test
+    void testBlockwiseReadsAcrossBlocks() {
+        int count = 3 * TabulatedExpression.BLOCK_SIZE + 17;
+        TabulatedFunction array = new ArrayTabulatedFunction(Math::sin, 0, 10, count);
+        TabulatedFunction uniform = new UniformGridTabulatedFunction(Math::cos, 0, 10, count);
+        double[] xValues = new double[count];
+        double[] yValues = new double[count];
+        array.copyX(xValues);
+        for (int i = 0; i < count; i++) {
+            yValues[i] = i;
+        }
+        TabulatedFunction list = new LinkedListTabulatedFunction(xValues, yValues);
+
+        TabulatedFunction result = TabulatedExpression.of(array).multiply(uniform).add(list)
+                .materialize(new ArrayTabulatedFunctionFactory());
+        for (int i = 0; i < count; i++) {
+            assertEquals(array.getY(i) * uniform.getY(i) + i, result.getY(i), 1e-12);
+        }
+
+        int broken = 2 * TabulatedExpression.BLOCK_SIZE + 5;
+        xValues[broken] = (xValues[broken] + xValues[broken + 1]) / 2;
+        TabulatedFunction shifted = new ArrayTabulatedFunction(xValues, yValues);
+        InconsistentFunctionsException exception = assertThrows(InconsistentFunctionsException.class,
+                () -> TabulatedExpression.of(array).add(shifted).materialize(new ArrayTabulatedFunctionFactory()));
+        assertTrue(exception.getMessage().endsWith(" " + broken));
+    }
+
+    @Test
+    void testDivisionByZeroInIntermediate() {
+        TabulatedFunction a = new ArrayTabulatedFunction(new double[]{0, 1, 2}, new double[]{1, 2, 3});
+        TabulatedFunction b = new ArrayTabulatedFunction(new double[]{0, 1, 2}, new double[]{1, 2, 1});
+        TabulatedExpression expression = TabulatedExpression.of(a).divide(TabulatedExpression.of(a).subtract(b));
+        assertThrows(ArithmeticException.class, () -> expression.materialize(new ArrayTabulatedFunctionFactory()));
+    }
+}
@@ -2,13 +2,20 @@ package operations;
 
 import exceptions.InconsistentFunctionsException;
 import functions.ArrayTabulatedFunction;
+import functions.FrozenTabulatedFunction;
 import functions.LinkedListTabulatedFunction;
 import functions.Point;
+import functions.SqrFunction;
 import functions.TabulatedFunction;
+import functions.UniformGridTabulatedFunction;
 import functions.factory.ArrayTabulatedFunctionFactory;
+import functions.factory.FrozenTabulatedFunctionFactory;
 import functions.factory.LinkedListTabulatedFunctionFactory;
+import functions.factory.UniformGridTabulatedFunctionFactory;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.ForkJoinPool;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 public class TabulatedFunctionOperationServiceTest {
@@ -352,4 +359,311 @@ public class TabulatedFunctionOperationServiceTest {
         }
     }
 
+
+    @Test
+    void testMultiplyOnSameUniformGrid() {
+        TabulatedFunctionOperationService service = new TabulatedFunctionOperationService(new UniformGridTabulatedFunctionFactory());
+        UniformGridTabulatedFunction a = new UniformGridTabulatedFunction(new SqrFunction(), 0, 4, 5);
+        UniformGridTabulatedFunction b = new UniformGridTabulatedFunction(0, 4, new double[]{1, 2, 3, 4, 5});
+
+        TabulatedFunction result = service.multiply(a, b);
+
+        assertTrue(result instanceof UniformGridTabulatedFunction);
+        assertEquals(5, result.getCount());
+        assertEquals(2.0, result.getX(2), 1e-12);
+        assertEquals(12.0, result.getY(2), 1e-12);
+        assertEquals(80.0, result.getY(4), 1e-12);
+    }
+
+    @Test
+    void testUniformGridResultWithArrayFactory() {
+        TabulatedFunctionOperationService service = new TabulatedFunctionOperationService(new ArrayTabulatedFunctionFactory());
+        UniformGridTabulatedFunction a = new UniformGridTabulatedFunction(0, 2, new double[]{1, 2, 3});
+        UniformGridTabulatedFunction b = new UniformGridTabulatedFunction(0, 2, new double[]{1, 1, 1});
+
+        TabulatedFunction result = service.subtract(a, b);
+
+        assertTrue(result instanceof ArrayTabulatedFunction);
+        assertEquals(1.0, result.getX(1), 1e-12);
+        assertEquals(2.0, result.getY(2), 1e-12);
+    }
+
+    @Test
+    void testDifferentUniformGridsThrowException() {
+        TabulatedFunctionOperationService service = new TabulatedFunctionOperationService();
+        UniformGridTabulatedFunction a = new UniformGridTabulatedFunction(0, 2, new double[]{1, 2, 3});
+        UniformGridTabulatedFunction b = new UniformGridTabulatedFunction(0, 4, new double[]{1, 2, 3});
+
+        assertThrows(InconsistentFunctionsException.class, () -> service.add(a, b));
+    }
+
+    @Test
+    void testFrozenFunctionsShareXThroughOperations() {
+        TabulatedFunctionOperationService service = new TabulatedFunctionOperationService(new FrozenTabulatedFunctionFactory());
+        FrozenTabulatedFunction a = new ArrayTabulatedFunction(new double[]{1, 2, 3}, new double[]{1, 2, 3}).freeze();
+        FrozenTabulatedFunction b = a.withY(new double[]{4, 5, 6});
+
+        TabulatedFunction sum = service.add(a, b);
+        TabulatedFunction product = service.multiply(sum, b);
+
+        assertTrue(product instanceof FrozenTabulatedFunction);
+        assertTrue(a.hasSameX((FrozenTabulatedFunction) product));
+        assertEquals(20.0, product.getY(0), 1e-12);
+        assertEquals(35.0, product.getY(1), 1e-12);
+        assertEquals(54.0, product.getY(2), 1e-12);
+    }
+
+    @Test
+    void testFrozenFunctionWithOtherFactory() {
+        TabulatedFunctionOperationService service = new TabulatedFunctionOperationService();
+        FrozenTabulatedFunction a = new FrozenTabulatedFunction(new double[]{1, 2, 3}, new double[]{1, 2, 3});
+        FrozenTabulatedFunction b = a.withY(new double[]{4, 5, 6});
+
+        TabulatedFunction result = service.subtract(b, a);
+
+        assertTrue(result instanceof ArrayTabulatedFunction);
+        assertEquals(2.0, result.getX(1));
+        assertEquals(3.0, result.getY(1), 1e-12);
+    }
+
+    @Test
+    void testParallelModeMatchesSequential() {
+        int count = 10_000;
+        double[] xValues = new double[count];
+        double[] yValues1 = new double[count];
+        double[] yValues2 = new double[count];
+        for (int i = 0; i < count; i++) {
+            xValues[i] = i * 0.001;
+            yValues1[i] = Math.sin(i);
+            yValues2[i] = 2 + Math.cos(i);
+        }
+        TabulatedFunction a = new ArrayTabulatedFunction(xValues, yValues1);
+        TabulatedFunction b = new ArrayTabulatedFunction(xValues, yValues2);
+        TabulatedFunctionOperationService sequential = new TabulatedFunctionOperationService();
+        TabulatedFunctionOperationService parallel = new TabulatedFunctionOperationService();
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            parallel.setParallelMode(pool, 64);
+            assertTrue(parallel.isParallel());
+            assertEquals(64, parallel.getParallelThreshold());
+
+            assertSameFunction(sequential.add(a, b), parallel.add(a, b));
+            assertSameFunction(sequential.subtract(a, b), parallel.subtract(a, b));
+            assertSameFunction(sequential.multiply(a, b), parallel.multiply(a, b));
+            assertSameFunction(sequential.divide(a, b), parallel.divide(a, b));
+
+            FrozenTabulatedFunction frozenA = a.freeze();
+            assertSameFunction(sequential.add(frozenA, frozenA.withY(yValues2)),
+                    parallel.add(frozenA, frozenA.withY(yValues2)));
+
+            TabulatedFunction list = new LinkedListTabulatedFunction(xValues, yValues2);
+            assertSameFunction(sequential.multiply(a, list), parallel.multiply(a, list));
+            TabulatedFunction uniform = new UniformGridTabulatedFunction(Math::sin, 0, 1, count);
+            assertSameFunction(sequential.subtract(uniform, uniform), parallel.subtract(uniform, uniform));
+        } finally {
+            pool.shutdown();
+        }
+
+        parallel.setSequentialMode();
+        assertFalse(parallel.isParallel());
+    }
+
+    @Test
+    void testParallelModeReportsFirstError() {
+        int count = 1000;
+        double[] xValues1 = new double[count];
+        double[] xValues2 = new double[count];
+        double[] yValues = new double[count];
+        double[] denominators = new double[count];
+        for (int i = 0; i < count; i++) {
+            xValues1[i] = i;
+            xValues2[i] = i;
+            yValues[i] = 1;
+            denominators[i] = 1;
+        }
+        xValues2[700] = 700.5;
+        xValues2[300] = 300.5;
+        denominators[100] = 0;
+        denominators[900] = 0;
+        TabulatedFunctionOperationService service = new TabulatedFunctionOperationService();
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            service.setParallelMode(pool, 16);
+
+            InconsistentFunctionsException mismatch = assertThrows(InconsistentFunctionsException.class,
+                    () -> service.divide(new ArrayTabulatedFunction(xValues1, yValues),
+                            new ArrayTabulatedFunction(xValues2, denominators)));
+            assertTrue(mismatch.getMessage().endsWith(" 300"));
+
+            assertThrows(ArithmeticException.class, () -> service.divide(new ArrayTabulatedFunction(xValues1, yValues),
+                    new ArrayTabulatedFunction(xValues1, denominators)));
+        } finally {
+            pool.shutdown();
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> service.setParallelMode(ForkJoinPool.commonPool(), 1));
+    }
+
+    private static void assertSameFunction(TabulatedFunction expected, TabulatedFunction actual) {
+        assertEquals(expected.getCount(), actual.getCount());
+        for (int i = 0; i < expected.getCount(); i++) {
+            assertEquals(expected.getX(i), actual.getX(i));
+            assertEquals(expected.getY(i), actual.getY(i));
+        }
+    }
+
+    @Test
+    void testUnionAlignment() {
+        TabulatedFunctionOperationService service = new TabulatedFunctionOperationService();
+        assertEquals(GridAlignment.STRICT, service.getGridAlignment());
+        TabulatedFunction a = new ArrayTabulatedFunction(new double[]{0, 2, 4}, new double[]{0, 2, 4});
+        TabulatedFunction b = new LinkedListTabulatedFunction(new double[]{1, 2, 3, 5}, new double[]{10, 20, 30, 50});
+
+        assertThrows(InconsistentFunctionsException.class, () -> service.add(a, b));
+
+        service.setGridAlignment(GridAlignment.UNION);
+        TabulatedFunction result = service.add(a, b);
+
+        assertArrayEquals(new double[]{0, 1, 2, 3, 4, 5}, xs(result), 1e-12);
+        // b продолжается влево линейно (0 -> 0), a - вправо (5 -> 5)
+        assertArrayEquals(new double[]{0, 11, 22, 33, 44, 55}, ys(result), 1e-12);
+    }
+
+    @Test
+    void testIntersectionAlignment() {
+        TabulatedFunctionOperationService service = new TabulatedFunctionOperationService();
+        service.setGridAlignment(GridAlignment.INTERSECTION);
+        TabulatedFunction a = new ArrayTabulatedFunction(new double[]{0, 1, 2, 3, 4}, new double[]{1, 1, 1, 1, 1});
+        TabulatedFunction b = new ArrayTabulatedFunction(new double[]{1.5, 2, 2.5, 6}, new double[]{3, 4, 5, 12});
+
+        TabulatedFunction result = service.multiply(a, b);
+
+        assertArrayEquals(new double[]{1.5, 2, 2.5, 3, 4}, xs(result), 1e-12);
+        assertArrayEquals(new double[]{3, 4, 5, 6, 8}, ys(result), 1e-12);
+
+        TabulatedFunction disjoint = new ArrayTabulatedFunction(new double[]{10, 11}, new double[]{1, 1});
+        assertThrows(InconsistentFunctionsException.class, () -> service.add(a, disjoint));
+    }
+
+    @Test
+    void testLeftAlignment() {
+        TabulatedFunctionOperationService service = new TabulatedFunctionOperationService();
+        service.setGridAlignment(GridAlignment.LEFT);
+        TabulatedFunction a = new ArrayTabulatedFunction(new double[]{0, 1, 2, 3}, new double[]{8, 8, 8, 8});
+        TabulatedFunction b = new ArrayTabulatedFunction(new double[]{0.5, 1, 2.5}, new double[]{1, 2, 4});
+
+        TabulatedFunction result = service.subtract(a, b);
+
+        assertArrayEquals(new double[]{0, 1, 2, 3}, xs(result), 1e-12);
+        assertArrayEquals(new double[]{8, 6, 8 - 10.0 / 3, 8 - 14.0 / 3}, ys(result), 1e-12);
+
+        TabulatedFunction zero = new ArrayTabulatedFunction(new double[]{0, 4}, new double[]{-1, 1});
+        assertThrows(ArithmeticException.class, () -> service.divide(a, zero));
+    }
+
+    @Test
+    void testAlignmentKeepsFastPathForSameGrid() {
+        TabulatedFunctionOperationService service = new TabulatedFunctionOperationService();
+        service.setGridAlignment(GridAlignment.UNION);
+        TabulatedFunction a = new ArrayTabulatedFunction(new double[]{0, 1, 2}, new double[]{1, 2, 3});
+        TabulatedFunction b = new ArrayTabulatedFunction(new double[]{0, 1, 2}, new double[]{3, 2, 1});
+
+        TabulatedFunction result = service.add(a, b);
+
+        assertArrayEquals(new double[]{0, 1, 2}, xs(result), 1e-12);
+        assertArrayEquals(new double[]{4, 4, 4}, ys(result), 1e-12);
+    }
+
+    private static double[] xs(TabulatedFunction function) {
+        double[] values = new double[function.getCount()];
+        function.copyX(values);
+        return values;
+    }
+
+    private static double[] ys(TabulatedFunction function) {
+        double[] values = new double[function.getCount()];
+        function.copyY(values);
+        return values;
+    }
+
+    @Test
+    void testDestinationPassingWritesIntoExistingFunction() {
+        TabulatedFunctionOperationService service = new TabulatedFunctionOperationService();
+        TabulatedFunction a = new ArrayTabulatedFunction(new double[]{0, 1, 2}, new double[]{1, 2, 3});
+        TabulatedFunction b = new LinkedListTabulatedFunction(new double[]{0, 1, 2}, new double[]{4, 5, 6});
+        TabulatedFunction into = new ArrayTabulatedFunction(new double[]{0, 1, 2}, new double[]{0, 0, 0});
+
+        assertSame(into, service.multiply(a, b, into));
+        assertArrayEquals(new double[]{4, 10, 18}, ys(into), 1e-12);
+        assertArrayEquals(new double[]{1, 2, 3}, ys(a), 1e-12);
+
+        service.subtract(b, a, into);
+        assertArrayEquals(new double[]{3, 3, 3}, ys(into), 1e-12);
+    }
+
+    @Test
+    void testInPlaceAccumulation() {
+        TabulatedFunctionOperationService service = new TabulatedFunctionOperationService();
+        TabulatedFunction sum = new ArrayTabulatedFunction(new double[]{0, 1, 2}, new double[]{0, 0, 0});
+        TabulatedFunction term = new ArrayTabulatedFunction(new double[]{0, 1, 2}, new double[]{1, 2, 3});
+        for (int i = 0; i < 10; i++) {
+            service.addInPlace(sum, term);
+        }
+        assertArrayEquals(new double[]{10, 20, 30}, ys(sum), 1e-12);
+
+        service.divideInPlace(sum, term);
+        assertArrayEquals(new double[]{10, 10, 10}, ys(sum), 1e-12);
+        service.multiplyInPlace(sum, sum);
+        assertArrayEquals(new double[]{100, 100, 100}, ys(sum), 1e-12);
+        service.subtractInPlace(sum, sum);
+        assertArrayEquals(new double[]{0, 0, 0}, ys(sum), 1e-12);
+    }
+
+    @Test
+    void testDestinationPassingInParallelMode() {
+        TabulatedFunctionOperationService service = new TabulatedFunctionOperationService();
+        service.setParallelMode(ForkJoinPool.commonPool(), 16);
+        TabulatedFunction a = new ArrayTabulatedFunction(new SqrFunction(), 0, 10, 1000);
+        TabulatedFunction b = new UniformGridTabulatedFunction(x -> x + 1, 0, 10, 1000);
+
+        TabulatedFunction expected = service.add(a, b);
+        service.addInPlace(a, b);
+        assertArrayEquals(ys(expected), ys(a), 0.0);
+    }
+
+    @Test
+    void testDestinationPassingAboveRetainedScratchSize() {
+        TabulatedFunctionOperationService service = new TabulatedFunctionOperationService();
+        int count = TabulatedFunctionOperationService.MAX_RETAINED_POINTS + 3;
+        TabulatedFunction a = new ArrayTabulatedFunction(new SqrFunction(), 0, 1, count);
+        TabulatedFunction b = new LinkedListTabulatedFunction(new SqrFunction(), 0, 1, count);
+
+        TabulatedFunction expected = service.subtract(a, b);
+        service.subtractInPlace(a, b);
+        assertArrayEquals(ys(expected), ys(a), 0.0);
+
+        TabulatedFunction small = new ArrayTabulatedFunction(new double[]{0, 1}, new double[]{1, 2});
+        service.addInPlace(small, small);
+        assertArrayEquals(new double[]{2, 4}, ys(small), 1e-12);
+    }
+
+    @Test
+    void testDestinationPassingChecksGrids() {
+        TabulatedFunctionOperationService service = new TabulatedFunctionOperationService();
+        service.setGridAlignment(GridAlignment.UNION);
+        TabulatedFunction a = new ArrayTabulatedFunction(new double[]{0, 1, 2}, new double[]{1, 2, 3});
+        TabulatedFunction shifted = new ArrayTabulatedFunction(new double[]{0, 1.5, 2}, new double[]{1, 2, 3});
+        TabulatedFunction shorter = new ArrayTabulatedFunction(new double[]{0, 1}, new double[]{1, 2});
+        TabulatedFunction zero = new ArrayTabulatedFunction(new double[]{0, 1, 2}, new double[]{1, 0, 1});
+
+        assertThrows(InconsistentFunctionsException.class, () -> service.add(a, a, shifted));
+        assertThrows(InconsistentFunctionsException.class, () -> service.addInPlace(a, shifted));
+        assertThrows(InconsistentFunctionsException.class, () -> service.addInPlace(a, shorter));
+        assertThrows(ArithmeticException.class, () -> service.divideInPlace(a, zero));
+        assertArrayEquals(new double[]{1, 2, 3}, ys(a), 1e-12);
+
+        FrozenTabulatedFunction frozen = new FrozenTabulatedFunction(new double[]{0, 1, 2}, new double[]{1, 2, 3});
+        assertThrows(UnsupportedOperationException.class, () -> service.addInPlace(frozen, a));
+    }
+
 }
@@ -15,6 +15,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.DoubleUnaryOperator;
 
 @Service
 @Transactional
@@ -130,10 +131,11 @@ public class FunctionService {
 
         // Генерируем точки из математической функции
         double step = (rightBound - leftBound) / (pointsCount - 1);
+        DoubleUnaryOperator mathFunction = resolveMathFunction(mathFunctionKey);
 
         for (int i = 0; i < pointsCount; i++) {
             double x = leftBound + i * step;
-            double y = calculateMathFunction(mathFunctionKey, x);
+            double y = mathFunction.applyAsDouble(x);
 
             Point point = new Point();
             point.setXValue(x);
@@ -214,23 +216,24 @@ public class FunctionService {
         return null;
     }
 
-    private double calculateMathFunction(String functionKey, double x) {
+    // Выбор функции по ключу выполняется один раз, а не для каждой точки
+    private DoubleUnaryOperator resolveMathFunction(String functionKey) {
         switch (functionKey) {
             case "sqr":
-                return x * x;
+                return x -> x * x;
             case "identity":
-                return x;
+                return x -> x;
             case "sin":
-                return Math.sin(x);
+                return Math::sin;
             case "cos":
-                return Math.cos(x);
+                return Math::cos;
             case "exp":
-                return Math.exp(x);
+                return Math::exp;
             case "log":
-                return x > 0 ? Math.log(x) : Double.NaN;
+                return x -> x > 0 ? Math.log(x) : Double.NaN;
             default:
                 logger.warn("Неизвестная функция: {}", functionKey);
-                return 0;
+                return x -> 0;
         }
     }
 
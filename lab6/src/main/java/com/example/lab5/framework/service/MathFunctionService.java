@@ -3,6 +3,7 @@ package com.example.lab5.framework.service;
 import com.example.lab5.framework.dto.*;
 import org.springframework.stereotype.Service;
 import java.util.*;
+import java.util.function.DoubleUnaryOperator;
 
 @Service
 public class MathFunctionService {
@@ -46,10 +47,11 @@ public class MathFunctionService {
         List<PreviewResponse.PointData> points = new ArrayList<>();
 
         double step = (rightBound - leftBound) / (pointsCount - 1);
+        DoubleUnaryOperator function = resolveFunction(functionKey);
 
         for (int i = 0; i < pointsCount; i++) {
             double x = leftBound + i * step;
-            double y = calculateFunction(functionKey, x);
+            double y = function.applyAsDouble(x);
 
             PreviewResponse.PointData point = new PreviewResponse.PointData();
             point.setX(x);
@@ -61,22 +63,23 @@ public class MathFunctionService {
         return response;
     }
 
-    private double calculateFunction(String functionKey, double x) {
+    // Выбор функции по ключу выполняется один раз, а не для каждой точки
+    private DoubleUnaryOperator resolveFunction(String functionKey) {
         switch (functionKey) {
             case "sqr":
-                return x * x;
+                return x -> x * x;
             case "identity":
-                return x;
+                return x -> x;
             case "sin":
-                return Math.sin(x);
+                return Math::sin;
             case "cos":
-                return Math.cos(x);
+                return Math::cos;
             case "exp":
-                return Math.exp(x);
+                return Math::exp;
             case "log":
-                return x > 0 ? Math.log(x) : Double.NaN;
+                return x -> x > 0 ? Math.log(x) : Double.NaN;
             default:
-                return 0;
+                return x -> 0;
         }
     }
 
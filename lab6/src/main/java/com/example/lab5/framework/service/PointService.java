@@ -13,6 +13,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.DoubleUnaryOperator;
 
 @Service
 @Transactional
@@ -53,8 +54,10 @@ public class PointService {
         List<Point> points = new ArrayList<>();
         int pointCount = 0;
 
+        DoubleUnaryOperator calculator = resolveFunction(functionType);
+
         for (double x = start; x <= end; x += step) {
-            double y = calculateFunction(functionType, x);
+            double y = calculator.applyAsDouble(x);
             points.add(new Point(x, y, function.get()));
             pointCount++;
         }
@@ -110,16 +113,17 @@ public class PointService {
         return false;
     }
 
-    private double calculateFunction(String functionType, double x) {
+    // Выбор функции по типу выполняется один раз, а не для каждой точки
+    private DoubleUnaryOperator resolveFunction(String functionType) {
         return switch (functionType.toLowerCase()) {
-            case "linear" -> x;
-            case "quadratic" -> x * x;
-            case "cubic" -> x * x * x;
-            case "sin" -> Math.sin(x);
-            case "cos" -> Math.cos(x);
-            case "exp" -> Math.exp(x);
-            case "log" -> Math.log(x);
-            default -> x;
+            case "linear" -> x -> x;
+            case "quadratic" -> x -> x * x;
+            case "cubic" -> x -> x * x * x;
+            case "sin" -> Math::sin;
+            case "cos" -> Math::cos;
+            case "exp" -> Math::exp;
+            case "log" -> Math::log;
+            default -> x -> x;
         };
     }
 